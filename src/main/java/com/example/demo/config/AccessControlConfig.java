@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import com.example.demo.service.AccessControlService;
+import com.example.demo.service.AccessControlService.EntityScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts every society and council dashboard endpoint behind {@link EntityAccessInterceptor}, so the
+ * controllers no longer check tokens themselves.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AccessControlConfig implements WebMvcConfigurer {
+
+    private final AccessControlService accessControlService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EntityAccessInterceptor(accessControlService, objectMapper, EntityScope.SOCIETY, "societyId"))
+                .addPathPatterns("/api/society-dashboard/society/{societyId}/**");
+        registry.addInterceptor(new EntityAccessInterceptor(accessControlService, objectMapper, EntityScope.COUNCIL, "councilId"))
+                .addPathPatterns("/api/council-dashboard/council/{councilId}/**");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACTIVE_SOCIETIES = "activeSocieties";
+    public static final String ACTIVE_COUNCILS = "activeCouncils";
+    public static final String ACTIVE_HERO_SLIDES = "activeHeroSlides";
+    public static final String SOCIETY_REFERENCES = "societyReferences";
+    public static final String COUNCIL_REFERENCES = "councilReferences";
+    public static final String RESPONSE_BYTES = "responseBytes";
+    public static final String ACCESS_PRINCIPALS = "accessPrincipals";
+    public static final String ACCESS_DECISIONS = "accessDecisions";
+    public static final String SLATE_MEMBER_TREES = "slateMemberTrees";
+
+    // Caffeine specs per cache, overridable with cache.specs.<name>
+    private static final Map<String, String> DEFAULT_SPECS = Map.of(
+            ACTIVE_SOCIETIES, "maximumSize=4,expireAfterWrite=10m",
+            ACTIVE_COUNCILS, "maximumSize=4,expireAfterWrite=10m",
+            ACTIVE_HERO_SLIDES, "maximumSize=1,expireAfterWrite=10m",
+            SOCIETY_REFERENCES, "maximumSize=500,expireAfterWrite=30m",
+            COUNCIL_REFERENCES, "maximumSize=200,expireAfterWrite=30m",
+            ACCESS_PRINCIPALS, "maximumSize=10000,expireAfterWrite=1m",
+            ACCESS_DECISIONS, "maximumSize=50000,expireAfterWrite=1m",
+            SLATE_MEMBER_TREES, "maximumSize=500,expireAfterAccess=30m"
+    );
+    private static final String RESPONSE_BYTES_SPEC = "maximumWeight=33554432,expireAfterWrite=5m";
+
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCacheNames(List.of()); // Only the caches registered below exist
+        DEFAULT_SPECS.forEach((name, defaultSpec) -> {
+            String spec = environment.getProperty("cache.specs." + name, defaultSpec);
+            caffeineCacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        });
+        // Serialized GET responses are bounded by their size in bytes rather than by entry count
+        String responseBytesSpec = environment.getProperty("cache.specs." + RESPONSE_BYTES, RESPONSE_BYTES_SPEC);
+        caffeineCacheManager.registerCustomCache(RESPONSE_BYTES, Caffeine.from(responseBytesSpec)
+                .<Object, Object>weigher((key, value) -> ((ResponseBytesCacheFilter.CachedResponse) value).weight())
+                .recordStats()
+                .build());
+        // Evictions issued inside a transaction are deferred until it commits
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
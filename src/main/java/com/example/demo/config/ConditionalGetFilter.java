@@ -0,0 +1,160 @@
+package com.example.demo.config;
+
+import com.example.demo.service.CollectionVersionService;
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Answers conditional GETs on the public content endpoints from {@link CollectionVersionService}
+ * versions, so an unchanged list is confirmed with a 304 before any entity is loaded. The versions
+ * come from the database, so every instance issues and accepts the same ETags.
+ *
+ * <p>Each route depends on its own collection and on the collections whose names end up in its DTOs.
+ * Routes whose results depend on the clock (open registrations, active notifications) also fold the
+ * current time bucket into the validator, so they are revalidated at least once per bucket.
+ */
+@Component
+@Order(ConditionalGetFilter.ORDER)
+@Slf4j
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    private static final Set<ContentCollection> ALL = EnumSet.allOf(ContentCollection.class);
+
+    private static final List<Route> ROUTES = List.of(
+            new Route("/api/dashboard/home-data", ALL, true),
+            new Route("/api/dashboard/statistics", ALL, true),
+            new Route("/api/dashboard/recent-activities", ALL, false),
+            new Route("/api/societies", EnumSet.of(ContentCollection.SOCIETIES), false),
+            new Route("/api/councils", EnumSet.of(ContentCollection.COUNCILS), false),
+            new Route("/api/hero-slides", EnumSet.of(ContentCollection.HERO_SLIDES), false),
+            new Route("/api/past-events", EnumSet.of(ContentCollection.PAST_EVENTS,
+                    ContentCollection.SOCIETIES, ContentCollection.COUNCILS), false),
+            new Route("/api/upcoming-events", EnumSet.of(ContentCollection.UPCOMING_EVENTS,
+                    ContentCollection.SOCIETIES, ContentCollection.COUNCILS), true),
+            new Route("/api/achievements", EnumSet.of(ContentCollection.ACHIEVEMENTS,
+                    ContentCollection.SOCIETIES, ContentCollection.COUNCILS), false),
+            new Route("/api/notifications", EnumSet.of(ContentCollection.NOTIFICATIONS,
+                    ContentCollection.UPCOMING_EVENTS, ContentCollection.SOCIETIES), true),
+            new Route("/api/gallery", EnumSet.of(ContentCollection.GALLERY, ContentCollection.PAST_EVENTS,
+                    ContentCollection.UPCOMING_EVENTS, ContentCollection.SOCIETIES, ContentCollection.COUNCILS), false)
+    );
+
+    private final CollectionVersionService collectionVersionService;
+    private final long timeBucketSeconds;
+
+    public ConditionalGetFilter(CollectionVersionService collectionVersionService,
+                                @Value("${http.conditional.time-bucket-seconds:60}") long timeBucketSeconds) {
+        this.collectionVersionService = collectionVersionService;
+        this.timeBucketSeconds = Math.max(1, timeBucketSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method)) || routeFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = routeFor(request);
+        long now = System.currentTimeMillis();
+        long bucket = now / (timeBucketSeconds * 1000);
+
+        long version = 1;
+        for (ContentCollection collection : route.collections()) {
+            version = 31 * version + collectionVersionService.getVersion(collection);
+        }
+        StringBuilder tag = new StringBuilder("W/\"").append(Long.toHexString(version));
+        Instant lastModified = collectionVersionService.getLastModified(route.collections());
+        if (route.timeDependent()) {
+            tag.append("-t").append(bucket);
+            Instant bucketStart = Instant.ofEpochMilli(bucket * timeBucketSeconds * 1000);
+            if (bucketStart.isAfter(lastModified)) {
+                lastModified = bucketStart;
+            }
+        }
+        String etag = tag.append('"').toString();
+        lastModified = lastModified.truncatedTo(ChronoUnit.SECONDS);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (isNotModified(request, etag, lastModified)) {
+            log.debug("{} {} - not modified ({})", request.getMethod(), request.getRequestURI(), etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, Instant lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String opaque = opaqueTag(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String trimmed = candidate.trim();
+                if ("*".equals(trimmed) || opaqueTag(trimmed).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince >= 0 && lastModified.toEpochMilli() <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    static boolean isVersioned(HttpServletRequest request) {
+        return routeFor(request) != null;
+    }
+
+    /** The collections a path's responses depend on, or null when the path is not versioned. */
+    static Set<ContentCollection> collectionsFor(String path) {
+        Route route = routeFor(path);
+        return route != null ? route.collections() : null;
+    }
+
+    private static Route routeFor(HttpServletRequest request) {
+        return routeFor(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    private static Route routeFor(String path) {
+        for (Route route : ROUTES) {
+            if (path.equals(route.prefix()) || path.startsWith(route.prefix() + "/")) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private record Route(String prefix, Set<ContentCollection> collections, boolean timeDependent) {
+    }
+}
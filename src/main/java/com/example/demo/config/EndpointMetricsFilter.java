@@ -0,0 +1,124 @@
+package com.example.demo.config;
+
+import com.example.demo.service.EndpointMetricsService;
+import com.example.demo.service.QueryDiagnosticsService;
+import com.example.demo.service.QueryDiagnosticsService.ExecutedStatement;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Times every request from the outermost filter and records it, together with the JDBC statements it
+ * caused, under the controller method that handles it. Responses answered before the dispatcher
+ * (304s and cached bytes) are still attributed to their controller method by looking up the mapping.
+ * Statements over the slow-query threshold are handed to {@link QueryDiagnosticsService} from every
+ * request; requests it samples also hand over all their statements for N+1 analysis.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class EndpointMetricsFilter extends OncePerRequestFilter {
+
+    static final String UNMATCHED = "unmatched";
+
+    private final EndpointMetricsService endpointMetricsService;
+    private final QueryDiagnosticsService queryDiagnosticsService;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+
+    public EndpointMetricsFilter(EndpointMetricsService endpointMetricsService,
+                                 QueryDiagnosticsService queryDiagnosticsService,
+                                 @Qualifier("requestMappingHandlerMapping")
+                                 ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.endpointMetricsService = endpointMetricsService;
+        this.queryDiagnosticsService = queryDiagnosticsService;
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "/metrics".equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestStatements.Tally tally = RequestStatements.begin(queryDiagnosticsService.shouldSample(),
+                queryDiagnosticsService.slowNanos());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatements.end();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, response, start, tally);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, response, start, tally);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long start,
+                        RequestStatements.Tally tally) {
+        String handler = handlerName(request);
+        endpointMetricsService.record(handler, response.getStatus(), System.nanoTime() - start,
+                tally.count(), tally.nanos());
+        List<ExecutedStatement> slow = tally.slow();
+        if (!slow.isEmpty()) {
+            queryDiagnosticsService.recordSlow(handler, slow);
+        }
+        if (tally.capturing()) {
+            queryDiagnosticsService.analyze(handler, tally.captured());
+        }
+    }
+
+    private String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler == null) {
+            try {
+                RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+                HandlerExecutionChain chain = mapping != null ? mapping.getHandler(request) : null;
+                handler = chain != null ? chain.getHandler() : null;
+            } catch (Exception e) {
+                log.debug("No handler mapping for {}: {}", request.getRequestURI(), e.getMessage());
+            }
+        }
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return UNMATCHED;
+    }
+}
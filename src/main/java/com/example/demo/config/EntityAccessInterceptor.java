@@ -0,0 +1,75 @@
+package com.example.demo.config;
+
+import com.example.demo.service.AccessControlService;
+import com.example.demo.service.AccessControlService.AccessDecision;
+import com.example.demo.service.AccessControlService.EntityScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Authorizes every request under a society or council dashboard path before the handler runs. The
+ * entity id comes from the matched mapping's path variable, and a granted decision (with the user) is
+ * bound to the request as {@link #DECISION_ATTRIBUTE}. Denied requests are answered here with the
+ * usual {@code {"error": ...}} body: 400 when the id is missing or not a number, 401 for a missing or
+ * invalid token, 403 otherwise. A request without the id is rejected rather than let through, since
+ * nothing after this interceptor checks access.
+ */
+public class EntityAccessInterceptor implements HandlerInterceptor {
+
+    public static final String DECISION_ATTRIBUTE = EntityAccessInterceptor.class.getName() + ".decision";
+
+    private final AccessControlService accessControlService;
+    private final ObjectMapper objectMapper;
+    private final EntityScope scope;
+    private final String idVariable;
+
+    public EntityAccessInterceptor(AccessControlService accessControlService, ObjectMapper objectMapper,
+                                   EntityScope scope, String idVariable) {
+        this.accessControlService = accessControlService;
+        this.objectMapper = objectMapper;
+        this.scope = scope;
+        this.idVariable = idVariable;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables != null ? variables.get(idVariable) : null;
+        if (id == null) {
+            return reject(response, HttpStatus.BAD_REQUEST, "Missing " + idVariable);
+        }
+        Long entityId;
+        try {
+            entityId = Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return reject(response, HttpStatus.BAD_REQUEST, "Invalid " + idVariable + ": " + id);
+        }
+        AccessDecision decision = accessControlService.authorize(request.getHeader(HttpHeaders.AUTHORIZATION), scope, entityId);
+        if (!decision.granted()) {
+            return reject(response, decision.status(), decision.error());
+        }
+        request.setAttribute(DECISION_ATTRIBUTE, decision);
+        return true;
+    }
+
+    private boolean reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+        return false;
+    }
+}
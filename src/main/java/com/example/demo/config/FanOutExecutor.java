@@ -0,0 +1,67 @@
+package com.example.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs the parallel reads behind home-data and batch requests. Each of those reads holds a pooled
+ * connection, so the number running at once across all requests is capped by
+ * {@code fan-out.max-concurrency}, kept well below the Hikari pool size. On platform threads the
+ * executor is a fixed pool of that size, and further reads queue. The request thread never runs a
+ * read itself: with open-session-in-view it would keep that connection until the response is
+ * written, while it waits for reads that need connections of their own. The queue is bounded in
+ * practice by the Tomcat threads waiting on it. With {@code spring.threads.virtual.enabled} on Java
+ * 21, each read gets a virtual thread, and the same limit makes further reads wait for a permit.
+ * <p>
+ * This is deliberately not an {@code Executor} bean, so the auto-configured application task
+ * executor (MVC async responses, streamed imports) is left as it is.
+ */
+@Component
+@Slf4j
+public class FanOutExecutor implements DisposableBean {
+
+    private final AsyncTaskExecutor executor;
+
+    public FanOutExecutor(Environment environment, @Value("${fan-out.max-concurrency:4}") int maxConcurrency) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("fan-out-");
+            virtual.setVirtualThreads(true);
+            virtual.setConcurrencyLimit(maxConcurrency);
+            virtual.setTaskDecorator(MetricsConfig::propagateRequestContext);
+            this.executor = virtual;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("fan-out-");
+            pool.setCorePoolSize(maxConcurrency);
+            pool.setMaxPoolSize(maxConcurrency);
+            pool.setTaskDecorator(MetricsConfig::propagateRequestContext);
+            pool.initialize();
+            this.executor = pool;
+        }
+        log.info("Fan-out reads limited to {} at a time on {} threads", maxConcurrency,
+                Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtual) {
+            virtual.close();
+        }
+    }
+}
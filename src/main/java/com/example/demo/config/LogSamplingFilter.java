@@ -0,0 +1,118 @@
+package com.example.demo.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples and rate-limits INFO and lower events per logger prefix before an event object is even
+ * created. WARN and ERROR always pass. Rules come from logback-spring.xml, one per {@code <rule>}:
+ * <pre>
+ * &lt;rule&gt;com.example.demo.controller sample=0.1 max-per-second=100&lt;/rule&gt;
+ * </pre>
+ * The longest matching prefix wins. {@code sample} keeps that share of events (default 1), and
+ * {@code max-per-second} caps what is left per rule and second (default unlimited). Events dropped
+ * by the rate limit are counted and reported at WARN once the next second starts.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final Rule NO_RULE = new Rule("", 1.0, Long.MAX_VALUE);
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final ConcurrentMap<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+
+    static final class Rule {
+        private final String prefix;
+        private final double sample;
+        private final long maxPerSecond;
+        private final AtomicLong window = new AtomicLong();
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+
+        Rule(String prefix, double sample, long maxPerSecond) {
+            this.prefix = prefix;
+            this.sample = sample;
+            this.maxPerSecond = maxPerSecond;
+        }
+
+        boolean matches(String loggerName) {
+            return loggerName.equals(prefix) || loggerName.startsWith(prefix + ".");
+        }
+    }
+
+    public void addRule(String definition) {
+        String[] parts = definition.trim().split("\\s+");
+        double sample = 1.0;
+        long maxPerSecond = Long.MAX_VALUE;
+        for (int i = 1; i < parts.length; i++) {
+            String[] option = parts[i].split("=", 2);
+            switch (option[0]) {
+                case "sample" -> sample = Double.parseDouble(option[1]);
+                case "max-per-second" -> maxPerSecond = Long.parseLong(option[1]);
+                default -> addError("Unknown log sampling option " + parts[i] + " in rule " + definition);
+            }
+        }
+        rules.add(new Rule(parts[0], sample, maxPerSecond));
+        rules.sort(Comparator.comparingInt((Rule rule) -> rule.prefix.length()).reversed());
+        rulesByLogger.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Null format: an isXxxEnabled() probe; sample only the log call itself so guarded calls are not sampled twice
+        if (format == null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::ruleFor);
+        if (rule == NO_RULE) {
+            return FilterReply.NEUTRAL;
+        }
+        if (rule.sample < 1.0 && ThreadLocalRandom.current().nextDouble() >= rule.sample) {
+            return FilterReply.DENY;
+        }
+        if (rule.maxPerSecond == Long.MAX_VALUE) {
+            return FilterReply.NEUTRAL;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        long current = rule.window.get();
+        if (second != current && rule.window.compareAndSet(current, second)) {
+            reportRateLimited(rule, rule.rateLimited.sumThenReset());
+            rule.passed.reset();
+        }
+        if (rule.passed.sum() >= rule.maxPerSecond) {
+            rule.rateLimited.increment();
+            return FilterReply.DENY;
+        }
+        rule.passed.increment();
+        return FilterReply.NEUTRAL;
+    }
+
+    private Rule ruleFor(String loggerName) {
+        for (Rule rule : rules) {
+            if (rule.matches(loggerName)) {
+                return rule;
+            }
+        }
+        return NO_RULE;
+    }
+
+    private static void reportRateLimited(Rule rule, long dropped) {
+        if (dropped > 0) {
+            // WARN is never filtered here, so this does not re-enter the rule being reported
+            LoggerFactory.getLogger(LogSamplingFilter.class).warn("Rate limit dropped {} log events from {} (max {}/s)",
+                    dropped, rule.prefix, rule.maxPerSecond);
+        }
+    }
+}
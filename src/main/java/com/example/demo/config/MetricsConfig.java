@@ -0,0 +1,41 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Wraps the application's main DataSource (the Hikari pool, or the read/write router when a
+     * replica is configured) so statements are counted once, whichever pool serves them.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /** Picked up by the auto-configured task executor, which runs MVC async responses and streamed imports. */
+    @Bean
+    public TaskDecorator requestStatementsTaskDecorator() {
+        return MetricsConfig::propagateRequestContext;
+    }
+
+    /** Runs {@code task} with the submitting request's statement tally and read-your-writes context. */
+    static Runnable propagateRequestContext(Runnable task) {
+        return ReadYourWrites.propagate(RequestStatements.propagate(task));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Lets a Prometheus scrape of {@code /metrics} through when it sends {@code Authorization: Bearer <token>}
+ * with the configured {@code metrics.scrape-token}. Without a configured token the endpoint stays closed,
+ * so a deployment never exposes it by forgetting a proxy rule.
+ */
+@Component
+public class MetricsScrapeAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeAuthorization(@Value("${metrics.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken.isBlank() ? null : scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isScraper(context.getRequest()));
+    }
+
+    boolean isScraper(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (scrapeToken == null || header == null || !header.startsWith(BEARER)) {
+            return false;
+        }
+        // Constant-time, so the token cannot be guessed byte by byte from response times
+        return MessageDigest.isEqual(scrapeToken, header.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * After a client's write commits, that client's reads stay on the primary for the
+ * configured lag tolerance, so it never reads a replica that has not caught up with
+ * its own change. The client is whatever {@link ReadYourWrites} context is bound (one
+ * per HTTP request, seeded from {@link ReadYourWritesFilter}'s cookie); other clients
+ * keep reading the replica. Only transactions that actually ran INSERT, UPDATE,
+ * DELETE or other non-query statements count as writes, so write transactions that
+ * only read, and auto-commit SELECTs, do not pin anyone. Work outside a request
+ * (scheduled jobs) has no context and is never pinned.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of the
+ * transaction is only known once the first statement runs.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    // Statements that only read; anything else is treated as a write
+    private static final Set<String> QUERY_KEYWORDS = Set.of("SELECT", "WITH", "SHOW", "EXPLAIN", "DESCRIBE", "DESC",
+            "VALUES", "SET", "USE");
+
+    // Bound for the lifetime of a transaction that wrote, so its after-commit hook is registered once
+    private static final Object WRITE_MARKER = new Object();
+
+    private final Duration lagTolerance;
+    private final Clock clock;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration lagTolerance) {
+        this(primary, replica, lagTolerance, Clock.systemUTC());
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration lagTolerance, Clock clock) {
+        this.lagTolerance = lagTolerance;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return isPinnedToPrimary() ? Route.PRIMARY : Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return writeTrackingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return writeTrackingConnection(super.getConnection(username, password));
+    }
+
+    /** Whether the current client's reads are pinned to the primary. */
+    public boolean isPinnedToPrimary() {
+        ReadYourWrites context = ReadYourWrites.current();
+        if (context == null || context.lastWrite() == 0) {
+            return false;
+        }
+        long now = clock.millis();
+        return now < Math.min(context.lastWrite(), now) + lagTolerance.toMillis();
+    }
+
+    private void onWriteStatement() {
+        ReadYourWrites context = ReadYourWrites.current();
+        if (context == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Auto-commit statements are committed as soon as they run
+            context.recordWrite(clock.millis());
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                context.recordWrite(clock.millis());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    static boolean isWrite(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        int i = 0;
+        int length = sql.length();
+        // Skip whitespace, comments and opening parentheses before the first keyword
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else {
+                break;
+            }
+        }
+        int end = i;
+        while (end < length && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return end > i && !QUERY_KEYWORDS.contains(sql.substring(i, end).toUpperCase(Locale.ROOT));
+    }
+
+    private Connection writeTrackingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ReadWriteRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return writeTrackingStatement(statement, sql, method.getName().equals("prepareCall"));
+                    }
+                    return result;
+                });
+    }
+
+    private Statement writeTrackingStatement(Statement statement, String preparedSql, boolean call) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(ReadWriteRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("execute") || name.equals("addBatch")) {
+                        String sql = preparedSql != null ? preparedSql
+                                : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        // Stored procedures may write, so calls count as writes
+                        if (call || isWrite(sql)) {
+                            Object result = invoke(statement, method, args);
+                            onWriteStatement();
+                            return result;
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
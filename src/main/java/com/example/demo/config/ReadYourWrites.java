@@ -0,0 +1,69 @@
+package com.example.demo.config;
+
+/**
+ * When the current client last wrote to the primary, as far as this request knows: the time carried
+ * in by {@link ReadYourWritesFilter}'s cookie, or the time a write of this request committed.
+ * {@link ReadWriteRoutingDataSource} keeps a client's read-only transactions on the primary for the
+ * lag tolerance after that, so other clients keep reading the replica. Bound to the request thread
+ * and carried over to fan-out threads like {@link RequestStatements}.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private volatile long lastWrite;
+    private volatile boolean written;
+
+    private ReadYourWrites(long lastWrite) {
+        this.lastWrite = lastWrite;
+    }
+
+    /** Starts tracking for the current thread; {@code lastWrite} is 0 when the client has not written recently. */
+    public static ReadYourWrites bind(long lastWrite) {
+        ReadYourWrites context = new ReadYourWrites(lastWrite);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    static ReadYourWrites current() {
+        return CURRENT.get();
+    }
+
+    static Runnable propagate(Runnable task) {
+        ReadYourWrites context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            ReadYourWrites previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    public long lastWrite() {
+        return lastWrite;
+    }
+
+    /** True once a write made under this context has committed. */
+    public boolean written() {
+        return written;
+    }
+
+    void recordWrite(long at) {
+        lastWrite = Math.max(lastWrite, at);
+        written = true;
+    }
+}
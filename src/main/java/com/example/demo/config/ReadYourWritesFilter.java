@@ -0,0 +1,95 @@
+package com.example.demo.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Carries each client's last write time between requests in the {@value #COOKIE} cookie, so
+ * read-your-writes holds across instances without any shared state. The cookie is read into a
+ * {@link ReadYourWrites} context for the request and, when the request committed a write, sent back
+ * with the new time just before the response is committed. Timestamps in the future are clamped to
+ * now by the router, so an edited cookie can pin its own client for at most one lag tolerance.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "last_write";
+
+    private final Duration lagTolerance;
+
+    public ReadYourWritesFilter(Duration lagTolerance) {
+        this.lagTolerance = lagTolerance;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWrites context = ReadYourWrites.bind(lastWrite(request));
+        CookieWritingResponse wrapped = new CookieWritingResponse(response, context);
+        try {
+            chain.doFilter(request, wrapped);
+        } finally {
+            ReadYourWrites.unbind();
+            if (!response.isCommitted()) {
+                wrapped.addCookieOnce();
+            }
+        }
+    }
+
+    private static long lastWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private final class CookieWritingResponse extends OnCommittedResponseWrapper {
+
+        private final HttpServletResponse response;
+        private final ReadYourWrites context;
+        private boolean added;
+
+        CookieWritingResponse(HttpServletResponse response, ReadYourWrites context) {
+            super(response);
+            this.response = response;
+            this.context = context;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addCookieOnce();
+        }
+
+        void addCookieOnce() {
+            if (added || !context.written()) {
+                return;
+            }
+            added = true;
+            ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(context.lastWrite()))
+                    .path("/")
+                    .maxAge(lagTolerance.plusSeconds(1))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import org.springframework.boot.json.JsonWriter;
+import org.springframework.boot.logging.structured.StructuredLoggingJsonMembersCustomizer;
+
+import java.util.Set;
+
+/**
+ * Runs the message and stack trace of every structured (JSON) log event through
+ * {@link LogRedaction}. Registered with {@code logging.structured.json.customizer}.
+ */
+public class RedactingJsonMembersCustomizer implements StructuredLoggingJsonMembersCustomizer<Object> {
+
+    /** Message and stack trace members of the logstash, ecs and gelf formats. */
+    private static final Set<String> REDACTED_MEMBERS = Set.of("message", "stack_trace", "short_message",
+            "full_message", "_error_message", "_error_stack_trace");
+
+    @Override
+    public void customize(JsonWriter.Members<Object> members) {
+        members.applyingValueProcessor(JsonWriter.ValueProcessor.of(String.class, LogRedaction::redact)
+                .whenHasPath(path -> REDACTED_MEMBERS.contains(path.name())));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.config;
+
+import ch.qos.logback.classic.pattern.MessageConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@code %m}/{@code %msg} for the plain-text console pattern, passed through {@link LogRedaction}.
+ */
+public class RedactingMessageConverter extends MessageConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return LogRedaction.redact(super.convert(event));
+    }
+}
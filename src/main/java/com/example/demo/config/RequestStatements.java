@@ -0,0 +1,136 @@
+package com.example.demo.config;
+
+import com.example.demo.service.QueryDiagnosticsService.ExecutedStatement;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The JDBC statements executed on behalf of the current HTTP request. {@link EndpointMetricsFilter}
+ * opens a tally per request, {@link StatementCountingDataSource} adds to it, and the task decorator
+ * carries it onto executor threads so fan-out work is charged to the request that started it.
+ * Every request keeps the statements that ran longer than the slow threshold; requests picked for
+ * query diagnostics also keep every statement. A kept statement carries its SQL, bind count, duration
+ * and the application method that issued it, so the stack is only walked for those.
+ */
+final class RequestStatements {
+
+    static final int MAX_CAPTURED = 1000;
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+    private static final String APPLICATION_PACKAGE = "com.example.demo.";
+    private static final String SERVICE_PACKAGE = APPLICATION_PACKAGE + "service.";
+    private static final String CONFIG_PACKAGE = APPLICATION_PACKAGE + "config.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private RequestStatements() {
+    }
+
+    static final class Tally {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final Queue<ExecutedStatement> captured;
+        private final AtomicInteger capturedCount = new AtomicInteger();
+        private final long slowNanos;
+        private final Queue<ExecutedStatement> slow = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger slowCount = new AtomicInteger();
+
+        private Tally(boolean capture, long slowNanos) {
+            this.captured = capture ? new ConcurrentLinkedQueue<>() : null;
+            this.slowNanos = slowNanos;
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long nanos() {
+            return nanos.sum();
+        }
+
+        boolean capturing() {
+            return captured != null;
+        }
+
+        List<ExecutedStatement> captured() {
+            return captured != null ? List.copyOf(captured) : List.of();
+        }
+
+        List<ExecutedStatement> slow() {
+            return List.copyOf(slow);
+        }
+    }
+
+    /** {@code slowNanos} of 0 or less keeps no slow statements. */
+    static Tally begin(boolean capture, long slowNanos) {
+        Tally tally = new Tally(capture, slowNanos);
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql, int binds, long nanos) {
+        Tally tally = CURRENT.get();
+        if (tally == null) {
+            return;
+        }
+        tally.count.increment();
+        tally.nanos.add(nanos);
+        boolean capture = tally.captured != null && tally.capturedCount.incrementAndGet() <= MAX_CAPTURED;
+        boolean slow = tally.slowNanos > 0 && nanos >= tally.slowNanos && tally.slowCount.incrementAndGet() <= MAX_CAPTURED;
+        if (capture || slow) {
+            ExecutedStatement statement = new ExecutedStatement(sql, binds, nanos, origin());
+            if (capture) {
+                tally.captured.add(statement);
+            }
+            if (slow) {
+                tally.slow.add(statement);
+            }
+        }
+    }
+
+    static Runnable propagate(Runnable task) {
+        Tally tally = CURRENT.get();
+        if (tally == null) {
+            return task;
+        }
+        return () -> {
+            Tally previous = CURRENT.get();
+            CURRENT.set(tally);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /** The innermost service method on the stack, else the innermost application method outside config. */
+    private static String origin() {
+        List<StackWalker.StackFrame> application = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .toList());
+        return application.stream()
+                .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE))
+                .findFirst()
+                .or(() -> application.stream().findFirst())
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
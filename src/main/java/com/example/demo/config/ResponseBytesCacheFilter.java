@@ -0,0 +1,139 @@
+package com.example.demo.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the serialized (and gzip-compressed) bytes of public GET responses, so repeat requests skip
+ * both Jackson and compression. Entries are tagged with the ETag that {@link ConditionalGetFilter}
+ * derived from the collection versions, so any committed write makes the stored bytes unreachable.
+ */
+@Component
+@Order(ResponseBytesCacheFilter.ORDER)
+@Slf4j
+public class ResponseBytesCacheFilter extends OncePerRequestFilter {
+
+    static final int ORDER = ConditionalGetFilter.ORDER + 1;
+
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final Cache cache;
+    private final int minCompressBytes;
+
+    public ResponseBytesCacheFilter(CacheManager cacheManager,
+                                    @Value("${http.response-cache.min-compress-bytes:1024}") int minCompressBytes) {
+        this.cache = cacheManager.getCache(CacheConfig.RESPONSE_BYTES);
+        this.minCompressBytes = minCompressBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !ConditionalGetFilter.isVersioned(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = cacheKey(request);
+        boolean acceptsGzip = acceptsGzip(request);
+
+        CachedResponse cached = cache.get(key, CachedResponse.class);
+        if (cached != null && cached.etag().equals(etag)) {
+            write(response, cached, acceptsGzip);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (request.isAsyncStarted() || wrapper.getStatus() != HttpServletResponse.SC_OK
+                || wrapper.getContentType() == null || wrapper.containsHeader(HttpHeaders.SET_COOKIE)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        byte[] gzipped = body.length >= minCompressBytes ? gzip(body) : null;
+        CachedResponse fresh = new CachedResponse(etag, wrapper.getContentType(), body, gzipped);
+        cache.put(key, fresh);
+        log.debug("Cached {} response bytes for {} ({} gzipped)", body.length, key,
+                gzipped != null ? gzipped.length : "not");
+
+        // The wrapper already holds the body; write the chosen encoding straight to the real response
+        wrapper.resetBuffer();
+        write(response, fresh, acceptsGzip);
+    }
+
+    private static void write(HttpServletResponse response, CachedResponse cached, boolean acceptsGzip)
+            throws IOException {
+        byte[] bytes = cached.identity();
+        if (acceptsGzip && cached.gzip() != null) {
+            bytes = cached.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.VARY, VARY);
+        response.setContentType(cached.contentType());
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return key.append('|').append(accept != null ? accept : "*/*").toString();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equals(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    record CachedResponse(String etag, String contentType, byte[] identity, byte[] gzip) {
+
+        int weight() {
+            return identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.AchievementDTO;
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.service.AchievementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,21 @@ public class AchievementController {
         return ResponseEntity.ok(achievements);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<AchievementDTO>> getAchievementsCursorPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("GET /api/achievements/cursor - Fetching achievements after cursor");
+        try {
+            CursorPageDTO<AchievementDTO> page = achievementService.getAchievementsCursorPage(cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AchievementDTO> getAchievementById(@PathVariable Long id) {
         log.info("GET /api/achievements/{} - Fetching achievement by id", id);
@@ -0,0 +1,188 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.FanOutExecutor;
+import com.example.demo.dto.BatchRequestDTO;
+import com.example.demo.dto.BatchResponseDTO;
+import com.example.demo.service.*;
+import com.example.demo.service.AccessControlService.AccessDecision;
+import com.example.demo.service.AccessControlService.EntityScope;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Runs several read-only sub-requests in one round trip. Dashboard sub-requests are authorized for
+ * the entity in their path through {@link AccessControlService}, like the standalone endpoints.
+ * Sub-requests run in parallel on {@link FanOutExecutor} and map straight onto the services
+ * behind the matching GET endpoints, so every sub-response has the same body as the standalone call.
+ */
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class BatchController {
+
+    static final int MAX_SUB_REQUESTS = 20;
+
+    private final AccessControlService accessControlService;
+    private final SocietyService societyService;
+    private final CouncilService councilService;
+    private final PastEventService pastEventService;
+    private final UpcomingEventService upcomingEventService;
+    private final AchievementService achievementService;
+    private final GalleryItemService galleryItemService;
+    private final NotificationService notificationService;
+    private final FanOutExecutor fanOutExecutor;
+
+    private final List<Route> routes = new ArrayList<>();
+
+    /** {@code scope} is null for public routes. */
+    private record Route(PathPattern pattern, EntityScope scope, Function<RouteRequest, Object> handler) {
+    }
+
+    private record RouteRequest(Map<String, String> variables, MultiValueMap<String, String> params) {
+
+        Long id() {
+            return Long.valueOf(variables.get("id"));
+        }
+
+        Pageable pageable(int defaultSize, Sort defaultSort, Set<String> allowedSorts) {
+            int page = params.getFirst("page") != null ? Integer.parseInt(params.getFirst("page")) : 0;
+            int size = params.getFirst("size") != null ? Integer.parseInt(params.getFirst("size")) : defaultSize;
+            return DashboardPaging.of(page, size, params.getFirst("sort"), defaultSort, allowedSorts);
+        }
+    }
+
+    @PostConstruct
+    void registerRoutes() {
+        Sort eventDateDesc = Sort.by(Sort.Direction.DESC, "eventDate");
+        Sort eventDateAsc = Sort.by(Sort.Direction.ASC, "eventDate");
+        Sort yearDesc = Sort.by(Sort.Direction.DESC, "year");
+        Sort uploadDateDesc = Sort.by(Sort.Direction.DESC, "uploadDate");
+
+        route("/api/society-dashboard/society/{id}", EntityScope.SOCIETY,
+                r -> societyService.getSocietyById(r.id()).orElseThrow(() -> notFound("Society not found")));
+        route("/api/society-dashboard/society/{id}/events/past", EntityScope.SOCIETY,
+                r -> new PagedModel<>(pastEventService.getEventsBySocietyId(r.id(), r.pageable(10, eventDateDesc, DashboardPaging.PAST_EVENT_SORTS))));
+        route("/api/society-dashboard/society/{id}/events/upcoming", EntityScope.SOCIETY,
+                r -> new PagedModel<>(upcomingEventService.getEventsBySocietyId(r.id(), r.pageable(10, eventDateAsc, DashboardPaging.UPCOMING_EVENT_SORTS))));
+        route("/api/society-dashboard/society/{id}/achievements", EntityScope.SOCIETY,
+                r -> new PagedModel<>(achievementService.getAchievementsBySocietyId(r.id(), r.pageable(10, yearDesc, DashboardPaging.ACHIEVEMENT_SORTS))));
+        route("/api/society-dashboard/society/{id}/gallery", EntityScope.SOCIETY,
+                r -> new PagedModel<>(galleryItemService.getItemsBySocietyId(r.id(), r.pageable(20, uploadDateDesc, DashboardPaging.GALLERY_SORTS))));
+
+        route("/api/council-dashboard/council/{id}", EntityScope.COUNCIL,
+                r -> councilService.getCouncilById(r.id()).orElseThrow(() -> notFound("Council not found")));
+        route("/api/council-dashboard/council/{id}/events/past", EntityScope.COUNCIL,
+                r -> new PagedModel<>(pastEventService.getEventsByCouncilId(r.id(), r.pageable(10, eventDateDesc, DashboardPaging.PAST_EVENT_SORTS))));
+        route("/api/council-dashboard/council/{id}/events/upcoming", EntityScope.COUNCIL,
+                r -> new PagedModel<>(upcomingEventService.getEventsByCouncilId(r.id(), r.pageable(10, eventDateAsc, DashboardPaging.UPCOMING_EVENT_SORTS))));
+        route("/api/council-dashboard/council/{id}/achievements", EntityScope.COUNCIL,
+                r -> new PagedModel<>(achievementService.getAchievementsByCouncilId(r.id(), r.pageable(10, yearDesc, DashboardPaging.ACHIEVEMENT_SORTS))));
+        route("/api/council-dashboard/council/{id}/gallery", EntityScope.COUNCIL,
+                r -> new PagedModel<>(galleryItemService.getItemsByCouncilId(r.id(), r.pageable(20, uploadDateDesc, DashboardPaging.GALLERY_SORTS))));
+
+        route("/api/achievements/statistics/by-year", null, r -> achievementService.getAchievementCountByYear());
+        route("/api/achievements/statistics/by-category", null, r -> achievementService.getAchievementCountByCategory());
+        route("/api/past-events/statistics/by-year", null, r -> pastEventService.getEventCountByYear());
+        route("/api/gallery/statistics/by-category", null, r -> galleryItemService.getGalleryItemCountByCategory());
+        route("/api/notifications/statistics/by-type", null, r -> notificationService.getNotificationCountByType());
+    }
+
+    private void route(String pattern, EntityScope scope, Function<RouteRequest, Object> handler) {
+        routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), scope, handler));
+    }
+
+    @PostMapping
+    public ResponseEntity<?> executeBatch(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody BatchRequestDTO batchRequest) {
+        List<BatchRequestDTO.SubRequest> requests = batchRequest.getRequests();
+        log.info("POST /api/batch - Executing {} sub-requests", requests != null ? requests.size() : 0);
+
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_SUB_REQUESTS) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "A batch must contain between 1 and " + MAX_SUB_REQUESTS + " sub-requests");
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        List<CompletableFuture<BatchResponseDTO.SubResponse>> futures = requests.stream()
+                .map(request -> fanOutExecutor.supply(() -> execute(request, token)))
+                .toList();
+        List<BatchResponseDTO.SubResponse> responses = futures.stream().map(CompletableFuture::join).toList();
+        return ResponseEntity.ok(new BatchResponseDTO(responses));
+    }
+
+    private BatchResponseDTO.SubResponse execute(BatchRequestDTO.SubRequest request, String token) {
+        try {
+            if (request.getMethod() != null && !"GET".equalsIgnoreCase(request.getMethod())) {
+                throw new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED, "Only GET sub-requests are supported");
+            }
+            if (request.getPath() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Sub-request path is required");
+            }
+            UriComponents uri = UriComponentsBuilder.fromUriString(request.getPath()).build();
+            PathContainer path = PathContainer.parsePath(uri.getPath() != null ? uri.getPath() : "");
+            for (Route route : routes) {
+                PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+                if (match == null) {
+                    continue;
+                }
+                RouteRequest routeRequest = new RouteRequest(match.getUriVariables(), uri.getQueryParams());
+                checkAccess(route.scope(), routeRequest, token);
+                return new BatchResponseDTO.SubResponse(request.getId(), HttpStatus.OK.value(),
+                        route.handler().apply(routeRequest));
+            }
+            throw notFound("No batchable endpoint for " + uri.getPath());
+        } catch (ResponseStatusException e) {
+            return error(request, e.getStatusCode().value(), e.getReason());
+        } catch (IllegalArgumentException e) {
+            return error(request, HttpStatus.BAD_REQUEST.value(), e.getMessage());
+        } catch (Exception e) {
+            log.error("Batch sub-request {} failed", request.getPath(), e);
+            return error(request, HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
+        }
+    }
+
+    private void checkAccess(EntityScope scope, RouteRequest request, String token) {
+        if (scope == null) {
+            return;
+        }
+        AccessDecision decision = accessControlService.authorize(token, scope, request.id());
+        if (!decision.granted()) {
+            throw new ResponseStatusException(decision.status(), decision.error());
+        }
+    }
+
+    private static ResponseStatusException notFound(String message) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, message);
+    }
+
+    private static BatchResponseDTO.SubResponse error(BatchRequestDTO.SubRequest request, int status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return new BatchResponseDTO.SubResponse(request.getId(), status, error);
+    }
+}
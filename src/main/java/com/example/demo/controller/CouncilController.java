@@ -1,7 +1,9 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.CouncilDTO;
+import com.example.demo.dto.SlateMemberDTO;
 import com.example.demo.service.CouncilService;
+import com.example.demo.service.SlateMemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,18 +20,29 @@ import java.util.List;
 public class CouncilController {
 
     private final CouncilService councilService;
+    private final SlateMemberService slateMemberService;
 
     @GetMapping
-    public ResponseEntity<List<CouncilDTO>> getAllCouncils() {
+    public ResponseEntity<?> getAllCouncils(
+            @RequestParam(defaultValue = "false") boolean includeJson,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/councils - Fetching all councils");
-        List<CouncilDTO> councils = councilService.getAllCouncils();
+        if (fields != null) {
+            return SparseFields.respond(() -> councilService.getAllCouncilFields(fields));
+        }
+        List<CouncilDTO> councils = councilService.getAllCouncils(includeJson);
         return ResponseEntity.ok(councils);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<CouncilDTO>> getActiveCouncils() {
+    public ResponseEntity<?> getActiveCouncils(
+            @RequestParam(defaultValue = "false") boolean includeJson,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/councils/active - Fetching active councils");
-        List<CouncilDTO> activeCouncils = councilService.getActiveCouncils();
+        if (fields != null) {
+            return SparseFields.respond(() -> councilService.getActiveCouncilFields(fields));
+        }
+        List<CouncilDTO> activeCouncils = councilService.getActiveCouncils(includeJson);
         return ResponseEntity.ok(activeCouncils);
     }
 
@@ -41,6 +54,14 @@ public class CouncilController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/slate-members")
+    public ResponseEntity<List<SlateMemberDTO>> getCouncilSlateMembers(@PathVariable Long id) {
+        log.info("GET /api/councils/{}/slate-members - Fetching slate members", id);
+        return slateMemberService.getCouncilSlateMembers(id)
+                .map(members -> ResponseEntity.ok(members))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/name/{name}")
     public ResponseEntity<CouncilDTO> getCouncilByName(@PathVariable String name) {
         log.info("GET /api/councils/name/{} - Fetching council by name", name);
@@ -50,15 +71,24 @@ public class CouncilController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<CouncilDTO>> searchCouncils(@RequestParam String keyword) {
+    public ResponseEntity<?> searchCouncils(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/councils/search?keyword={} - Searching councils", keyword);
+        if (fields != null) {
+            return SparseFields.respond(() -> councilService.searchCouncilFields(keyword, fields));
+        }
         List<CouncilDTO> councils = councilService.searchCouncils(keyword);
         return ResponseEntity.ok(councils);
     }
 
     @GetMapping("/with-website")
-    public ResponseEntity<List<CouncilDTO>> getCouncilsWithWebsite() {
+    public ResponseEntity<?> getCouncilsWithWebsite(
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/councils/with-website - Fetching councils with website");
+        if (fields != null) {
+            return SparseFields.respond(() -> councilService.getCouncilFieldsWithWebsite(fields));
+        }
         List<CouncilDTO> councils = councilService.getCouncilsWithWebsite();
         return ResponseEntity.ok(councils);
     }
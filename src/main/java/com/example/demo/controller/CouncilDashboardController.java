@@ -2,17 +2,29 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.*;
 import com.example.demo.service.*;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Every endpoint is authorized for its {@code councilId} by {@link com.example.demo.config.EntityAccessInterceptor}
+ * before the handler runs.
+ */
 @RestController
 @RequestMapping("/api/council-dashboard")
 @RequiredArgsConstructor
@@ -20,41 +32,19 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class CouncilDashboardController {
 
-    private final AuthService authService;
     private final CouncilService councilService;
     private final PastEventService pastEventService;
     private final UpcomingEventService upcomingEventService;
     private final AchievementService achievementService;
     private final GalleryItemService galleryItemService;
-
-    private UserDTO validateCouncilAccess(String token, Long councilId) throws Exception {
-        String cleanToken = token.replace("Bearer ", "");
-        UserDTO user = authService.getUserFromToken(cleanToken).orElse(null);
-        
-        if (user == null) {
-            throw new Exception("Invalid token");
-        }
-        
-        // Check if user has access to this council
-        if (!user.getRole().equals("COUNCIL_ADMIN") && !user.getRole().equals("ADMIN")) {
-            throw new Exception("Insufficient permissions");
-        }
-        
-        if (user.getRole().equals("COUNCIL_ADMIN") && !user.getEntityId().equals(councilId)) {
-            throw new Exception("Access denied for this council");
-        }
-        
-        return user;
-    }
+    private final GalleryImportService galleryImportService;
+    private final SlateMemberService slateMemberService;
 
     @GetMapping("/council/{councilId}")
-    public ResponseEntity<?> getCouncilDetails(
-            @RequestHeader("Authorization") String token,
-            @PathVariable Long councilId) {
+    public ResponseEntity<?> getCouncilDetails(@PathVariable Long councilId) {
         log.info("GET /api/council-dashboard/council/{} - Get council details", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
             Optional<CouncilDTO> councilOpt = councilService.getCouncilById(councilId);
             if (!councilOpt.isPresent()) {
                 Map<String, String> error = new HashMap<>();
@@ -66,19 +56,17 @@ public class CouncilDashboardController {
             log.error("Failed to get council details", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @PutMapping("/council/{councilId}")
     public ResponseEntity<?> updateCouncil(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestBody CouncilDTO councilDTO) {
         log.info("PUT /api/council-dashboard/council/{} - Update council", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
             councilDTO.setId(councilId);
             Optional<CouncilDTO> updatedOpt = councilService.updateCouncil(councilId, councilDTO);
             if (!updatedOpt.isPresent()) {
@@ -91,39 +79,113 @@ public class CouncilDashboardController {
             log.error("Failed to update council", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @PostMapping("/council/{councilId}/slate-members")
+    public ResponseEntity<?> addSlateMember(
+            @PathVariable Long councilId,
+            @RequestBody SlateMemberDTO member) {
+        log.info("POST /api/council-dashboard/council/{}/slate-members - Add slate member", councilId);
+        
+        try {
+            if (!slateMemberService.addCouncilSlateMember(councilId, member)) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Council not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(slateMemberService.getCouncilSlateMembers(councilId).orElse(List.of()));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            log.error("Failed to add slate member", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @PutMapping("/council/{councilId}/slate-members/{index}")
+    public ResponseEntity<?> updateSlateMember(
+            @PathVariable Long councilId,
+            @PathVariable int index,
+            @RequestBody SlateMemberDTO member) {
+        log.info("PUT /api/council-dashboard/council/{}/slate-members/{} - Update slate member", councilId, index);
+        
+        try {
+            if (!slateMemberService.updateCouncilSlateMember(councilId, index, member)) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Slate member not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            }
+            return ResponseEntity.ok(slateMemberService.getCouncilSlateMembers(councilId).orElse(List.of()));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (Exception e) {
+            log.error("Failed to update slate member", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
+    @DeleteMapping("/council/{councilId}/slate-members/{index}")
+    public ResponseEntity<?> removeSlateMember(
+            @PathVariable Long councilId,
+            @PathVariable int index) {
+        log.info("DELETE /api/council-dashboard/council/{}/slate-members/{} - Remove slate member", councilId, index);
+        
+        try {
+            if (!slateMemberService.removeCouncilSlateMember(councilId, index)) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Slate member not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            }
+            return ResponseEntity.ok(slateMemberService.getCouncilSlateMembers(councilId).orElse(List.of()));
+        } catch (Exception e) {
+            log.error("Failed to remove slate member", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @GetMapping("/council/{councilId}/events/past")
     public ResponseEntity<?> getCouncilPastEvents(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sort) {
         log.info("GET /api/council-dashboard/council/{}/events/past - Get council past events", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
-            List<PastEventDTO> events = pastEventService.getEventsByCouncilId(councilId);
-            return ResponseEntity.ok(events);
+            Pageable pageable = DashboardPaging.of(page, size, sort, Sort.by(Sort.Direction.DESC, "eventDate"), DashboardPaging.PAST_EVENT_SORTS);
+            Page<PastEventDTO> events = pastEventService.getEventsByCouncilId(councilId, pageable);
+            return ResponseEntity.ok(new PagedModel<>(events));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
             log.error("Failed to get council past events", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @PostMapping("/council/{councilId}/events/past")
     public ResponseEntity<?> createPastEvent(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestBody PastEventDTO eventDTO) {
         log.info("POST /api/council-dashboard/council/{}/events/past - Create past event", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
             eventDTO.setCouncilId(councilId);
             PastEventDTO created = pastEventService.createPastEvent(eventDTO);
             return new ResponseEntity<>(created, HttpStatus.CREATED);
@@ -137,14 +199,12 @@ public class CouncilDashboardController {
 
     @PutMapping("/council/{councilId}/events/past/{eventId}")
     public ResponseEntity<?> updatePastEvent(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long eventId,
             @RequestBody PastEventDTO eventDTO) {
         log.info("PUT /api/council-dashboard/council/{}/events/past/{} - Update past event", councilId, eventId);
         
         try {
-            validateCouncilAccess(token, councilId);
             eventDTO.setId(eventId);
             eventDTO.setCouncilId(councilId);
             Optional<PastEventDTO> updatedOpt = pastEventService.updatePastEvent(eventId, eventDTO);
@@ -164,13 +224,11 @@ public class CouncilDashboardController {
 
     @DeleteMapping("/council/{councilId}/events/past/{eventId}")
     public ResponseEntity<?> deletePastEvent(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long eventId) {
         log.info("DELETE /api/council-dashboard/council/{}/events/past/{} - Delete past event", councilId, eventId);
         
         try {
-            validateCouncilAccess(token, councilId);
             pastEventService.deletePastEvent(eventId);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Event deleted successfully");
@@ -185,33 +243,35 @@ public class CouncilDashboardController {
 
     @GetMapping("/council/{councilId}/events/upcoming")
     public ResponseEntity<?> getCouncilUpcomingEvents(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sort) {
         log.info("GET /api/council-dashboard/council/{}/events/upcoming - Get council upcoming events", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
-            List<UpcomingEventDTO> events = upcomingEventService.getEventsByCouncilId(councilId);
-            return ResponseEntity.ok(events);
+            Pageable pageable = DashboardPaging.of(page, size, sort, Sort.by(Sort.Direction.ASC, "eventDate"), DashboardPaging.UPCOMING_EVENT_SORTS);
+            Page<UpcomingEventDTO> events = upcomingEventService.getEventsByCouncilId(councilId, pageable);
+            return ResponseEntity.ok(new PagedModel<>(events));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
             log.error("Failed to get council upcoming events", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @PostMapping("/council/{councilId}/events/upcoming")
     public ResponseEntity<?> createUpcomingEvent(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestBody UpcomingEventDTO eventDTO) {
         log.info("POST /api/council-dashboard/council/{}/events/upcoming - Create upcoming event", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
             eventDTO.setCouncilId(councilId);
             UpcomingEventDTO created = upcomingEventService.createUpcomingEvent(eventDTO);
             return new ResponseEntity<>(created, HttpStatus.CREATED);
@@ -225,14 +285,12 @@ public class CouncilDashboardController {
 
     @PutMapping("/council/{councilId}/events/upcoming/{eventId}")
     public ResponseEntity<?> updateUpcomingEvent(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long eventId,
             @RequestBody UpcomingEventDTO eventDTO) {
         log.info("PUT /api/council-dashboard/council/{}/events/upcoming/{} - Update upcoming event", councilId, eventId);
         
         try {
-            validateCouncilAccess(token, councilId);
             eventDTO.setId(eventId);
             eventDTO.setCouncilId(councilId);
             Optional<UpcomingEventDTO> updatedOpt = upcomingEventService.updateUpcomingEvent(eventId, eventDTO);
@@ -252,13 +310,11 @@ public class CouncilDashboardController {
 
     @DeleteMapping("/council/{councilId}/events/upcoming/{eventId}")
     public ResponseEntity<?> deleteUpcomingEvent(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long eventId) {
         log.info("DELETE /api/council-dashboard/council/{}/events/upcoming/{} - Delete upcoming event", councilId, eventId);
         
         try {
-            validateCouncilAccess(token, councilId);
             upcomingEventService.deleteUpcomingEvent(eventId);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Event deleted successfully");
@@ -273,33 +329,35 @@ public class CouncilDashboardController {
 
     @GetMapping("/council/{councilId}/achievements")
     public ResponseEntity<?> getCouncilAchievements(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String sort) {
         log.info("GET /api/council-dashboard/council/{}/achievements - Get council achievements", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
-            List<AchievementDTO> achievements = achievementService.getAchievementsByCouncilId(councilId);
-            return ResponseEntity.ok(achievements);
+            Pageable pageable = DashboardPaging.of(page, size, sort, Sort.by(Sort.Direction.DESC, "year"), DashboardPaging.ACHIEVEMENT_SORTS);
+            Page<AchievementDTO> achievements = achievementService.getAchievementsByCouncilId(councilId, pageable);
+            return ResponseEntity.ok(new PagedModel<>(achievements));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
             log.error("Failed to get council achievements", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @PostMapping("/council/{councilId}/achievements")
     public ResponseEntity<?> createAchievement(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestBody AchievementDTO achievementDTO) {
         log.info("POST /api/council-dashboard/council/{}/achievements - Create achievement", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
             achievementDTO.setCouncilId(councilId);
             AchievementDTO created = achievementService.createAchievement(achievementDTO);
             return new ResponseEntity<>(created, HttpStatus.CREATED);
@@ -313,14 +371,12 @@ public class CouncilDashboardController {
 
     @PutMapping("/council/{councilId}/achievements/{achievementId}")
     public ResponseEntity<?> updateAchievement(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long achievementId,
             @RequestBody AchievementDTO achievementDTO) {
         log.info("PUT /api/council-dashboard/council/{}/achievements/{} - Update achievement", councilId, achievementId);
         
         try {
-            validateCouncilAccess(token, councilId);
             achievementDTO.setId(achievementId);
             achievementDTO.setCouncilId(councilId);
             Optional<AchievementDTO> updatedOpt = achievementService.updateAchievement(achievementId, achievementDTO);
@@ -340,13 +396,11 @@ public class CouncilDashboardController {
 
     @DeleteMapping("/council/{councilId}/achievements/{achievementId}")
     public ResponseEntity<?> deleteAchievement(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long achievementId) {
         log.info("DELETE /api/council-dashboard/council/{}/achievements/{} - Delete achievement", councilId, achievementId);
         
         try {
-            validateCouncilAccess(token, councilId);
             achievementService.deleteAchievement(achievementId);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Achievement deleted successfully");
@@ -361,33 +415,35 @@ public class CouncilDashboardController {
 
     @GetMapping("/council/{councilId}/gallery")
     public ResponseEntity<?> getCouncilGalleryItems(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
         log.info("GET /api/council-dashboard/council/{}/gallery - Get council gallery items", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
-            List<GalleryItemDTO> items = galleryItemService.getItemsByCouncilId(councilId);
-            return ResponseEntity.ok(items);
+            Pageable pageable = DashboardPaging.of(page, size, sort, Sort.by(Sort.Direction.DESC, "uploadDate"), DashboardPaging.GALLERY_SORTS);
+            Page<GalleryItemDTO> items = galleryItemService.getItemsByCouncilId(councilId, pageable);
+            return ResponseEntity.ok(new PagedModel<>(items));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
             log.error("Failed to get council gallery items", e);
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
 
     @PostMapping("/council/{councilId}/gallery")
     public ResponseEntity<?> createGalleryItem(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @RequestBody GalleryItemDTO itemDTO) {
         log.info("POST /api/council-dashboard/council/{}/gallery - Create gallery item", councilId);
         
         try {
-            validateCouncilAccess(token, councilId);
             itemDTO.setCouncilId(councilId);
             GalleryItemDTO created = galleryItemService.createGalleryItem(itemDTO);
             return new ResponseEntity<>(created, HttpStatus.CREATED);
@@ -399,15 +455,38 @@ public class CouncilDashboardController {
         }
     }
 
+    @PostMapping(value = "/council/{councilId}/gallery/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> importGalleryItems(
+            @PathVariable Long councilId,
+            HttpServletRequest request) {
+        log.info("POST /api/council-dashboard/council/{}/gallery/import - Bulk import gallery items", councilId);
+        
+        try {
+            if (councilService.getCouncilById(councilId).isEmpty()) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Council not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            }
+            InputStream in = request.getInputStream();
+            StreamingResponseBody body = out -> galleryImportService.importItems(in, out, null, councilId);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        } catch (Exception e) {
+            log.error("Failed to import gallery items", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
     @DeleteMapping("/council/{councilId}/gallery/{itemId}")
     public ResponseEntity<?> deleteGalleryItem(
-            @RequestHeader("Authorization") String token,
             @PathVariable Long councilId,
             @PathVariable Long itemId) {
         log.info("DELETE /api/council-dashboard/council/{}/gallery/{} - Delete gallery item", councilId, itemId);
         
         try {
-            validateCouncilAccess(token, councilId);
             galleryItemService.deleteGalleryItem(itemId);
             Map<String, String> response = new HashMap<>();
             response.put("message", "Gallery item deleted successfully");
@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.FanOutExecutor;
 import com.example.demo.dto.*;
 import com.example.demo.service.*;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -27,6 +30,16 @@ public class DashboardController {
     private final NotificationService notificationService;
     private final GalleryItemService galleryItemService;
     private final HeroSlideService heroSlideService;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final FanOutExecutor fanOutExecutor;
+
+    private <T> CompletableFuture<T> async(Supplier<T> loader) {
+        return fanOutExecutor.supply(loader);
+    }
+
+    private static <T> List<T> limit(List<T> items, int max) {
+        return items.size() > max ? items.subList(0, max) : items;
+    }
 
     @GetMapping("/home-data")
     public ResponseEntity<Map<String, Object>> getHomePageData() {
@@ -35,40 +48,42 @@ public class DashboardController {
         Map<String, Object> homeData = new HashMap<>();
         
         try {
+            // Sections are independent reads, so they are loaded in parallel, a bounded number at a time
+            CompletableFuture<List<HeroSlideDTO>> heroSlides = async(heroSlideService::getActiveHeroSlides);
+            CompletableFuture<List<SocietyDTO>> societies = async(() -> societyService.getActiveSocieties(true));
+            CompletableFuture<List<CouncilDTO>> councils = async(() -> councilService.getActiveCouncils(true));
+            CompletableFuture<List<PastEventDTO>> pastEvents = async(pastEventService::getAllPastEvents);
+            CompletableFuture<List<UpcomingEventDTO>> upcomingEvents = async(upcomingEventService::getEventsWithOpenRegistration);
+            CompletableFuture<List<AchievementDTO>> achievements = async(() -> {
+                List<AchievementDTO> featured = achievementService.getFeaturedAchievements();
+                return featured.isEmpty() ? achievementService.getAllAchievements() : featured;
+            });
+            CompletableFuture<List<GalleryItemDTO>> galleryItems = async(galleryItemService::getAllGalleryItems);
+            CompletableFuture<List<NotificationDTO>> notifications = async(notificationService::getActiveNotifications);
+
             // Get active hero slides
-            List<HeroSlideDTO> heroSlides = heroSlideService.getActiveHeroSlides();
-            homeData.put("heroSlides", heroSlides);
+            homeData.put("heroSlides", heroSlides.join());
             
             // Get active societies (limit to first 12 for homepage)
-            List<SocietyDTO> societies = societyService.getActiveSocieties();
-            homeData.put("societies", societies.size() > 12 ? societies.subList(0, 12) : societies);
+            homeData.put("societies", limit(societies.join(), 12));
             
             // Get active councils (limit to first 8 for homepage)
-            List<CouncilDTO> councils = councilService.getActiveCouncils();
-            homeData.put("councils", councils.size() > 8 ? councils.subList(0, 8) : councils);
+            homeData.put("councils", limit(councils.join(), 8));
             
             // Get recent past events (limit to 6)
-            List<PastEventDTO> pastEvents = pastEventService.getAllPastEvents();
-            homeData.put("pastEvents", pastEvents.size() > 6 ? pastEvents.subList(0, 6) : pastEvents);
+            homeData.put("pastEvents", limit(pastEvents.join(), 6));
             
             // Get upcoming events with open registration (limit to 6)
-            List<UpcomingEventDTO> upcomingEvents = upcomingEventService.getEventsWithOpenRegistration();
-            homeData.put("upcomingEvents", upcomingEvents.size() > 6 ? upcomingEvents.subList(0, 6) : upcomingEvents);
+            homeData.put("upcomingEvents", limit(upcomingEvents.join(), 6));
             
-            // Get featured achievements (limit to 4)
-            List<AchievementDTO> achievements = achievementService.getFeaturedAchievements();
-            if (achievements.isEmpty()) {
-                achievements = achievementService.getAllAchievements();
-            }
-            homeData.put("achievements", achievements.size() > 4 ? achievements.subList(0, 4) : achievements);
+            // Get featured achievements, falling back to all achievements (limit to 4)
+            homeData.put("achievements", limit(achievements.join(), 4));
             
             // Get recent gallery items (limit to 15)
-            List<GalleryItemDTO> galleryItems = galleryItemService.getAllGalleryItems();
-            homeData.put("galleryItems", galleryItems.size() > 15 ? galleryItems.subList(0, 15) : galleryItems);
+            homeData.put("galleryItems", limit(galleryItems.join(), 15));
             
             // Get active notifications (limit to 5)
-            List<NotificationDTO> notifications = notificationService.getActiveNotifications();
-            homeData.put("notifications", notifications.size() > 5 ? notifications.subList(0, 5) : notifications);
+            homeData.put("notifications", limit(notifications.join(), 5));
             
             log.info("Successfully fetched home page data");
             return ResponseEntity.ok(homeData);
@@ -108,6 +123,12 @@ public class DashboardController {
         }
     }
 
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        log.info("GET /api/dashboard/cache-stats - Fetching cache statistics");
+        return ResponseEntity.ok(cacheStatisticsService.getCacheStatistics());
+    }
+
     @GetMapping("/recent-activities")
     public ResponseEntity<Map<String, Object>> getRecentActivities() {
         log.info("GET /api/dashboard/recent-activities - Fetching recent activities");
@@ -0,0 +1,47 @@
+package com.example.demo.controller;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Builds the {@link Pageable} for dashboard list endpoints from the raw {@code page}, {@code size} and
+ * {@code sort} request parameters. Sorting is limited to a per-endpoint allowlist of entity properties.
+ */
+final class DashboardPaging {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    static final Set<String> PAST_EVENT_SORTS = Set.of("eventDate", "title", "createdAt");
+    static final Set<String> UPCOMING_EVENT_SORTS = Set.of("eventDate", "registrationDeadline", "title", "createdAt");
+    static final Set<String> ACHIEVEMENT_SORTS = Set.of("year", "achievementDate", "title", "createdAt");
+    static final Set<String> GALLERY_SORTS = Set.of("uploadDate", "title", "category", "createdAt");
+
+    private DashboardPaging() {
+    }
+
+    /**
+     * @param sort {@code property} or {@code property,asc|desc}; falls back to {@code defaultSort} when blank
+     */
+    static Pageable of(int page, int size, String sort, Sort defaultSort, Set<String> allowedProperties) {
+        Sort order = defaultSort;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            String property = parts[0].trim();
+            if (!allowedProperties.contains(property)) {
+                throw new IllegalArgumentException("Unsupported sort property: " + property
+                        + " (allowed: " + allowedProperties + ")");
+            }
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromString(parts[1].trim())
+                    : Sort.Direction.ASC;
+            order = Sort.by(direction, property);
+        }
+        // The id tie-breaker keeps page boundaries stable when sort values repeat
+        Sort.Direction idDirection = order.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.DESC);
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                order.and(Sort.by(idDirection, "id")));
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.GalleryItemDTO;
+import com.example.demo.dto.GalleryLayoutDTO;
+import com.example.demo.service.DuplicateGalleryItemException;
 import com.example.demo.service.GalleryItemService;
+import com.example.demo.service.GalleryLayoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,7 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/gallery")
@@ -41,6 +47,31 @@ public class GalleryItemController {
         return ResponseEntity.ok(galleryItems);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<GalleryItemDTO>> getGalleryItemsCursorPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("GET /api/gallery/cursor - Fetching gallery items after cursor");
+        try {
+            CursorPageDTO<GalleryItemDTO> page = galleryItemService.getGalleryItemsCursorPage(cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/layout")
+    public ResponseEntity<GalleryLayoutDTO> getGalleryLayout(
+            @RequestParam(defaultValue = "MD") GalleryLayoutService.Breakpoint breakpoint,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "24") int size) {
+        log.info("GET /api/gallery/layout - Fetching {} layout page {}", breakpoint, page);
+        GalleryLayoutDTO layout = galleryItemService.getGalleryLayout(breakpoint, Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+        return ResponseEntity.ok(layout);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<GalleryItemDTO> getGalleryItemById(@PathVariable Long id) {
         log.info("GET /api/gallery/{} - Fetching gallery item by id", id);
@@ -108,10 +139,18 @@ public class GalleryItemController {
     }
 
     @PostMapping
-    public ResponseEntity<GalleryItemDTO> createGalleryItem(@RequestBody GalleryItemDTO galleryItemDTO) {
+    public ResponseEntity<?> createGalleryItem(@RequestBody GalleryItemDTO galleryItemDTO) {
         log.info("POST /api/gallery - Creating new gallery item: {}", galleryItemDTO.getTitle());
-        GalleryItemDTO createdGalleryItem = galleryItemService.createGalleryItem(galleryItemDTO);
-        return new ResponseEntity<>(createdGalleryItem, HttpStatus.CREATED);
+        try {
+            GalleryItemDTO createdGalleryItem = galleryItemService.createGalleryItem(galleryItemDTO);
+            return new ResponseEntity<>(createdGalleryItem, HttpStatus.CREATED);
+        } catch (DuplicateGalleryItemException e) {
+            log.warn("Rejected duplicate gallery item: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            error.put("duplicateIds", e.getDuplicateIds());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        }
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,25 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.EndpointMetricsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsController {
+
+    static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final EndpointMetricsService endpointMetricsService;
+
+    @GetMapping(value = "/metrics", produces = PROMETHEUS_TEXT)
+    public ResponseEntity<String> scrape() {
+        // Scraped every few seconds, so below the INFO request logging of the API controllers
+        log.debug("GET /metrics - Prometheus scrape");
+        return ResponseEntity.ok(endpointMetricsService.scrape());
+    }
+}
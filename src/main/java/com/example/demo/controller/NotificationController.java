@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.NotificationDTO;
 import com.example.demo.model.Notification;
 import com.example.demo.service.NotificationService;
@@ -40,6 +41,21 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<NotificationDTO>> getNotificationsCursorPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("GET /api/notifications/cursor - Fetching notifications after cursor");
+        try {
+            CursorPageDTO<NotificationDTO> page = notificationService.getNotificationsCursorPage(cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<NotificationDTO> getNotificationById(@PathVariable Long id) {
         log.info("GET /api/notifications/{} - Fetching notification by id", id);
@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.PastEventDTO;
 import com.example.demo.service.PastEventService;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +26,12 @@ public class PastEventController {
     private final PastEventService pastEventService;
 
     @GetMapping
-    public ResponseEntity<List<PastEventDTO>> getAllPastEvents() {
+    public ResponseEntity<?> getAllPastEvents(
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/past-events - Fetching all past events");
+        if (fields != null) {
+            return SparseFields.respond(() -> pastEventService.getAllPastEventFields(fields));
+        }
         List<PastEventDTO> events = pastEventService.getAllPastEvents();
         return ResponseEntity.ok(events);
     }
@@ -41,6 +46,21 @@ public class PastEventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<PastEventDTO>> getPastEventsCursorPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("GET /api/past-events/cursor - Fetching past events after cursor");
+        try {
+            CursorPageDTO<PastEventDTO> page = pastEventService.getPastEventsCursorPage(cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PastEventDTO> getPastEventById(@PathVariable Long id) {
         log.info("GET /api/past-events/{} - Fetching past event by id", id);
@@ -50,31 +70,50 @@ public class PastEventController {
     }
 
     @GetMapping("/date-range")
-    public ResponseEntity<List<PastEventDTO>> getPastEventsByDateRange(
+    public ResponseEntity<?> getPastEventsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/past-events/date-range - Fetching past events between {} and {}", startDate, endDate);
+        if (fields != null) {
+            return SparseFields.respond(() -> pastEventService.getPastEventFieldsByDateRange(startDate, endDate, fields));
+        }
         List<PastEventDTO> events = pastEventService.getPastEventsByDateRange(startDate, endDate);
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/min-rating/{rating}")
-    public ResponseEntity<List<PastEventDTO>> getEventsByMinRating(@PathVariable Double rating) {
+    public ResponseEntity<?> getEventsByMinRating(
+            @PathVariable Double rating,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/past-events/min-rating/{} - Fetching events with minimum rating", rating);
+        if (fields != null) {
+            return SparseFields.respond(() -> pastEventService.getEventFieldsByMinRating(rating, fields));
+        }
         List<PastEventDTO> events = pastEventService.getEventsByMinRating(rating);
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/branch/{branchName}")
-    public ResponseEntity<List<PastEventDTO>> getEventsByHostingBranch(@PathVariable String branchName) {
+    public ResponseEntity<?> getEventsByHostingBranch(
+            @PathVariable String branchName,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/past-events/branch/{} - Fetching events by hosting branch", branchName);
+        if (fields != null) {
+            return SparseFields.respond(() -> pastEventService.getEventFieldsByHostingBranch(branchName, fields));
+        }
         List<PastEventDTO> events = pastEventService.getEventsByHostingBranch(branchName);
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<PastEventDTO>> searchEvents(@RequestParam String keyword) {
+    public ResponseEntity<?> searchEvents(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/past-events/search?keyword={} - Searching past events", keyword);
+        if (fields != null) {
+            return SparseFields.respond(() -> pastEventService.searchEventFields(keyword, fields));
+        }
         List<PastEventDTO> events = pastEventService.searchEvents(keyword);
         return ResponseEntity.ok(events);
     }
@@ -1,7 +1,9 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.SocietyDTO;
+import com.example.demo.dto.SlateMemberDTO;
 import com.example.demo.service.SocietyService;
+import com.example.demo.service.SlateMemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,18 +20,29 @@ import java.util.List;
 public class SocietyController {
 
     private final SocietyService societyService;
+    private final SlateMemberService slateMemberService;
 
     @GetMapping
-    public ResponseEntity<List<SocietyDTO>> getAllSocieties() {
+    public ResponseEntity<?> getAllSocieties(
+            @RequestParam(defaultValue = "false") boolean includeJson,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/societies - Fetching all societies");
-        List<SocietyDTO> societies = societyService.getAllSocieties();
+        if (fields != null) {
+            return SparseFields.respond(() -> societyService.getAllSocietyFields(fields));
+        }
+        List<SocietyDTO> societies = societyService.getAllSocieties(includeJson);
         return ResponseEntity.ok(societies);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<SocietyDTO>> getActiveSocieties() {
+    public ResponseEntity<?> getActiveSocieties(
+            @RequestParam(defaultValue = "false") boolean includeJson,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/societies/active - Fetching active societies");
-        List<SocietyDTO> activeSocieties = societyService.getActiveSocieties();
+        if (fields != null) {
+            return SparseFields.respond(() -> societyService.getActiveSocietyFields(fields));
+        }
+        List<SocietyDTO> activeSocieties = societyService.getActiveSocieties(includeJson);
         return ResponseEntity.ok(activeSocieties);
     }
 
@@ -41,6 +54,14 @@ public class SocietyController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/slate-members")
+    public ResponseEntity<List<SlateMemberDTO>> getSocietySlateMembers(@PathVariable Long id) {
+        log.info("GET /api/societies/{}/slate-members - Fetching slate members", id);
+        return slateMemberService.getSocietySlateMembers(id)
+                .map(members -> ResponseEntity.ok(members))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/name/{name}")
     public ResponseEntity<SocietyDTO> getSocietyByName(@PathVariable String name) {
         log.info("GET /api/societies/name/{} - Fetching society by name", name);
@@ -50,15 +71,25 @@ public class SocietyController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<SocietyDTO>> searchSocieties(@RequestParam String keyword) {
+    public ResponseEntity<?> searchSocieties(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/societies/search?keyword={} - Searching societies", keyword);
+        if (fields != null) {
+            return SparseFields.respond(() -> societyService.searchSocietyFields(keyword, fields));
+        }
         List<SocietyDTO> societies = societyService.searchSocieties(keyword);
         return ResponseEntity.ok(societies);
     }
 
     @GetMapping("/min-members/{minMembers}")
-    public ResponseEntity<List<SocietyDTO>> getSocietiesWithMinMembers(@PathVariable Integer minMembers) {
+    public ResponseEntity<?> getSocietiesWithMinMembers(
+            @PathVariable Integer minMembers,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/societies/min-members/{} - Fetching societies with minimum members", minMembers);
+        if (fields != null) {
+            return SparseFields.respond(() -> societyService.getSocietyFieldsWithMinMembers(minMembers, fields));
+        }
         List<SocietyDTO> societies = societyService.getSocietiesWithMinMembers(minMembers);
         return ResponseEntity.ok(societies);
     }
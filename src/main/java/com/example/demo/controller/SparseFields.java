@@ -0,0 +1,27 @@
+package com.example.demo.controller;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shared response handling for list endpoints that accept a {@code fields} parameter.
+ */
+final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    static ResponseEntity<?> respond(Supplier<List<Map<String, Object>>> selection) {
+        try {
+            return ResponseEntity.ok(selection.get());
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
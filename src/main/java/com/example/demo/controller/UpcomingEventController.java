@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.UpcomingEventDTO;
 import com.example.demo.model.UpcomingEvent;
 import com.example.demo.service.UpcomingEventService;
@@ -26,8 +27,12 @@ public class UpcomingEventController {
     private final UpcomingEventService upcomingEventService;
 
     @GetMapping
-    public ResponseEntity<List<UpcomingEventDTO>> getAllUpcomingEvents() {
+    public ResponseEntity<?> getAllUpcomingEvents(
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/upcoming-events - Fetching all upcoming events");
+        if (fields != null) {
+            return SparseFields.respond(() -> upcomingEventService.getAllUpcomingEventFields(fields));
+        }
         List<UpcomingEventDTO> events = upcomingEventService.getAllUpcomingEvents();
         return ResponseEntity.ok(events);
     }
@@ -42,6 +47,21 @@ public class UpcomingEventController {
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<UpcomingEventDTO>> getUpcomingEventsCursorPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("GET /api/upcoming-events/cursor - Fetching upcoming events after cursor");
+        try {
+            CursorPageDTO<UpcomingEventDTO> page = upcomingEventService.getUpcomingEventsCursorPage(cursor, Math.min(Math.max(size, 1), 100), includeTotal);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UpcomingEventDTO> getUpcomingEventById(@PathVariable Long id) {
         log.info("GET /api/upcoming-events/{} - Fetching upcoming event by id", id);
@@ -51,37 +71,59 @@ public class UpcomingEventController {
     }
 
     @GetMapping("/after-date")
-    public ResponseEntity<List<UpcomingEventDTO>> getUpcomingEventsAfterDate(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date) {
+    public ResponseEntity<?> getUpcomingEventsAfterDate(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/upcoming-events/after-date - Fetching upcoming events after {}", date);
+        if (fields != null) {
+            return SparseFields.respond(() -> upcomingEventService.getUpcomingEventFieldsAfterDate(date, fields));
+        }
         List<UpcomingEventDTO> events = upcomingEventService.getUpcomingEventsAfterDate(date);
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/open-registration")
-    public ResponseEntity<List<UpcomingEventDTO>> getEventsWithOpenRegistration() {
+    public ResponseEntity<?> getEventsWithOpenRegistration(
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/upcoming-events/open-registration - Fetching events with open registration");
+        if (fields != null) {
+            return SparseFields.respond(() -> upcomingEventService.getEventFieldsWithOpenRegistration(fields));
+        }
         List<UpcomingEventDTO> events = upcomingEventService.getEventsWithOpenRegistration();
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/free")
-    public ResponseEntity<List<UpcomingEventDTO>> getFreeUpcomingEvents() {
+    public ResponseEntity<?> getFreeUpcomingEvents(
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/upcoming-events/free - Fetching free upcoming events");
+        if (fields != null) {
+            return SparseFields.respond(() -> upcomingEventService.getFreeUpcomingEventFields(fields));
+        }
         List<UpcomingEventDTO> events = upcomingEventService.getFreeUpcomingEvents();
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/type/{eventType}")
-    public ResponseEntity<List<UpcomingEventDTO>> getEventsByType(@PathVariable UpcomingEvent.EventType eventType) {
+    public ResponseEntity<?> getEventsByType(
+            @PathVariable UpcomingEvent.EventType eventType,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/upcoming-events/type/{} - Fetching events by type", eventType);
+        if (fields != null) {
+            return SparseFields.respond(() -> upcomingEventService.getEventFieldsByType(eventType, fields));
+        }
         List<UpcomingEventDTO> events = upcomingEventService.getEventsByType(eventType);
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<UpcomingEventDTO>> searchEvents(@RequestParam String keyword) {
+    public ResponseEntity<?> searchEvents(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String fields) {
         log.info("GET /api/upcoming-events/search?keyword={} - Searching upcoming events", keyword);
+        if (fields != null) {
+            return SparseFields.respond(() -> upcomingEventService.searchEventFields(keyword, fields));
+        }
         List<UpcomingEventDTO> events = upcomingEventService.searchEvents(keyword);
         return ResponseEntity.ok(events);
     }
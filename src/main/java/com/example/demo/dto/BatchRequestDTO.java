@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+    private List<SubRequest> requests;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SubRequest {
+        private String id; // Echoed back so the client can match responses
+        private String method; // Only GET is supported, defaults to GET
+        private String path; // e.g. /api/society-dashboard/society/3/events/past?page=0&size=10
+    }
+}
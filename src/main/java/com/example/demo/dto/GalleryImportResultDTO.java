@@ -0,0 +1,45 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GalleryImportResultDTO {
+
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_FLAGGED = "FLAGGED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_SUMMARY = "SUMMARY";
+
+    private String status;
+    private Integer line; // Line number in the uploaded manifest
+    private Long id;
+    private String title;
+    private String error;
+    private Integer total;
+    private Integer created;
+    private Integer failed;
+    private Long durationMs;
+    private List<Long> possibleDuplicateIds;
+
+    public static GalleryImportResultDTO created(int line, GalleryItemDTO item) {
+        boolean flagged = item.getPossibleDuplicateIds() != null && !item.getPossibleDuplicateIds().isEmpty();
+        return new GalleryImportResultDTO(flagged ? STATUS_FLAGGED : STATUS_CREATED, line, item.getId(), item.getTitle(),
+                null, null, null, null, null, item.getPossibleDuplicateIds());
+    }
+
+    public static GalleryImportResultDTO failed(int line, String error) {
+        return new GalleryImportResultDTO(STATUS_FAILED, line, null, null, error, null, null, null, null, null);
+    }
+
+    public static GalleryImportResultDTO summary(int total, int created, int failed, long durationMs) {
+        return new GalleryImportResultDTO(STATUS_SUMMARY, null, null, null, null, total, created, failed, durationMs, null);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -29,4 +30,5 @@ public class GalleryItemDTO {
     private String societyName;
     private Long councilId;
     private String councilName;
+    private List<Long> possibleDuplicateIds; // Near-duplicate gallery items detected on upload
 }
@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryLayoutDTO {
+    private String breakpoint;
+    private Integer containerWidth;
+    private Integer columns;
+    private Integer columnWidth;
+    private Integer gutter;
+    private Integer page;
+    private Integer size;
+    private Integer totalItems;
+    private Integer totalHeight; // Height of the whole masonry container in pixels
+    private List<GalleryLayoutItemDTO> items;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryLayoutItemDTO {
+    private Long id;
+    private String img;
+    private String url;
+    private String title;
+    private String altText;
+    private Integer column;
+    private Integer x; // Pixel offset from the left of the container
+    private Integer y; // Pixel offset from the top of the container
+    private Integer width;
+    private Integer height;
+}
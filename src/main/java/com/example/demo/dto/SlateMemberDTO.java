@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SlateMemberDTO {
+    private String name;
+    private String position; // e.g., "Chair", "Vice Chair", "Secretary"
+    private String image;
+    private String email;
+    private String linkedin;
+    private Map<String, Object> additionalFields = new LinkedHashMap<>(); // Keys not modelled above, kept as-is
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalFields() {
+        return additionalFields;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalField(String key, Object value) {
+        additionalFields.put(key, value);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,14 +8,26 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "achievements")
+@EntityListeners(CollectionVersionListener.class)
+@Table(name = "achievements", indexes = {
+        @Index(name = "idx_achievements_year_date", columnList = "year, achievement_date"),
+        @Index(name = "idx_achievements_society_year", columnList = "society_id, year"),
+        @Index(name = "idx_achievements_council_year", columnList = "council_id, year"),
+        @Index(name = "idx_achievements_featured_date", columnList = "is_featured, achievement_date"),
+        @Index(name = "idx_achievements_category", columnList = "award_category"),
+        @Index(name = "idx_achievements_recipient_date", columnList = "recipient_name, achievement_date"),
+        @Index(name = "idx_achievements_organization_date", columnList = "awarding_organization, achievement_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Achievement {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "achievements_id")
+    @TableGenerator(name = "achievements_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "achievements",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -1,19 +1,32 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "councils")
+@EntityListeners(CollectionVersionListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "council")
+@Table(name = "councils", indexes = {
+        @Index(name = "idx_councils_active_name", columnList = "is_active, name"),
+        @Index(name = "idx_councils_active_established", columnList = "is_active, established_year"),
+        @Index(name = "idx_councils_chair_person", columnList = "chair_person")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Council {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "councils_id")
+    @TableGenerator(name = "councils_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "councils",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -54,4 +67,8 @@ public class Council {
     
     @Column(name = "website_url")
     private String websiteUrl;
+    
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version; // Bumped on every write, including partial JSON updates
 }
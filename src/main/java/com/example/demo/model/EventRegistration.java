@@ -7,24 +7,41 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_registrations")
+@Table(name = "event_registrations", indexes = {
+        @Index(name = "idx_registrations_event_status", columnList = "event_id, registration_status"),
+        @Index(name = "idx_registrations_past_event", columnList = "past_event_id"),
+        @Index(name = "idx_registrations_user_date", columnList = "user_id, registration_date"),
+        @Index(name = "idx_registrations_date", columnList = "registration_date"),
+        @Index(name = "idx_registrations_status", columnList = "registration_status"),
+        @Index(name = "idx_registrations_payment_status", columnList = "payment_status"),
+        @Index(name = "idx_registrations_attendance_certificate", columnList = "attendance_status, certificate_issued"),
+        @Index(name = "idx_registrations_feedback_rating", columnList = "feedback_rating")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class EventRegistration {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_registrations_id")
+    @TableGenerator(name = "event_registrations_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "event_registrations",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    // Exactly one of event and pastEvent is set: the lifecycle job moves registrations to the past event
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "event_id", nullable = false)
+    @JoinColumn(name = "event_id")
     private UpcomingEvent event;
     
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "past_event_id")
+    private PastEvent pastEvent;
+    
     @Column(name = "registration_date")
     private LocalDateTime registrationDate;
     
@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,14 +8,27 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gallery_items")
+@EntityListeners(CollectionVersionListener.class)
+@Table(name = "gallery_items", indexes = {
+        @Index(name = "idx_gallery_upload_date", columnList = "upload_date"),
+        @Index(name = "idx_gallery_featured_date", columnList = "is_featured, upload_date"),
+        @Index(name = "idx_gallery_category_date", columnList = "category, upload_date"),
+        @Index(name = "idx_gallery_society_date", columnList = "society_id, upload_date"),
+        @Index(name = "idx_gallery_council_date", columnList = "council_id, upload_date"),
+        @Index(name = "idx_gallery_past_event", columnList = "past_event_id"),
+        @Index(name = "idx_gallery_upcoming_event", columnList = "upcoming_event_id"),
+        @Index(name = "idx_gallery_perceptual_hash", columnList = "perceptual_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class GalleryItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "gallery_items_id")
+    @TableGenerator(name = "gallery_items_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "gallery_items",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "image_url", nullable = false)
@@ -50,6 +64,9 @@ public class GalleryItem {
     @Column(name = "upload_date")
     private LocalDateTime uploadDate;
     
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash; // 64-bit dHash of the image, used for near-duplicate detection
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "past_event_id")
     private PastEvent pastEvent;
@@ -1,20 +1,32 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "hero_slides")
+@EntityListeners(CollectionVersionListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "heroSlide")
+@Table(name = "hero_slides", indexes = {
+        @Index(name = "idx_hero_slides_active_order", columnList = "is_active, display_order"),
+        @Index(name = "idx_hero_slides_order", columnList = "display_order")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class HeroSlide {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hero_slides_id")
+    @TableGenerator(name = "hero_slides_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "hero_slides",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -0,0 +1,17 @@
+package com.example.demo.model;
+
+/**
+ * Shared settings for the table-backed id generators. Each entity keeps one row in
+ * id_generators (keyed by its table name) and reserves ALLOCATION_SIZE ids per round trip,
+ * which keeps ids known before the INSERT so Hibernate can batch inserts.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
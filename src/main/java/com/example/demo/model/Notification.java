@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,14 +8,27 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@EntityListeners(CollectionVersionListener.class)
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_time", columnList = "notification_time"),
+        @Index(name = "idx_notifications_unread_time", columnList = "is_unread, notification_time"),
+        @Index(name = "idx_notifications_type_time", columnList = "notification_type, notification_time"),
+        @Index(name = "idx_notifications_priority_time", columnList = "priority_level, notification_time"),
+        @Index(name = "idx_notifications_expiry", columnList = "expiry_date"),
+        @Index(name = "idx_notifications_audience", columnList = "target_audience"),
+        @Index(name = "idx_notifications_society", columnList = "society_id"),
+        @Index(name = "idx_notifications_related_event", columnList = "related_event_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id")
+    @TableGenerator(name = "notifications_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "notifications",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,14 +8,24 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "past_events")
+@EntityListeners(CollectionVersionListener.class)
+@Table(name = "past_events", indexes = {
+        @Index(name = "idx_past_events_date", columnList = "event_date"),
+        @Index(name = "idx_past_events_society_date", columnList = "society_id, event_date"),
+        @Index(name = "idx_past_events_council_date", columnList = "council_id, event_date"),
+        @Index(name = "idx_past_events_branch_date", columnList = "hosting_branch_name, event_date"),
+        @Index(name = "idx_past_events_rating", columnList = "feedback_rating")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class PastEvent {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "past_events_id")
+    @TableGenerator(name = "past_events_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "past_events",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -1,19 +1,32 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "societies")
+@EntityListeners(CollectionVersionListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "society")
+@Table(name = "societies", indexes = {
+        @Index(name = "idx_societies_active_name", columnList = "is_active, name"),
+        @Index(name = "idx_societies_active_members", columnList = "is_active, member_count"),
+        @Index(name = "idx_societies_active_established", columnList = "is_active, established_year")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Society {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "societies_id")
+    @TableGenerator(name = "societies_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "societies",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -54,4 +67,8 @@ public class Society {
     
     @Column(name = "established_year")
     private Integer establishedYear;
+    
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version; // Bumped on every write, including partial JSON updates
 }
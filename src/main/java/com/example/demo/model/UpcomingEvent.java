@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.example.demo.service.CollectionVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,14 +8,27 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "upcoming_events")
+@EntityListeners(CollectionVersionListener.class)
+@Table(name = "upcoming_events", indexes = {
+        @Index(name = "idx_upcoming_events_date", columnList = "event_date"),
+        @Index(name = "idx_upcoming_events_society_date", columnList = "society_id, event_date"),
+        @Index(name = "idx_upcoming_events_council_date", columnList = "council_id, event_date"),
+        @Index(name = "idx_upcoming_events_open_date", columnList = "is_registration_open, event_date"),
+        @Index(name = "idx_upcoming_events_deadline", columnList = "registration_deadline"),
+        @Index(name = "idx_upcoming_events_type", columnList = "event_type"),
+        @Index(name = "idx_upcoming_events_branch_date", columnList = "hosting_branch_name, event_date"),
+        @Index(name = "idx_upcoming_events_fee_date", columnList = "registration_fee, event_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class UpcomingEvent {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "upcoming_events_id")
+    @TableGenerator(name = "upcoming_events_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "upcoming_events",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 500)
@@ -7,14 +7,28 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_active", columnList = "role, is_active, full_name"),
+        @Index(name = "idx_users_active_name", columnList = "is_active, full_name"),
+        @Index(name = "idx_users_department_year", columnList = "department, year_of_study"),
+        @Index(name = "idx_users_year_of_study", columnList = "year_of_study"),
+        @Index(name = "idx_users_student_id", columnList = "student_id"),
+        @Index(name = "idx_users_membership_id", columnList = "ieee_membership_id"),
+        @Index(name = "idx_users_verification_token", columnList = "verification_token"),
+        @Index(name = "idx_users_reset_token", columnList = "reset_password_token"),
+        @Index(name = "idx_users_email_verified", columnList = "email_verified"),
+        @Index(name = "idx_users_last_login", columnList = "last_login")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "users",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -19,6 +19,17 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
     
     Page<Achievement> findAllByOrderByYearDesc(Pageable pageable);
     
+    // Keyset pagination on (year, id); rows without a year sort last
+    @Query("SELECT a FROM Achievement a ORDER BY a.year DESC NULLS LAST, a.id DESC")
+    List<Achievement> findKeysetFirstPage(Pageable limit);
+    
+    @Query("SELECT a FROM Achievement a WHERE a.year < :key OR (a.year = :key AND a.id < :id) OR a.year IS NULL " +
+           "ORDER BY a.year DESC NULLS LAST, a.id DESC")
+    List<Achievement> findKeysetPageAfter(@Param("key") String key, @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT a FROM Achievement a WHERE a.year IS NULL AND a.id < :id ORDER BY a.year DESC NULLS LAST, a.id DESC")
+    List<Achievement> findKeysetPageAfterNullKey(@Param("id") Long id, Pageable limit);
+    
     List<Achievement> findByYear(String year);
     
     List<Achievement> findByYearOrderByAchievementDateDesc(String year);
@@ -27,6 +38,16 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
     
     List<Achievement> findByCouncil(Council council);
     
+    // Explicit query: the derived version outer-joins societies instead of filtering on the foreign key
+    @Query(value = "SELECT a FROM Achievement a WHERE a.society.id = :societyId",
+           countQuery = "SELECT COUNT(a) FROM Achievement a WHERE a.society.id = :societyId")
+    Page<Achievement> findBySocietyId(@Param("societyId") Long societyId, Pageable pageable);
+    
+    // Explicit query: the derived version outer-joins councils instead of filtering on the foreign key
+    @Query(value = "SELECT a FROM Achievement a WHERE a.council.id = :councilId",
+           countQuery = "SELECT COUNT(a) FROM Achievement a WHERE a.council.id = :councilId")
+    Page<Achievement> findByCouncilId(@Param("councilId") Long councilId, Pageable pageable);
+    
     List<Achievement> findByIsFeaturedTrueOrderByAchievementDateDesc();
     
     List<Achievement> findByAwardCategory(String awardCategory);
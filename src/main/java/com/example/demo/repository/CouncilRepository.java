@@ -1,8 +1,12 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Council;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +18,7 @@ public interface CouncilRepository extends JpaRepository<Council, Long> {
     
     List<Council> findByIsActiveTrue();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Council> findByIsActiveTrueOrderByNameAsc();
     
     Optional<Council> findByNameIgnoreCase(String name);
@@ -29,5 +34,40 @@ public interface CouncilRepository extends JpaRepository<Council, Long> {
     @Query("SELECT c FROM Council c WHERE c.isActive = true AND c.websiteUrl IS NOT NULL")
     List<Council> findActiveCouncilsWithWebsite();
     
+    // Summary rows without the slate members JSON, for list endpoints
+    @Query("SELECT c.id, c.name, c.image, c.description, c.vision, c.mission, c.objectives, c.isActive, c.chairPerson, " +
+           "c.memberCount, c.studentMemberCount, c.establishedYear, c.websiteUrl FROM Council c")
+    List<Object[]> findAllSummaries();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c.id, c.name, c.image, c.description, c.vision, c.mission, c.objectives, c.isActive, c.chairPerson, " +
+           "c.memberCount, c.studentMemberCount, c.establishedYear, c.websiteUrl FROM Council c WHERE c.isActive = true ORDER BY c.name ASC")
+    List<Object[]> findActiveSummaries();
+    
+    @Query("SELECT c.version FROM Council c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    @Query("SELECT c.slateMembers, c.version FROM Council c WHERE c.id = :id")
+    List<Object[]> findSlateMembersById(@Param("id") Long id);
+    
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "councils"))
+    @Query(value = "UPDATE councils SET slate_members = JSON_ARRAY_APPEND(COALESCE(slate_members, JSON_ARRAY()), '$', CAST(:member AS JSON)), " +
+                   "member_count = JSON_LENGTH(slate_members), version = COALESCE(version, 0) + 1 WHERE id = :id", nativeQuery = true)
+    int appendSlateMember(@Param("id") Long id, @Param("member") String memberJson);
+    
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "councils"))
+    @Query(value = "UPDATE councils SET slate_members = JSON_SET(slate_members, CONCAT('$[', :index, ']'), CAST(:member AS JSON)), " +
+                   "version = COALESCE(version, 0) + 1 WHERE id = :id AND JSON_LENGTH(slate_members) > :index", nativeQuery = true)
+    int replaceSlateMember(@Param("id") Long id, @Param("index") int index, @Param("member") String memberJson);
+    
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "councils"))
+    @Query(value = "UPDATE councils SET slate_members = JSON_REMOVE(slate_members, CONCAT('$[', :index, ']')), " +
+                   "member_count = JSON_LENGTH(slate_members), version = COALESCE(version, 0) + 1 " +
+                   "WHERE id = :id AND JSON_LENGTH(slate_members) > :index", nativeQuery = true)
+    int removeSlateMember(@Param("id") Long id, @Param("index") int index);
+    
     long countByIsActiveTrue();
 }
@@ -1,9 +1,11 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.EventRegistration;
+import com.example.demo.model.PastEvent;
 import com.example.demo.model.User;
 import com.example.demo.model.UpcomingEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,7 +23,8 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     
     List<EventRegistration> findByUserAndEvent(User user, UpcomingEvent event);
     
-    Optional<EventRegistration> findByUserIdAndEventId(Long userId, Long eventId);
+    @Query("SELECT er FROM EventRegistration er WHERE er.user.id = :userId AND er.event.id = :eventId")
+    Optional<EventRegistration> findByUserIdAndEventId(@Param("userId") Long userId, @Param("eventId") Long eventId);
     
     List<EventRegistration> findByStatus(EventRegistration.RegistrationStatus status);
     
@@ -76,4 +79,16 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     long countByPaymentStatus(EventRegistration.PaymentStatus paymentStatus);
     
     long countByAttendanceStatus(EventRegistration.AttendanceStatus attendanceStatus);
+    
+    @Query("SELECT er.event.id, COUNT(er), AVG(er.feedbackRating) FROM EventRegistration er " +
+           "WHERE er.event.id IN :eventIds AND er.status <> 'CANCELLED' GROUP BY er.event.id")
+    List<Object[]> getRegistrationSummaryByEventIds(@Param("eventIds") List<Long> eventIds);
+    
+    @Modifying
+    @Query("UPDATE EventRegistration er SET er.pastEvent = :pastEvent, er.event = null, er.updatedAt = :now " +
+           "WHERE er.event.id = :eventId")
+    int moveToPastEvent(@Param("eventId") Long eventId, @Param("pastEvent") PastEvent pastEvent,
+                        @Param("now") LocalDateTime now);
+    
+    long countByPastEvent(PastEvent pastEvent);
 }
@@ -8,6 +8,7 @@ import com.example.demo.model.Council;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,6 +23,17 @@ public interface GalleryItemRepository extends JpaRepository<GalleryItem, Long>
     
     Page<GalleryItem> findAllByOrderByUploadDateDesc(Pageable pageable);
     
+    // Keyset pagination on (uploadDate, id); rows without a uploadDate sort last
+    @Query("SELECT gi FROM GalleryItem gi ORDER BY gi.uploadDate DESC NULLS LAST, gi.id DESC")
+    List<GalleryItem> findKeysetFirstPage(Pageable limit);
+    
+    @Query("SELECT gi FROM GalleryItem gi WHERE gi.uploadDate < :key OR (gi.uploadDate = :key AND gi.id < :id) OR gi.uploadDate IS NULL " +
+           "ORDER BY gi.uploadDate DESC NULLS LAST, gi.id DESC")
+    List<GalleryItem> findKeysetPageAfter(@Param("key") LocalDateTime key, @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT gi FROM GalleryItem gi WHERE gi.uploadDate IS NULL AND gi.id < :id ORDER BY gi.uploadDate DESC NULLS LAST, gi.id DESC")
+    List<GalleryItem> findKeysetPageAfterNullKey(@Param("id") Long id, Pageable limit);
+    
     List<GalleryItem> findByIsFeaturedTrueOrderByUploadDateDesc();
     
     List<GalleryItem> findByCategory(String category);
@@ -36,6 +48,16 @@ public interface GalleryItemRepository extends JpaRepository<GalleryItem, Long>
     
     List<GalleryItem> findByCouncil(Council council);
     
+    // Explicit query: the derived version outer-joins societies instead of filtering on the foreign key
+    @Query(value = "SELECT gi FROM GalleryItem gi WHERE gi.society.id = :societyId",
+           countQuery = "SELECT COUNT(gi) FROM GalleryItem gi WHERE gi.society.id = :societyId")
+    Page<GalleryItem> findBySocietyId(@Param("societyId") Long societyId, Pageable pageable);
+    
+    // Explicit query: the derived version outer-joins councils instead of filtering on the foreign key
+    @Query(value = "SELECT gi FROM GalleryItem gi WHERE gi.council.id = :councilId",
+           countQuery = "SELECT COUNT(gi) FROM GalleryItem gi WHERE gi.council.id = :councilId")
+    Page<GalleryItem> findByCouncilId(@Param("councilId") Long councilId, Pageable pageable);
+    
     @Query("SELECT gi FROM GalleryItem gi WHERE LOWER(gi.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(gi.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(gi.tags) LIKE LOWER(CONCAT('%', :keyword, '%'))")
@@ -55,7 +77,21 @@ public interface GalleryItemRepository extends JpaRepository<GalleryItem, Long>
            "GROUP BY gi.category ORDER BY COUNT(gi) DESC")
     List<Object[]> getGalleryItemCountByCategory();
     
+    @Query("SELECT gi.id, gi.width, gi.height, gi.uploadDate FROM GalleryItem gi")
+    List<Object[]> findLayoutRows();
+    
+    @Query("SELECT gi.id, gi.perceptualHash FROM GalleryItem gi WHERE gi.perceptualHash IS NOT NULL")
+    List<Object[]> findPerceptualHashes();
+    
     long countByIsFeaturedTrue();
     
     long countByCategory(String category);
+    
+    @Modifying
+    @Query("UPDATE GalleryItem gi SET gi.pastEvent = :pastEvent WHERE gi.upcomingEvent.id = :upcomingEventId AND gi.pastEvent IS NULL")
+    int attachToPastEvent(@Param("upcomingEventId") Long upcomingEventId, @Param("pastEvent") PastEvent pastEvent);
+    
+    @Modifying
+    @Query("UPDATE GalleryItem gi SET gi.upcomingEvent = null WHERE gi.upcomingEvent.id IN :upcomingEventIds")
+    int detachUpcomingEvents(@Param("upcomingEventIds") List<Long> upcomingEventIds);
 }
@@ -1,8 +1,11 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.HeroSlide;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +13,7 @@ import java.util.List;
 @Repository
 public interface HeroSlideRepository extends JpaRepository<HeroSlide, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<HeroSlide> findByIsActiveTrueOrderByDisplayOrderAsc();
     
     List<HeroSlide> findAllByOrderByDisplayOrderAsc();
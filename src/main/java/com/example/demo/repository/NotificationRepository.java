@@ -6,6 +6,7 @@ import com.example.demo.model.UpcomingEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,6 +21,17 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     Page<Notification> findAllByOrderByTimeDesc(Pageable pageable);
     
+    // Keyset pagination on (time, id); rows without a time sort last
+    @Query("SELECT n FROM Notification n ORDER BY n.time DESC NULLS LAST, n.id DESC")
+    List<Notification> findKeysetFirstPage(Pageable limit);
+    
+    @Query("SELECT n FROM Notification n WHERE n.time < :key OR (n.time = :key AND n.id < :id) OR n.time IS NULL " +
+           "ORDER BY n.time DESC NULLS LAST, n.id DESC")
+    List<Notification> findKeysetPageAfter(@Param("key") LocalDateTime key, @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT n FROM Notification n WHERE n.time IS NULL AND n.id < :id ORDER BY n.time DESC NULLS LAST, n.id DESC")
+    List<Notification> findKeysetPageAfterNullKey(@Param("id") Long id, Pageable limit);
+    
     List<Notification> findByUnreadTrueOrderByTimeDesc();
     
     List<Notification> findByUnreadFalseOrderByTimeDesc();
@@ -61,4 +73,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     long countByType(Notification.NotificationType type);
     
     long countByPriority(Notification.PriorityLevel priority);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.relatedEvent = null WHERE n.relatedEvent.id IN :eventIds")
+    int clearRelatedEvents(@Param("eventIds") List<Long> eventIds);
 }
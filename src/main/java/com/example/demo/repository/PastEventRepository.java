@@ -20,10 +20,31 @@ public interface PastEventRepository extends JpaRepository<PastEvent, Long> {
     
     Page<PastEvent> findAllByOrderByEventDateDesc(Pageable pageable);
     
+    // Keyset pagination on (eventDate, id); rows without a eventDate sort last
+    @Query("SELECT pe FROM PastEvent pe ORDER BY pe.eventDate DESC NULLS LAST, pe.id DESC")
+    List<PastEvent> findKeysetFirstPage(Pageable limit);
+    
+    @Query("SELECT pe FROM PastEvent pe WHERE pe.eventDate < :key OR (pe.eventDate = :key AND pe.id < :id) OR pe.eventDate IS NULL " +
+           "ORDER BY pe.eventDate DESC NULLS LAST, pe.id DESC")
+    List<PastEvent> findKeysetPageAfter(@Param("key") LocalDateTime key, @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT pe FROM PastEvent pe WHERE pe.eventDate IS NULL AND pe.id < :id ORDER BY pe.eventDate DESC NULLS LAST, pe.id DESC")
+    List<PastEvent> findKeysetPageAfterNullKey(@Param("id") Long id, Pageable limit);
+    
     List<PastEvent> findBySociety(Society society);
     
     List<PastEvent> findByCouncil(Council council);
     
+    // Explicit query: the derived version outer-joins societies instead of filtering on the foreign key
+    @Query(value = "SELECT pe FROM PastEvent pe WHERE pe.society.id = :societyId",
+           countQuery = "SELECT COUNT(pe) FROM PastEvent pe WHERE pe.society.id = :societyId")
+    Page<PastEvent> findBySocietyId(@Param("societyId") Long societyId, Pageable pageable);
+    
+    // Explicit query: the derived version outer-joins councils instead of filtering on the foreign key
+    @Query(value = "SELECT pe FROM PastEvent pe WHERE pe.council.id = :councilId",
+           countQuery = "SELECT COUNT(pe) FROM PastEvent pe WHERE pe.council.id = :councilId")
+    Page<PastEvent> findByCouncilId(@Param("councilId") Long councilId, Pageable pageable);
+    
     List<PastEvent> findByEventDateBetweenOrderByEventDateDesc(LocalDateTime startDate, LocalDateTime endDate);
     
     @Query("SELECT pe FROM PastEvent pe WHERE pe.eventDate >= :startDate AND pe.eventDate <= :endDate")
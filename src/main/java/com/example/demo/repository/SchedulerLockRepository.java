@@ -0,0 +1,26 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    
+    // Lease times come from the database clock, so instances with skewed clocks still agree on expiry
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = local datetime + (:leaseSeconds) second, " +
+           "l.lockedAt = local datetime, l.lockedBy = :owner " +
+           "WHERE l.name = :name AND l.lockedUntil <= local datetime")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = local datetime WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -1,8 +1,12 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Society;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +18,7 @@ public interface SocietyRepository extends JpaRepository<Society, Long> {
     
     List<Society> findByIsActiveTrue();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Society> findByIsActiveTrueOrderByNameAsc();
     
     Optional<Society> findByNameIgnoreCase(String name);
@@ -27,5 +32,40 @@ public interface SocietyRepository extends JpaRepository<Society, Long> {
     @Query("SELECT s FROM Society s WHERE s.isActive = true AND LOWER(s.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Society> searchSocietiesByKeyword(@Param("keyword") String keyword);
     
+    // Summary rows without the JSON columns, for list endpoints
+    @Query("SELECT s.id, s.name, s.image, s.description, s.vision, s.mission, s.objectives, s.isActive, " +
+           "s.memberCount, s.studentMemberCount, s.establishedYear FROM Society s")
+    List<Object[]> findAllSummaries();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT s.id, s.name, s.image, s.description, s.vision, s.mission, s.objectives, s.isActive, " +
+           "s.memberCount, s.studentMemberCount, s.establishedYear FROM Society s WHERE s.isActive = true ORDER BY s.name ASC")
+    List<Object[]> findActiveSummaries();
+    
+    @Query("SELECT s.version FROM Society s WHERE s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    @Query("SELECT s.slateMembers, s.version FROM Society s WHERE s.id = :id")
+    List<Object[]> findSlateMembersById(@Param("id") Long id);
+    
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "societies"))
+    @Query(value = "UPDATE societies SET slate_members = JSON_ARRAY_APPEND(COALESCE(slate_members, JSON_ARRAY()), '$', CAST(:member AS JSON)), " +
+                   "member_count = JSON_LENGTH(slate_members), version = COALESCE(version, 0) + 1 WHERE id = :id", nativeQuery = true)
+    int appendSlateMember(@Param("id") Long id, @Param("member") String memberJson);
+    
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "societies"))
+    @Query(value = "UPDATE societies SET slate_members = JSON_SET(slate_members, CONCAT('$[', :index, ']'), CAST(:member AS JSON)), " +
+                   "version = COALESCE(version, 0) + 1 WHERE id = :id AND JSON_LENGTH(slate_members) > :index", nativeQuery = true)
+    int replaceSlateMember(@Param("id") Long id, @Param("index") int index, @Param("member") String memberJson);
+    
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "societies"))
+    @Query(value = "UPDATE societies SET slate_members = JSON_REMOVE(slate_members, CONCAT('$[', :index, ']')), " +
+                   "member_count = JSON_LENGTH(slate_members), version = COALESCE(version, 0) + 1 " +
+                   "WHERE id = :id AND JSON_LENGTH(slate_members) > :index", nativeQuery = true)
+    int removeSlateMember(@Param("id") Long id, @Param("index") int index);
+    
     long countByIsActiveTrue();
 }
@@ -6,6 +6,7 @@ import com.example.demo.model.Council;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,10 +21,32 @@ public interface UpcomingEventRepository extends JpaRepository<UpcomingEvent, Lo
     
     Page<UpcomingEvent> findAllByOrderByEventDateAsc(Pageable pageable);
     
+    // Keyset pagination on (eventDate, id). Dated rows come first; rows without an eventDate follow,
+    // ordered by id. The two segments are separate queries so both can walk an index
+    @Query("SELECT ue FROM UpcomingEvent ue WHERE ue.eventDate IS NOT NULL ORDER BY ue.eventDate ASC, ue.id ASC")
+    List<UpcomingEvent> findKeysetFirstPage(Pageable limit);
+    
+    @Query("SELECT ue FROM UpcomingEvent ue WHERE ue.eventDate > :key OR (ue.eventDate = :key AND ue.id > :id) " +
+           "ORDER BY ue.eventDate ASC, ue.id ASC")
+    List<UpcomingEvent> findKeysetPageAfter(@Param("key") LocalDateTime key, @Param("id") Long id, Pageable limit);
+    
+    @Query("SELECT ue FROM UpcomingEvent ue WHERE ue.eventDate IS NULL AND ue.id > :id ORDER BY ue.id ASC")
+    List<UpcomingEvent> findKeysetPageAfterNullKey(@Param("id") Long id, Pageable limit);
+    
     List<UpcomingEvent> findBySociety(Society society);
     
     List<UpcomingEvent> findByCouncil(Council council);
     
+    // Explicit query: the derived version outer-joins societies instead of filtering on the foreign key
+    @Query(value = "SELECT ue FROM UpcomingEvent ue WHERE ue.society.id = :societyId",
+           countQuery = "SELECT COUNT(ue) FROM UpcomingEvent ue WHERE ue.society.id = :societyId")
+    Page<UpcomingEvent> findBySocietyId(@Param("societyId") Long societyId, Pageable pageable);
+    
+    // Explicit query: the derived version outer-joins councils instead of filtering on the foreign key
+    @Query(value = "SELECT ue FROM UpcomingEvent ue WHERE ue.council.id = :councilId",
+           countQuery = "SELECT COUNT(ue) FROM UpcomingEvent ue WHERE ue.council.id = :councilId")
+    Page<UpcomingEvent> findByCouncilId(@Param("councilId") Long councilId, Pageable pageable);
+    
     List<UpcomingEvent> findByEventDateAfterOrderByEventDateAsc(LocalDateTime currentDate);
     
     List<UpcomingEvent> findByIsRegistrationOpenTrueOrderByEventDateAsc();
@@ -55,4 +78,13 @@ public interface UpcomingEventRepository extends JpaRepository<UpcomingEvent, Lo
     long countByEventDateAfter(LocalDateTime currentDate);
     
     long countByIsRegistrationOpenTrue();
+    
+    // Lifecycle engine: set-based close, then batched migration of finished events
+    @Modifying
+    @Query("UPDATE UpcomingEvent ue SET ue.isRegistrationOpen = false, ue.updatedAt = :now " +
+           "WHERE ue.isRegistrationOpen = true AND (ue.registrationDeadline < :now OR ue.eventDate < :now)")
+    int closeExpiredRegistrations(@Param("now") LocalDateTime now);
+    
+    @Query("SELECT ue FROM UpcomingEvent ue WHERE ue.eventDate < :cutoff ORDER BY ue.eventDate ASC, ue.id ASC")
+    List<UpcomingEvent> findFinishedEvents(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
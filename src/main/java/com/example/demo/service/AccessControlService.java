@@ -0,0 +1,96 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.dto.UserDTO;
+import com.example.demo.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Decides whether the bearer of a token may manage a society or council. The user behind a token is
+ * cached per token and decisions per (user id, scope, entity id), so a dashboard request normally
+ * costs two cache lookups and no query, and a user's tokens share their decisions. Invalid tokens are
+ * not cached, so the caches cannot be filled with made-up tokens and a token works as soon as it is
+ * issued. Both caches expire after a minute and are cleared when a user is updated or deactivated.
+ */
+@Service
+@Slf4j
+public class AccessControlService {
+
+    public enum EntityScope {
+        SOCIETY(User.UserRole.SOCIETY_ADMIN, "society"),
+        COUNCIL(User.UserRole.COUNCIL_ADMIN, "council");
+
+        private final User.UserRole adminRole;
+        private final String label;
+
+        EntityScope(User.UserRole adminRole, String label) {
+            this.adminRole = adminRole;
+            this.label = label;
+        }
+    }
+
+    /** {@code status} is {@code OK} when access is granted; {@code user} is null for an invalid token. */
+    public record AccessDecision(HttpStatus status, String error, UserDTO user) {
+
+        public boolean granted() {
+            return status == HttpStatus.OK;
+        }
+    }
+
+    private record ScopeKey(Long userId, EntityScope scope, Long entityId) {
+    }
+
+    private static final AccessDecision INVALID_TOKEN = new AccessDecision(HttpStatus.UNAUTHORIZED, "Invalid token", null);
+
+    private final AuthService authService;
+    private final Cache principals;
+    private final Cache decisions;
+
+    public AccessControlService(AuthService authService, CacheManager cacheManager) {
+        this.authService = authService;
+        this.principals = cacheManager.getCache(CacheConfig.ACCESS_PRINCIPALS);
+        this.decisions = cacheManager.getCache(CacheConfig.ACCESS_DECISIONS);
+    }
+
+    public AccessDecision authorize(String authorization, EntityScope scope, Long entityId) {
+        if (authorization == null) {
+            return INVALID_TOKEN;
+        }
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+        UserDTO user = resolve(token);
+        if (user == null) {
+            log.warn("{} {} access denied: invalid token", scope.label, entityId);
+            return INVALID_TOKEN;
+        }
+        return decisions.get(new ScopeKey(user.getId(), scope, entityId), () -> decide(user, scope, entityId));
+    }
+
+    private UserDTO resolve(String token) {
+        UserDTO user = principals.get(token, UserDTO.class);
+        if (user == null) {
+            user = authService.getUserFromToken(token).orElse(null);
+            if (user != null) {
+                principals.put(token, user);
+            }
+        }
+        return user;
+    }
+
+    private static AccessDecision decide(UserDTO user, EntityScope scope, Long entityId) {
+        if (user.getRole() != scope.adminRole && user.getRole() != User.UserRole.ADMIN) {
+            log.warn("{} {} access denied: user {} has role {}", scope.label, entityId, user.getId(), user.getRole());
+            return new AccessDecision(HttpStatus.FORBIDDEN, "Insufficient permissions", user);
+        }
+        if (user.getRole() == scope.adminRole && !entityId.equals(user.getEntityId())) {
+            log.warn("{} {} access denied: user {} administers {} {}", scope.label, entityId, user.getId(),
+                    scope.label, user.getEntityId());
+            return new AccessDecision(HttpStatus.FORBIDDEN, "Access denied for this " + scope.label, user);
+        }
+        log.debug("{} {} access granted to user {}", scope.label, entityId, user.getId());
+        return new AccessDecision(HttpStatus.OK, null, user);
+    }
+}
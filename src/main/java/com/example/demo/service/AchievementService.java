@@ -1,12 +1,11 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.AchievementDTO;
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.model.Achievement;
 import com.example.demo.model.Society;
 import com.example.demo.model.Council;
 import com.example.demo.repository.AchievementRepository;
-import com.example.demo.repository.SocietyRepository;
-import com.example.demo.repository.CouncilRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,9 +24,9 @@ import java.util.stream.Collectors;
 public class AchievementService {
 
     private final AchievementRepository achievementRepository;
-    private final SocietyRepository societyRepository;
-    private final CouncilRepository councilRepository;
+    private final ReferenceLookupService referenceLookupService;
 
+    @Transactional(readOnly = true)
     public List<AchievementDTO> getAllAchievements() {
         log.info("Fetching all achievements");
         return achievementRepository.findAllByOrderByYearDesc()
@@ -36,18 +35,37 @@ public class AchievementService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<AchievementDTO> getAllAchievements(Pageable pageable) {
         log.info("Fetching achievements with pagination");
         return achievementRepository.findAllByOrderByYearDesc(pageable)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AchievementDTO> getAchievementsCursorPage(String cursor, int size, boolean includeTotal) {
+        log.info("Fetching achievements with cursor pagination");
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Achievement> rows;
+        if (after == null) {
+            rows = achievementRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else if (after.key() == null) {
+            rows = achievementRepository.findKeysetPageAfterNullKey(after.id(), KeysetCursor.limit(size));
+        } else {
+            rows = achievementRepository.findKeysetPageAfter(after.key(), after.id(), KeysetCursor.limit(size));
+        }
+        return KeysetCursor.toPage(rows, size, this::convertToDTO, Achievement::getYear, Achievement::getId,
+                includeTotal ? achievementRepository.count() : null);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<AchievementDTO> getAchievementById(Long id) {
         log.info("Fetching achievement with id: {}", id);
         return achievementRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<AchievementDTO> getAchievementsByYear(String year) {
         log.info("Fetching achievements for year: {}", year);
         return achievementRepository.findByYearOrderByAchievementDateDesc(year)
@@ -56,6 +74,7 @@ public class AchievementService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AchievementDTO> getFeaturedAchievements() {
         log.info("Fetching featured achievements");
         return achievementRepository.findByIsFeaturedTrueOrderByAchievementDateDesc()
@@ -64,6 +83,7 @@ public class AchievementService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AchievementDTO> getAchievementsByCategory(String category) {
         log.info("Fetching achievements by category: {}", category);
         return achievementRepository.findByAwardCategory(category)
@@ -98,6 +118,7 @@ public class AchievementService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<AchievementDTO> searchAchievements(String keyword) {
         log.info("Searching achievements with keyword: {}", keyword);
         return achievementRepository.searchAchievementsByKeyword(keyword)
@@ -106,14 +127,17 @@ public class AchievementService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getAchievementCountByYear() {
         return achievementRepository.getAchievementCountByYear();
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getAchievementCountByCategory() {
         return achievementRepository.getAchievementCountByCategory();
     }
 
+    @Transactional(readOnly = true)
     public long getFeaturedAchievementsCount() {
         return achievementRepository.countByIsFeaturedTrue();
     }
@@ -155,37 +179,27 @@ public class AchievementService {
         achievement.setIsFeatured(achievementDTO.getIsFeatured() != null ? achievementDTO.getIsFeatured() : false);
 
         if (achievementDTO.getSocietyId() != null) {
-            Society society = societyRepository.findById(achievementDTO.getSocietyId()).orElse(null);
+            Society society = referenceLookupService.findSociety(achievementDTO.getSocietyId());
             achievement.setSociety(society);
         }
 
         if (achievementDTO.getCouncilId() != null) {
-            Council council = councilRepository.findById(achievementDTO.getCouncilId()).orElse(null);
+            Council council = referenceLookupService.findCouncil(achievementDTO.getCouncilId());
             achievement.setCouncil(council);
         }
     }
 
-    public List<AchievementDTO> getAchievementsBySocietyId(Long societyId) {
-        log.info("Fetching achievements for society id: {}", societyId);
-        Society society = societyRepository.findById(societyId).orElse(null);
-        if (society == null) {
-            return List.of();
-        }
-        return achievementRepository.findBySociety(society)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AchievementDTO> getAchievementsBySocietyId(Long societyId, Pageable pageable) {
+        log.info("Fetching achievements for society id: {} (page {})", societyId, pageable.getPageNumber());
+        return achievementRepository.findBySocietyId(societyId, pageable)
+                .map(this::convertToDTO);
     }
 
-    public List<AchievementDTO> getAchievementsByCouncilId(Long councilId) {
-        log.info("Fetching achievements for council id: {}", councilId);
-        Council council = councilRepository.findById(councilId).orElse(null);
-        if (council == null) {
-            return List.of();
-        }
-        return achievementRepository.findByCouncil(council)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<AchievementDTO> getAchievementsByCouncilId(Long councilId, Pageable pageable) {
+        log.info("Fetching achievements for council id: {} (page {})", councilId, pageable.getPageNumber());
+        return achievementRepository.findByCouncilId(councilId, pageable)
+                .map(this::convertToDTO);
     }
 }
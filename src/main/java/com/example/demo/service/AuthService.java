@@ -105,6 +105,7 @@ public class AuthService {
         return token != null && token.startsWith("ieee_token_") && token.length() > 20;
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserFromToken(String token) {
         // Simplified token parsing - in production parse JWT
         if (!validateToken(token)) {
@@ -127,7 +128,7 @@ public class AuthService {
     }
 
     public boolean logout(String token) {
-        log.info("User logout for token: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
+        log.info("User logout");
         // In production, add token to blacklist or implement token invalidation
         return true;
     }
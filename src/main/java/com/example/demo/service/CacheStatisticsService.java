@@ -0,0 +1,38 @@
+package com.example.demo.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final CacheManager cacheManager;
+
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        for (String name : new TreeSet<>(cacheManager.getCacheNames())) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                continue;
+            }
+            CacheStats stats = nativeCache.stats();
+            Map<String, Object> cacheStatistics = new LinkedHashMap<>();
+            cacheStatistics.put("size", nativeCache.estimatedSize());
+            cacheStatistics.put("hitCount", stats.hitCount());
+            cacheStatistics.put("missCount", stats.missCount());
+            cacheStatistics.put("hitRate", stats.hitRate());
+            cacheStatistics.put("evictionCount", stats.evictionCount());
+            cacheStatistics.put("averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000.0);
+            statistics.put(name, cacheStatistics);
+        }
+        return statistics;
+    }
+}
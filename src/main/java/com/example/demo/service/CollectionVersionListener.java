@@ -0,0 +1,59 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Achievement;
+import com.example.demo.model.Council;
+import com.example.demo.model.GalleryItem;
+import com.example.demo.model.HeroSlide;
+import com.example.demo.model.Notification;
+import com.example.demo.model.PastEvent;
+import com.example.demo.model.Society;
+import com.example.demo.model.UpcomingEvent;
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that records writes to public content in {@link CollectionVersionService}.
+ * The service is looked up lazily so JPA test slices without the service layer still boot.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollectionVersionListener {
+
+    private final ObjectProvider<CollectionVersionService> collectionVersionService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        ContentCollection collection = collectionOf(entity);
+        if (collection != null) {
+            collectionVersionService.ifAvailable(service -> service.markChanged(collection));
+        }
+    }
+
+    private static ContentCollection collectionOf(Object entity) {
+        if (entity instanceof Society) {
+            return ContentCollection.SOCIETIES;
+        } else if (entity instanceof Council) {
+            return ContentCollection.COUNCILS;
+        } else if (entity instanceof PastEvent) {
+            return ContentCollection.PAST_EVENTS;
+        } else if (entity instanceof UpcomingEvent) {
+            return ContentCollection.UPCOMING_EVENTS;
+        } else if (entity instanceof Achievement) {
+            return ContentCollection.ACHIEVEMENTS;
+        } else if (entity instanceof GalleryItem) {
+            return ContentCollection.GALLERY;
+        } else if (entity instanceof Notification) {
+            return ContentCollection.NOTIFICATIONS;
+        } else if (entity instanceof HeroSlide) {
+            return ContentCollection.HERO_SLIDES;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versions of the public collections, used to build HTTP validators (ETag and Last-Modified). A
+ * version is derived from the database, not from this process: a hash of the row count and the
+ * table's change marker ({@code MAX(updated_at)}, or {@code SUM(version)} for the tables with an
+ * optimistic-lock column). Every instance therefore computes the same version for the same data,
+ * and inserts, updates and deletes made over plain JDBC or by hand are picked up as well, as long
+ * as they change the row count or the marker column.
+ * <p>
+ * Each version is cached for {@code http.conditional.version-ttl-ms}, so another instance's writes
+ * show up within that window. Writes through the services on this instance expire the cached
+ * version once they commit, so the next request already sees them. Last-Modified is the time this
+ * instance first saw the current version (the boot time for the first one). It can differ between
+ * instances, but it is never earlier than the change it reports.
+ */
+@Service
+@Slf4j
+public class CollectionVersionService {
+
+    public enum ContentCollection {
+        SOCIETIES("societies", "SUM(version)"),
+        COUNCILS("councils", "SUM(version)"),
+        PAST_EVENTS("past_events", "MAX(updated_at)"),
+        UPCOMING_EVENTS("upcoming_events", "MAX(updated_at)"),
+        ACHIEVEMENTS("achievements", "MAX(updated_at)"),
+        GALLERY("gallery_items", "MAX(updated_at)"),
+        NOTIFICATIONS("notifications", "MAX(updated_at)"),
+        HERO_SLIDES("hero_slides", "MAX(updated_at)");
+
+        private final String query;
+
+        ContentCollection(String table, String marker) {
+            this.query = "SELECT COUNT(*), " + marker + " FROM " + table;
+        }
+    }
+
+    private record Snapshot(String fingerprint, long version, Instant changedAt, long checkedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Instant bootTime;
+    private final Map<ContentCollection, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Value("${http.conditional.version-ttl-ms:2000}")
+    private long versionTtlMs;
+
+    @Autowired
+    public CollectionVersionService(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Clock.systemUTC());
+    }
+
+    CollectionVersionService(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.bootTime = clock.instant();
+    }
+
+    public void markChanged(ContentCollection collection) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    expire(collection);
+                }
+            });
+        } else {
+            expire(collection);
+        }
+    }
+
+    public long getVersion(ContentCollection collection) {
+        return snapshot(collection).version();
+    }
+
+    public Instant getLastModified(Collection<ContentCollection> collections) {
+        Instant latest = bootTime;
+        for (ContentCollection collection : collections) {
+            Instant changed = snapshot(collection).changedAt();
+            if (changed.isAfter(latest)) {
+                latest = changed;
+            }
+        }
+        return latest;
+    }
+
+    private Snapshot snapshot(ContentCollection collection) {
+        Snapshot current = snapshots.get(collection);
+        if (current != null && clock.millis() - current.checkedAt() < versionTtlMs) {
+            return current;
+        }
+        // compute() lets one request per collection run the query while the others wait for its result
+        return snapshots.compute(collection, (key, previous) ->
+                previous != null && clock.millis() - previous.checkedAt() < versionTtlMs ? previous : load(key, previous));
+    }
+
+    private Snapshot load(ContentCollection collection, Snapshot previous) {
+        String fingerprint = jdbcTemplate.queryForObject(collection.query,
+                (rs, rowNum) -> rs.getLong(1) + "/" + rs.getString(2));
+        long now = clock.millis();
+        if (previous != null && previous.fingerprint().equals(fingerprint)) {
+            return new Snapshot(fingerprint, previous.version(), previous.changedAt(), now);
+        }
+        Instant changedAt = previous == null ? bootTime : Instant.ofEpochMilli(now);
+        log.debug("{} at {}", collection, fingerprint);
+        return new Snapshot(fingerprint, hash(fingerprint), changedAt, now);
+    }
+
+    private void expire(ContentCollection collection) {
+        snapshots.computeIfPresent(collection, (key, snapshot) ->
+                new Snapshot(snapshot.fingerprint(), snapshot.version(), snapshot.changedAt(), Long.MIN_VALUE / 2));
+    }
+
+    private static long hash(String fingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
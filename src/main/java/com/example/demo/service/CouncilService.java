@@ -1,14 +1,19 @@
 package com.example.demo.service;
 
+import com.example.demo.config.CacheConfig;
 import com.example.demo.dto.CouncilDTO;
 import com.example.demo.model.Council;
 import com.example.demo.repository.CouncilRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,36 +23,74 @@ import java.util.stream.Collectors;
 @Transactional
 public class CouncilService {
 
-    private final CouncilRepository councilRepository;
+    // DTO properties that can be requested through the fields parameter
+    private static final Map<String, String> SELECTABLE_FIELDS = FieldSelectionService.fieldPaths(
+            "id", "name", "image", "description", "vision", "mission", "objectives", "slateMembers",
+            "isActive", "chairPerson", "memberCount", "studentMemberCount", "establishedYear", "websiteUrl");
 
-    public List<CouncilDTO> getAllCouncils() {
-        log.info("Fetching all councils");
+    private final CouncilRepository councilRepository;
+    private final FieldSelectionService fieldSelectionService;
+
+    @Transactional(readOnly = true)
+    public List<CouncilDTO> getAllCouncils(boolean includeJson) {
+        log.info("Fetching all councils (includeJson={})", includeJson);
+        if (!includeJson) {
+            return councilRepository.findAllSummaries()
+                    .stream()
+                    .map(this::convertSummaryToDTO)
+                    .collect(Collectors.toList());
+        }
         return councilRepository.findAll()
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    public List<CouncilDTO> getActiveCouncils() {
-        log.info("Fetching active councils");
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_COUNCILS, key = "#includeJson")
+    @Transactional(readOnly = true)
+    public List<CouncilDTO> getActiveCouncils(boolean includeJson) {
+        log.info("Fetching active councils (includeJson={})", includeJson);
+        if (!includeJson) {
+            return councilRepository.findActiveSummaries()
+                    .stream()
+                    .map(this::convertSummaryToDTO)
+                    .toList();
+        }
         return councilRepository.findByIsActiveTrueOrderByNameAsc()
                 .stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllCouncilFields(String fields) {
+        log.info("Fetching all councils with fields: {}", fields);
+        return fieldSelectionService.select(Council.class, SELECTABLE_FIELDS, fields,
+                null, "name", true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getActiveCouncilFields(String fields) {
+        log.info("Fetching active councils with fields: {}", fields);
+        return fieldSelectionService.select(Council.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.isTrue(root.get("isActive")), "name", true);
     }
 
+    @Transactional(readOnly = true)
     public Optional<CouncilDTO> getCouncilById(Long id) {
         log.info("Fetching council with id: {}", id);
         return councilRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public Optional<CouncilDTO> getCouncilByName(String name) {
         log.info("Fetching council with name: {}", name);
         return councilRepository.findByNameIgnoreCase(name)
                 .map(this::convertToDTO);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_COUNCILS, allEntries = true)
     public CouncilDTO createCouncil(CouncilDTO councilDTO) {
         log.info("Creating new council: {}", councilDTO.getName());
         Council council = convertToEntity(councilDTO);
@@ -55,6 +98,10 @@ public class CouncilService {
         return convertToDTO(savedCouncil);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_COUNCILS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COUNCIL_REFERENCES, key = "#id")
+    })
     public Optional<CouncilDTO> updateCouncil(Long id, CouncilDTO councilDTO) {
         log.info("Updating council with id: {}", id);
         return councilRepository.findById(id)
@@ -65,6 +112,10 @@ public class CouncilService {
                 });
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_COUNCILS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COUNCIL_REFERENCES, key = "#id")
+    })
     public boolean deleteCouncil(Long id) {
         log.info("Deleting council with id: {}", id);
         if (councilRepository.existsById(id)) {
@@ -74,6 +125,7 @@ public class CouncilService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<CouncilDTO> searchCouncils(String keyword) {
         log.info("Searching councils with keyword: {}", keyword);
         return councilRepository.searchCouncilsByKeyword(keyword)
@@ -82,6 +134,15 @@ public class CouncilService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchCouncilFields(String keyword, String fields) {
+        log.info("Searching councils with keyword {} with fields: {}", keyword, fields);
+        FieldSelectionService.Filter<Council> matches = FieldSelectionService.containsIgnoringCase(keyword, "name");
+        return fieldSelectionService.select(Council.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.and(cb.isTrue(root.get("isActive")), matches.toPredicate(cb, root)), "name", true);
+    }
+
+    @Transactional(readOnly = true)
     public List<CouncilDTO> getCouncilsWithWebsite() {
         log.info("Fetching councils with website");
         return councilRepository.findActiveCouncilsWithWebsite()
@@ -90,6 +151,14 @@ public class CouncilService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCouncilFieldsWithWebsite(String fields) {
+        log.info("Fetching councils with website with fields: {}", fields);
+        return fieldSelectionService.select(Council.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.and(cb.isTrue(root.get("isActive")), cb.isNotNull(root.get("websiteUrl"))), "name", true);
+    }
+
+    @Transactional(readOnly = true)
     public long getActiveCouncilsCount() {
         return councilRepository.countByIsActiveTrue();
     }
@@ -113,6 +182,25 @@ public class CouncilService {
         );
     }
 
+    private CouncilDTO convertSummaryToDTO(Object[] row) {
+        return new CouncilDTO(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5],
+                (String) row[6],
+                null,
+                (Boolean) row[7],
+                (String) row[8],
+                (Integer) row[9],
+                (Integer) row[10],
+                (Integer) row[11],
+                (String) row[12]
+        );
+    }
+
     private Council convertToEntity(CouncilDTO councilDTO) {
         Council council = new Council();
         updateCouncilFields(council, councilDTO);
@@ -126,7 +214,10 @@ public class CouncilService {
         council.setVision(councilDTO.getVision());
         council.setMission(councilDTO.getMission());
         council.setObjectives(councilDTO.getObjectives());
-        council.setSlateMembers(councilDTO.getSlateMembers());
+        // Summary DTOs from list endpoints carry no JSON, so a null keeps the stored document
+        if (councilDTO.getSlateMembers() != null) {
+            council.setSlateMembers(councilDTO.getSlateMembers());
+        }
         council.setIsActive(councilDTO.getIsActive() != null ? councilDTO.getIsActive() : true);
         council.setChairPerson(councilDTO.getChairPerson());
         council.setMemberCount(councilDTO.getMemberCount() != null ? councilDTO.getMemberCount() : 0);
@@ -0,0 +1,17 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+public class DuplicateGalleryItemException extends RuntimeException {
+
+    private final List<Long> duplicateIds;
+
+    public DuplicateGalleryItemException(String message, List<Long> duplicateIds) {
+        super(message);
+        this.duplicateIds = duplicateIds;
+    }
+
+    public List<Long> getDuplicateIds() {
+        return duplicateIds;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically runs the {@link EventLifecycleService} steps under a {@link SchedulerLockService}
+ * lease, so only one instance works on the shared tables at a time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+public class EventLifecycleScheduler {
+
+    static final String LOCK_NAME = "event-lifecycle";
+
+    private final EventLifecycleService eventLifecycleService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${lifecycle.migration.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${lifecycle.migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${lifecycle.migration.max-batches:50}")
+    private int maxBatches;
+
+    @Value("${lifecycle.lock-lease-minutes:10}")
+    private long lockLeaseMinutes;
+
+    @Scheduled(cron = "${lifecycle.cron:0 */5 * * * *}")
+    public void run() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(lockLeaseMinutes))) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            eventLifecycleService.closeExpiredRegistrations(now);
+
+            LocalDateTime cutoff = now.minusHours(graceHours);
+            int migrated = 0;
+            for (int i = 0; i < maxBatches; i++) {
+                int count = eventLifecycleService.migrateFinishedEvents(cutoff, batchSize);
+                migrated += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+            if (migrated > 0) {
+                log.info("Event lifecycle run migrated {} events", migrated);
+            }
+        } catch (Exception e) {
+            log.error("Event lifecycle run failed", e);
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import com.example.demo.model.PastEvent;
+import com.example.demo.model.UpcomingEvent;
+import com.example.demo.repository.EventRegistrationRepository;
+import com.example.demo.repository.GalleryItemRepository;
+import com.example.demo.repository.NotificationRepository;
+import com.example.demo.repository.PastEventRepository;
+import com.example.demo.repository.UpcomingEventRepository;
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves upcoming events through their lifecycle: registration closes once the deadline (or the event
+ * itself) has passed, and events that finished more than the grace period ago become past events.
+ * A migrated event's registrations are summarised into the past event and kept, pointing at it.
+ * Each call is one transaction; {@link EventLifecycleScheduler} drives the batches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class EventLifecycleService {
+
+    private final UpcomingEventRepository upcomingEventRepository;
+    private final PastEventRepository pastEventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final GalleryItemRepository galleryItemRepository;
+    private final NotificationRepository notificationRepository;
+    private final CollectionVersionService collectionVersionService;
+
+    public int closeExpiredRegistrations(LocalDateTime now) {
+        int closed = upcomingEventRepository.closeExpiredRegistrations(now);
+        if (closed > 0) {
+            log.info("Closed registration for {} events", closed);
+            collectionVersionService.markChanged(ContentCollection.UPCOMING_EVENTS);
+        }
+        return closed;
+    }
+
+    public int migrateFinishedEvents(LocalDateTime cutoff, int batchSize) {
+        List<UpcomingEvent> finished = upcomingEventRepository.findFinishedEvents(cutoff, PageRequest.of(0, batchSize));
+        if (finished.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> eventIds = finished.stream().map(UpcomingEvent::getId).toList();
+        Map<Long, Object[]> summaries = new HashMap<>();
+        for (Object[] row : eventRegistrationRepository.getRegistrationSummaryByEventIds(eventIds)) {
+            summaries.put((Long) row[0], row);
+        }
+
+        List<PastEvent> pastEvents = new ArrayList<>(finished.size());
+        for (UpcomingEvent event : finished) {
+            pastEvents.add(toPastEvent(event, summaries.get(event.getId())));
+        }
+        // Ids are pre-allocated, so the inserts must be flushed before the bulk updates reference them
+        pastEventRepository.saveAllAndFlush(pastEvents);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < finished.size(); i++) {
+            galleryItemRepository.attachToPastEvent(finished.get(i).getId(), pastEvents.get(i));
+            eventRegistrationRepository.moveToPastEvent(finished.get(i).getId(), pastEvents.get(i), now);
+        }
+        galleryItemRepository.detachUpcomingEvents(eventIds);
+        notificationRepository.clearRelatedEvents(eventIds);
+        upcomingEventRepository.deleteAllByIdInBatch(eventIds);
+
+        // Bulk statements bypass the entity listener
+        collectionVersionService.markChanged(ContentCollection.UPCOMING_EVENTS);
+        collectionVersionService.markChanged(ContentCollection.GALLERY);
+        collectionVersionService.markChanged(ContentCollection.NOTIFICATIONS);
+        log.info("Migrated {} finished events to past events", finished.size());
+        return finished.size();
+    }
+
+    private static PastEvent toPastEvent(UpcomingEvent event, Object[] summary) {
+        PastEvent pastEvent = new PastEvent();
+        pastEvent.setTitle(event.getTitle());
+        pastEvent.setEventDate(event.getEventDate());
+        pastEvent.setImage(event.getImage());
+        pastEvent.setDescription(event.getDescription());
+        pastEvent.setHostingBranchName(event.getHostingBranchName());
+        pastEvent.setHostingBranchLogo(event.getHostingBranchLogo());
+        pastEvent.setVenue(event.getVenue());
+        pastEvent.setSociety(event.getSociety());
+        pastEvent.setCouncil(event.getCouncil());
+        if (summary != null) {
+            pastEvent.setParticipants(String.valueOf(summary[1]));
+            Double averageRating = (Double) summary[2];
+            pastEvent.setFeedbackRating(averageRating != null ? Math.round(averageRating * 10) / 10.0 : null);
+        } else {
+            // No tracked registrations: keep whatever count the organisers entered by hand
+            pastEvent.setParticipants(event.getRegistrations());
+        }
+        return pastEvent;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldsets for list endpoints: selects only the requested DTO properties as a tuple query and
+ * returns them as ordered maps, so both the SQL projection and the JSON payload shrink to those fields.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class FieldSelectionService {
+
+    private final EntityManager entityManager;
+
+    @FunctionalInterface
+    public interface Filter<E> {
+        Predicate toPredicate(CriteriaBuilder cb, Root<E> root);
+    }
+
+    /** Case-insensitive substring match on any of the attributes, like the repositories' keyword searches. */
+    public static <E> Filter<E> containsIgnoringCase(String keyword, String... attributes) {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+        return (cb, root) -> cb.or(Arrays.stream(attributes)
+                .map(attribute -> cb.like(cb.lower(root.get(attribute)), pattern))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * Builds a DTO property to entity path mapping. Plain names map to themselves; relation
+     * properties use {@code "societyId=society.id"}.
+     */
+    public static Map<String, String> fieldPaths(String... definitions) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (String definition : definitions) {
+            int separator = definition.indexOf('=');
+            if (separator < 0) {
+                paths.put(definition, definition);
+            } else {
+                paths.put(definition.substring(0, separator), definition.substring(separator + 1));
+            }
+        }
+        return Map.copyOf(paths);
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter. The id is always selected so clients can key the results.
+     */
+    public static Set<String> parseFields(String fields, Map<String, String> fieldPaths) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!fieldPaths.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            selected.add(name);
+        }
+        return selected;
+    }
+
+    public <E> List<Map<String, Object>> select(Class<E> entityType, Map<String, String> fieldPaths, String fields,
+                                                Filter<E> filter, String orderBy, boolean ascending) {
+        Set<String> selected = parseFields(fields, fieldPaths);
+        log.info("Selecting fields {} from {}", selected, entityType.getSimpleName());
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (String field : selected) {
+            selections.add(resolve(root, joins, fieldPaths.get(field)).alias(field));
+        }
+        query.multiselect(selections);
+        if (filter != null) {
+            query.where(filter.toPredicate(cb, root));
+        }
+        if (orderBy != null) {
+            Path<?> orderPath = resolve(root, joins, orderBy);
+            query.orderBy(ascending ? cb.asc(orderPath) : cb.desc(orderPath));
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Relation paths such as "society.name" go through a shared left join, so rows without the relation are kept
+    private static Path<?> resolve(Root<?> root, Map<String, Join<?, ?>> joins, String path) {
+        String[] segments = path.split("\\.");
+        From<?, ?> from = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            From<?, ?> parent = from;
+            String segment = segments[i];
+            from = joins.computeIfAbsent(String.join(".", Arrays.copyOfRange(segments, 0, i + 1)),
+                    key -> parent.join(segment, JoinType.LEFT));
+        }
+        return from.get(segments[segments.length - 1]);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.GalleryItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the perceptual hashes of all gallery items in a BK-tree keyed on Hamming
+ * distance, so near-duplicate lookups only visit the branches whose distance band can
+ * still contain a match instead of scanning the whole gallery.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GalleryDuplicateService {
+
+    private final GalleryItemRepository galleryItemRepository;
+
+    @Value("${gallery.duplicates.mode:OFF}")
+    private DuplicateMode mode;
+
+    @Value("${gallery.duplicates.max-distance:6}")
+    private int maxDistance;
+
+    private BkNode root;
+    private final Map<Long, Long> hashesById = new HashMap<>();
+    private boolean initialized = false;
+
+    public DuplicateMode getMode() {
+        return mode;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public synchronized List<Long> findNearDuplicates(long hash) {
+        ensureInitialized();
+        List<Long> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<BkNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            BkNode node = pending.pop();
+            int distance = ImageHashService.hammingDistance(hash, node.hash);
+            if (distance <= maxDistance) {
+                for (Long id : node.ids) {
+                    matches.add(id);
+                }
+            }
+            for (Map.Entry<Integer, BkNode> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    public synchronized void register(Long id, Long hash) {
+        if (!initialized || id == null) {
+            return;
+        }
+        unregister(id);
+        if (hash != null) {
+            insert(id, hash);
+        }
+    }
+
+    public synchronized void unregister(Long id) {
+        Long hash = hashesById.remove(id);
+        if (hash == null) {
+            return;
+        }
+        // BK-trees cannot drop nodes cheaply; the node stays as a routing point without ids
+        BkNode node = root;
+        while (node != null) {
+            int distance = ImageHashService.hammingDistance(hash, node.hash);
+            if (distance == 0) {
+                node.ids.remove(id);
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        log.info("Building gallery perceptual hash index");
+        for (Object[] row : galleryItemRepository.findPerceptualHashes()) {
+            insert((Long) row[0], (Long) row[1]);
+        }
+        initialized = true;
+        log.info("Gallery perceptual hash index built with {} hashes", hashesById.size());
+    }
+
+    private void insert(Long id, long hash) {
+        hashesById.put(id, hash);
+        if (root == null) {
+            root = new BkNode(hash);
+            root.ids.add(id);
+            return;
+        }
+        BkNode node = root;
+        while (true) {
+            int distance = ImageHashService.hammingDistance(hash, node.hash);
+            if (distance == 0) {
+                node.ids.add(id);
+                return;
+            }
+            BkNode child = node.children.get(distance);
+            if (child == null) {
+                child = new BkNode(hash);
+                child.ids.add(id);
+                node.children.put(distance, child);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public enum DuplicateMode {
+        OFF, FLAG, REJECT
+    }
+
+    private static class BkNode {
+        private final long hash;
+        private final Set<Long> ids = new HashSet<>();
+        private final Map<Integer, BkNode> children = new HashMap<>();
+
+        private BkNode(long hash) {
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.GalleryImportResultDTO;
+import com.example.demo.dto.GalleryItemDTO;
+import com.example.demo.service.GalleryItemService.ImportedItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams an NDJSON manifest of gallery items (one GalleryItemDTO per line) into the
+ * database in batches and writes one NDJSON result line per item as soon as its batch
+ * is stored. Not transactional itself: every batch commits on its own, and a bad line or row
+ * fails alone (see {@link GalleryItemService#importGalleryItems}), never rolling back what was
+ * already imported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GalleryImportService {
+
+    private final GalleryItemService galleryItemService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${gallery.import.batch-size:100}")
+    private int batchSize;
+
+    public void importItems(InputStream input, OutputStream output, Long societyId, Long councilId) throws IOException {
+        log.info("Starting gallery import for society {} / council {}", societyId, councilId);
+        long startedAt = System.currentTimeMillis();
+        ImportCounters counters = new ImportCounters();
+        List<PendingItem> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            counters.total++;
+
+            GalleryItemDTO itemDTO;
+            try {
+                itemDTO = objectMapper.readValue(line, GalleryItemDTO.class);
+            } catch (JsonProcessingException e) {
+                writeResult(output, GalleryImportResultDTO.failed(lineNumber, "Invalid JSON: " + e.getOriginalMessage()), counters);
+                continue;
+            }
+            if (itemDTO.getImg() == null || itemDTO.getImg().isBlank()) {
+                writeResult(output, GalleryImportResultDTO.failed(lineNumber, "Image URL is required"), counters);
+                continue;
+            }
+
+            itemDTO.setId(null);
+            if (societyId != null) {
+                itemDTO.setSocietyId(societyId);
+            }
+            if (councilId != null) {
+                itemDTO.setCouncilId(councilId);
+            }
+            batch.add(new PendingItem(lineNumber, itemDTO));
+
+            if (batch.size() >= batchSize) {
+                flushBatch(batch, output, counters);
+            }
+        }
+        flushBatch(batch, output, counters);
+
+        long durationMs = System.currentTimeMillis() - startedAt;
+        writeLine(output, GalleryImportResultDTO.summary(counters.total, counters.created, counters.failed, durationMs));
+        log.info("Gallery import finished: {} items, {} created, {} failed in {} ms",
+                counters.total, counters.created, counters.failed, durationMs);
+    }
+
+    private void flushBatch(List<PendingItem> batch, OutputStream output, ImportCounters counters) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ImportedItem> imported = galleryItemService.importGalleryItems(batch.stream().map(PendingItem::item).toList());
+        for (int i = 0; i < imported.size(); i++) {
+            ImportedItem item = imported.get(i);
+            int lineNumber = batch.get(i).lineNumber();
+            writeResult(output, item.error() == null
+                    ? GalleryImportResultDTO.created(lineNumber, item.created())
+                    : GalleryImportResultDTO.failed(lineNumber, item.error()), counters);
+        }
+        batch.clear();
+        output.flush();
+    }
+
+    private void writeResult(OutputStream output, GalleryImportResultDTO result, ImportCounters counters) throws IOException {
+        if (GalleryImportResultDTO.STATUS_FAILED.equals(result.getStatus())) {
+            counters.failed++;
+        } else {
+            counters.created++;
+        }
+        writeLine(output, result);
+    }
+
+    private void writeLine(OutputStream output, GalleryImportResultDTO result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+    }
+
+    private record PendingItem(int lineNumber, GalleryItemDTO item) {
+    }
+
+    private static class ImportCounters {
+        private int total;
+        private int created;
+        private int failed;
+    }
+}
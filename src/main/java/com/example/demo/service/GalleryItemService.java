@@ -1,6 +1,8 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.GalleryItemDTO;
+import com.example.demo.dto.GalleryLayoutDTO;
 import com.example.demo.model.GalleryItem;
 import com.example.demo.model.PastEvent;
 import com.example.demo.model.UpcomingEvent;
@@ -9,18 +11,27 @@ import com.example.demo.model.Council;
 import com.example.demo.repository.GalleryItemRepository;
 import com.example.demo.repository.PastEventRepository;
 import com.example.demo.repository.UpcomingEventRepository;
-import com.example.demo.repository.SocietyRepository;
-import com.example.demo.repository.CouncilRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,9 +43,13 @@ public class GalleryItemService {
     private final GalleryItemRepository galleryItemRepository;
     private final PastEventRepository pastEventRepository;
     private final UpcomingEventRepository upcomingEventRepository;
-    private final SocietyRepository societyRepository;
-    private final CouncilRepository councilRepository;
+    private final ReferenceLookupService referenceLookupService;
+    private final GalleryLayoutService galleryLayoutService;
+    private final GalleryDuplicateService galleryDuplicateService;
+    private final ImageHashService imageHashService;
+    private final PlatformTransactionManager transactionManager;
 
+    @Transactional(readOnly = true)
     public List<GalleryItemDTO> getAllGalleryItems() {
         log.info("Fetching all gallery items");
         return galleryItemRepository.findAllByOrderByUploadDateDesc()
@@ -43,18 +58,37 @@ public class GalleryItemService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<GalleryItemDTO> getAllGalleryItems(Pageable pageable) {
         log.info("Fetching gallery items with pagination");
         return galleryItemRepository.findAllByOrderByUploadDateDesc(pageable)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<GalleryItemDTO> getGalleryItemsCursorPage(String cursor, int size, boolean includeTotal) {
+        log.info("Fetching gallery items with cursor pagination");
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<GalleryItem> rows;
+        if (after == null) {
+            rows = galleryItemRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else if (after.key() == null) {
+            rows = galleryItemRepository.findKeysetPageAfterNullKey(after.id(), KeysetCursor.limit(size));
+        } else {
+            rows = galleryItemRepository.findKeysetPageAfter(after.dateKey(), after.id(), KeysetCursor.limit(size));
+        }
+        return KeysetCursor.toPage(rows, size, this::convertToDTO, GalleryItem::getUploadDate, GalleryItem::getId,
+                includeTotal ? galleryItemRepository.count() : null);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<GalleryItemDTO> getGalleryItemById(Long id) {
         log.info("Fetching gallery item with id: {}", id);
         return galleryItemRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<GalleryItemDTO> getFeaturedGalleryItems() {
         log.info("Fetching featured gallery items");
         return galleryItemRepository.findByIsFeaturedTrueOrderByUploadDateDesc()
@@ -63,6 +97,7 @@ public class GalleryItemService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<GalleryItemDTO> getGalleryItemsByCategory(String category) {
         log.info("Fetching gallery items by category: {}", category);
         return galleryItemRepository.findByCategoryOrderByUploadDateDesc(category)
@@ -71,6 +106,7 @@ public class GalleryItemService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<GalleryItemDTO> getGalleryItemsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Fetching gallery items between {} and {}", startDate, endDate);
         return galleryItemRepository.findGalleryItemsByDateRange(startDate, endDate)
@@ -79,6 +115,7 @@ public class GalleryItemService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<GalleryItemDTO> getGalleryItemsByTag(String tag) {
         log.info("Fetching gallery items by tag: {}", tag);
         return galleryItemRepository.findGalleryItemsByTag(tag)
@@ -87,37 +124,258 @@ public class GalleryItemService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<String> getAllCategories() {
         log.info("Fetching all distinct categories");
         return galleryItemRepository.findAllDistinctCategories();
     }
 
+    // Image fetches for hashing happen before the write transaction, so no pooled connection waits on them
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GalleryItemDTO createGalleryItem(GalleryItemDTO galleryItemDTO) {
         log.info("Creating new gallery item: {}", galleryItemDTO.getTitle());
-        GalleryItem galleryItem = convertToEntity(galleryItemDTO);
-        GalleryItem savedGalleryItem = galleryItemRepository.save(galleryItem);
-        return convertToDTO(savedGalleryItem);
+        boolean detectDuplicates = galleryDuplicateService.getMode() != GalleryDuplicateService.DuplicateMode.OFF;
+        Long hash = detectDuplicates ? imageHashService.computeHash(galleryItemDTO.getImg()).orElse(null) : null;
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            GalleryItem galleryItem = convertToEntity(galleryItemDTO);
+            List<Long> duplicateIds = List.of();
+            if (detectDuplicates) {
+                galleryItem.setPerceptualHash(hash);
+                duplicateIds = findDuplicates(hash);
+                rejectIfDuplicate(galleryItem.getTitle(), duplicateIds);
+            }
+            GalleryItem savedGalleryItem = galleryItemRepository.save(galleryItem);
+            afterCommit(() -> galleryLayoutService.onItemSaved(savedGalleryItem));
+            afterCommit(() -> galleryDuplicateService.register(savedGalleryItem.getId(), savedGalleryItem.getPerceptualHash()));
+            GalleryItemDTO createdGalleryItem = convertToDTO(savedGalleryItem);
+            createdGalleryItem.setPossibleDuplicateIds(duplicateIds.isEmpty() ? null : duplicateIds);
+            return createdGalleryItem;
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<GalleryItemDTO> createGalleryItems(List<GalleryItemDTO> galleryItemDTOs) {
+        log.info("Creating {} gallery items in batch", galleryItemDTOs.size());
+        boolean detectDuplicates = galleryDuplicateService.getMode() != GalleryDuplicateService.DuplicateMode.OFF;
+        Map<String, Long> hashes = detectDuplicates
+                ? imageHashService.computeHashes(galleryItemDTOs.stream().map(GalleryItemDTO::getImg).toList())
+                : Map.of();
+        return new TransactionTemplate(transactionManager).execute(status -> saveGalleryItems(galleryItemDTOs, hashes));
+    }
+
+    private List<GalleryItemDTO> saveGalleryItems(List<GalleryItemDTO> galleryItemDTOs, Map<String, Long> hashes) {
+        References references = resolveReferences(galleryItemDTOs);
+        List<GalleryItem> galleryItems = new ArrayList<>(galleryItemDTOs.size());
+        List<List<Long>> storedDuplicates = new ArrayList<>(galleryItemDTOs.size());
+        List<List<Integer>> batchDuplicates = new ArrayList<>(galleryItemDTOs.size());
+        for (GalleryItemDTO galleryItemDTO : galleryItemDTOs) {
+            GalleryItem galleryItem = newGalleryItem(galleryItemDTO, references, hashes);
+            // Near-duplicates can also sit earlier in the same batch, before they have ids
+            List<Integer> sameBatch = sameBatchDuplicates(galleryItem, galleryItems);
+            List<Long> stored = findDuplicates(galleryItem.getPerceptualHash());
+            if (galleryDuplicateService.getMode() == GalleryDuplicateService.DuplicateMode.REJECT && !sameBatch.isEmpty()) {
+                throw new DuplicateGalleryItemException("Gallery item '" + galleryItem.getTitle()
+                        + "' is a near-duplicate of another item in the same upload", List.of());
+            }
+            rejectIfDuplicate(galleryItem.getTitle(), stored);
+
+            galleryItems.add(galleryItem);
+            storedDuplicates.add(stored);
+            batchDuplicates.add(sameBatch);
+        }
+
+        List<GalleryItem> savedGalleryItems = galleryItemRepository.saveAll(galleryItems);
+        afterCommit(() -> galleryLayoutService.onItemsSaved(savedGalleryItems));
+        List<GalleryItemDTO> createdGalleryItems = new ArrayList<>(savedGalleryItems.size());
+        for (int i = 0; i < savedGalleryItems.size(); i++) {
+            GalleryItem savedGalleryItem = savedGalleryItems.get(i);
+            afterCommit(() -> galleryDuplicateService.register(savedGalleryItem.getId(), savedGalleryItem.getPerceptualHash()));
+
+            List<Long> duplicateIds = new ArrayList<>(storedDuplicates.get(i));
+            batchDuplicates.get(i).forEach(index -> duplicateIds.add(savedGalleryItems.get(index).getId()));
+            GalleryItemDTO createdGalleryItem = convertToDTO(savedGalleryItem);
+            createdGalleryItem.setPossibleDuplicateIds(duplicateIds.isEmpty() ? null : duplicateIds);
+            createdGalleryItems.add(createdGalleryItem);
+        }
+        return createdGalleryItems;
+    }
+
+    /** One row of {@link #importGalleryItems}: the created item, or why the row was not stored. */
+    public record ImportedItem(GalleryItemDTO created, String error) {
+    }
+
+    /**
+     * Stores imported rows, each on its own merits. Images are hashed and references resolved once
+     * for the whole batch. Rows rejected as near-duplicates fail on their own, and the rest are saved
+     * in one transaction. If that transaction fails, the rows are split in halves and each half is
+     * saved again with the same hashes and references. Rows in a half that commits are not retried,
+     * so only the rows that really fail end up alone.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ImportedItem> importGalleryItems(List<GalleryItemDTO> galleryItemDTOs) {
+        log.info("Importing {} gallery items", galleryItemDTOs.size());
+        boolean detectDuplicates = galleryDuplicateService.getMode() != GalleryDuplicateService.DuplicateMode.OFF;
+        boolean reject = galleryDuplicateService.getMode() == GalleryDuplicateService.DuplicateMode.REJECT;
+        Map<String, Long> hashes = detectDuplicates
+                ? imageHashService.computeHashes(galleryItemDTOs.stream().map(GalleryItemDTO::getImg).toList())
+                : Map.of();
+        References references = resolveReferences(galleryItemDTOs);
+
+        int rows = galleryItemDTOs.size();
+        GalleryItem[] galleryItems = new GalleryItem[rows];
+        String[] errors = new String[rows];
+        List<List<Long>> storedDuplicates = new ArrayList<>(rows);
+        List<List<Integer>> batchDuplicates = new ArrayList<>(rows);
+        List<GalleryItem> accepted = new ArrayList<>(rows);
+        List<Integer> acceptedRows = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            GalleryItem galleryItem = newGalleryItem(galleryItemDTOs.get(row), references, hashes);
+            galleryItems[row] = galleryItem;
+            List<Integer> sameBatch = sameBatchDuplicates(galleryItem, accepted).stream().map(acceptedRows::get).toList();
+            List<Long> stored = findDuplicates(galleryItem.getPerceptualHash());
+            storedDuplicates.add(stored);
+            batchDuplicates.add(sameBatch);
+            if (reject && !sameBatch.isEmpty()) {
+                errors[row] = "Gallery item '" + galleryItem.getTitle() + "' is a near-duplicate of another item in the same upload";
+            } else if (reject && !stored.isEmpty()) {
+                errors[row] = "Gallery item '" + galleryItem.getTitle() + "' is a near-duplicate of existing gallery item(s) " + stored;
+            } else {
+                accepted.add(galleryItem);
+                acceptedRows.add(row);
+            }
+        }
+        saveIsolatingFailures(acceptedRows, galleryItems, errors);
+
+        List<ImportedItem> imported = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            if (errors[row] != null) {
+                imported.add(new ImportedItem(null, errors[row]));
+                continue;
+            }
+            List<Long> duplicateIds = new ArrayList<>(storedDuplicates.get(row));
+            batchDuplicates.get(row).stream()
+                    .filter(other -> errors[other] == null)
+                    .forEach(other -> duplicateIds.add(galleryItems[other].getId()));
+            GalleryItemDTO createdGalleryItem = convertToDTO(galleryItems[row]);
+            createdGalleryItem.setPossibleDuplicateIds(duplicateIds.isEmpty() ? null : duplicateIds);
+            imported.add(new ImportedItem(createdGalleryItem, null));
+        }
+        return imported;
     }
 
+    private void saveIsolatingFailures(List<Integer> rows, GalleryItem[] galleryItems, String[] errors) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<GalleryItem> chunk = rows.stream().map(row -> galleryItems[row]).toList();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                List<GalleryItem> savedGalleryItems = galleryItemRepository.saveAll(chunk);
+                afterCommit(() -> galleryLayoutService.onItemsSaved(savedGalleryItems));
+                savedGalleryItems.forEach(saved ->
+                        afterCommit(() -> galleryDuplicateService.register(saved.getId(), saved.getPerceptualHash())));
+            });
+        } catch (RuntimeException e) {
+            // Ids handed out in the rolled-back transaction were never stored
+            chunk.forEach(galleryItem -> galleryItem.setId(null));
+            if (rows.size() == 1) {
+                errors[rows.get(0)] = e.getMessage();
+                return;
+            }
+            log.warn("Saving {} imported gallery items failed, splitting to isolate the bad rows: {}", rows.size(), e.getMessage());
+            int half = rows.size() / 2;
+            saveIsolatingFailures(rows.subList(0, half), galleryItems, errors);
+            saveIsolatingFailures(rows.subList(half, rows.size()), galleryItems, errors);
+        }
+    }
+
+    private record References(Map<Long, PastEvent> pastEvents, Map<Long, UpcomingEvent> upcomingEvents,
+                              Map<Long, Society> societies, Map<Long, Council> councils) {
+    }
+
+    private References resolveReferences(List<GalleryItemDTO> galleryItemDTOs) {
+        Map<Long, PastEvent> pastEvents = pastEventRepository
+                .findAllById(collectIds(galleryItemDTOs, GalleryItemDTO::getPastEventId))
+                .stream()
+                .collect(Collectors.toMap(PastEvent::getId, Function.identity()));
+        Map<Long, UpcomingEvent> upcomingEvents = upcomingEventRepository
+                .findAllById(collectIds(galleryItemDTOs, GalleryItemDTO::getUpcomingEventId))
+                .stream()
+                .collect(Collectors.toMap(UpcomingEvent::getId, Function.identity()));
+        Map<Long, Society> societies = new HashMap<>();
+        collectIds(galleryItemDTOs, GalleryItemDTO::getSocietyId)
+                .forEach(id -> societies.put(id, referenceLookupService.findSociety(id)));
+        Map<Long, Council> councils = new HashMap<>();
+        collectIds(galleryItemDTOs, GalleryItemDTO::getCouncilId)
+                .forEach(id -> councils.put(id, referenceLookupService.findCouncil(id)));
+        return new References(pastEvents, upcomingEvents, societies, councils);
+    }
+
+    private GalleryItem newGalleryItem(GalleryItemDTO galleryItemDTO, References references, Map<String, Long> hashes) {
+        GalleryItem galleryItem = new GalleryItem();
+        updateGalleryItemScalarFields(galleryItem, galleryItemDTO);
+        galleryItem.setPastEvent(references.pastEvents().get(galleryItemDTO.getPastEventId()));
+        galleryItem.setUpcomingEvent(references.upcomingEvents().get(galleryItemDTO.getUpcomingEventId()));
+        galleryItem.setSociety(references.societies().get(galleryItemDTO.getSocietyId()));
+        galleryItem.setCouncil(references.councils().get(galleryItemDTO.getCouncilId()));
+        galleryItem.setPerceptualHash(hashes.get(galleryItem.getImg()));
+        return galleryItem;
+    }
+
+    /** Indexes of the items in {@code earlier} within the near-duplicate distance of {@code galleryItem}. */
+    private List<Integer> sameBatchDuplicates(GalleryItem galleryItem, List<GalleryItem> earlier) {
+        List<Integer> sameBatch = new ArrayList<>();
+        if (galleryItem.getPerceptualHash() != null) {
+            for (int i = 0; i < earlier.size(); i++) {
+                Long otherHash = earlier.get(i).getPerceptualHash();
+                if (otherHash != null && ImageHashService.hammingDistance(galleryItem.getPerceptualHash(), otherHash)
+                        <= galleryDuplicateService.getMaxDistance()) {
+                    sameBatch.add(i);
+                }
+            }
+        }
+        return sameBatch;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<GalleryItemDTO> updateGalleryItem(Long id, GalleryItemDTO galleryItemDTO) {
         log.info("Updating gallery item with id: {}", id);
-        return galleryItemRepository.findById(id)
+        boolean rehash = galleryDuplicateService.getMode() != GalleryDuplicateService.DuplicateMode.OFF
+                && galleryItemRepository.findById(id)
+                        .map(existing -> !Objects.equals(existing.getImg(), galleryItemDTO.getImg()))
+                        .orElse(false);
+        Long hash = rehash ? imageHashService.computeHash(galleryItemDTO.getImg()).orElse(null) : null;
+        return new TransactionTemplate(transactionManager).execute(status -> galleryItemRepository.findById(id)
                 .map(existingGalleryItem -> {
                     updateGalleryItemFields(existingGalleryItem, galleryItemDTO);
+                    if (rehash) {
+                        existingGalleryItem.setPerceptualHash(hash);
+                        afterCommit(() -> galleryDuplicateService.register(id, hash));
+                    }
                     GalleryItem updatedGalleryItem = galleryItemRepository.save(existingGalleryItem);
+                    afterCommit(() -> galleryLayoutService.onItemSaved(updatedGalleryItem));
                     return convertToDTO(updatedGalleryItem);
-                });
+                }));
     }
 
     public boolean deleteGalleryItem(Long id) {
         log.info("Deleting gallery item with id: {}", id);
         if (galleryItemRepository.existsById(id)) {
             galleryItemRepository.deleteById(id);
+            afterCommit(() -> galleryLayoutService.onItemRemoved(id));
+            afterCommit(() -> galleryDuplicateService.unregister(id));
             return true;
         }
         return false;
     }
 
+    @Transactional(readOnly = true)
+    public GalleryLayoutDTO getGalleryLayout(GalleryLayoutService.Breakpoint breakpoint, int page, int size) {
+        log.info("Fetching gallery layout for breakpoint {} (page {}, size {})", breakpoint, page, size);
+        return galleryLayoutService.getLayoutPage(breakpoint, page, size);
+    }
+
+    @Transactional(readOnly = true)
     public List<GalleryItemDTO> searchGalleryItems(String keyword) {
         log.info("Searching gallery items with keyword: {}", keyword);
         return galleryItemRepository.searchGalleryItemsByKeyword(keyword)
@@ -126,10 +384,12 @@ public class GalleryItemService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getGalleryItemCountByCategory() {
         return galleryItemRepository.getGalleryItemCountByCategory();
     }
 
+    @Transactional(readOnly = true)
     public long getFeaturedGalleryItemsCount() {
         return galleryItemRepository.countByIsFeaturedTrue();
     }
@@ -155,7 +415,8 @@ public class GalleryItemService {
                 galleryItem.getSociety() != null ? galleryItem.getSociety().getId() : null,
                 galleryItem.getSociety() != null ? galleryItem.getSociety().getName() : null,
                 galleryItem.getCouncil() != null ? galleryItem.getCouncil().getId() : null,
-                galleryItem.getCouncil() != null ? galleryItem.getCouncil().getName() : null
+                galleryItem.getCouncil() != null ? galleryItem.getCouncil().getName() : null,
+                null
         );
     }
 
@@ -166,17 +427,7 @@ public class GalleryItemService {
     }
 
     private void updateGalleryItemFields(GalleryItem galleryItem, GalleryItemDTO galleryItemDTO) {
-        galleryItem.setImg(galleryItemDTO.getImg());
-        galleryItem.setUrl(galleryItemDTO.getUrl());
-        galleryItem.setHeight(galleryItemDTO.getHeight());
-        galleryItem.setWidth(galleryItemDTO.getWidth());
-        galleryItem.setTitle(galleryItemDTO.getTitle());
-        galleryItem.setDescription(galleryItemDTO.getDescription());
-        galleryItem.setAltText(galleryItemDTO.getAltText());
-        galleryItem.setCategory(galleryItemDTO.getCategory());
-        galleryItem.setTags(galleryItemDTO.getTags());
-        galleryItem.setIsFeatured(galleryItemDTO.getIsFeatured() != null ? galleryItemDTO.getIsFeatured() : false);
-        galleryItem.setUploadDate(galleryItemDTO.getUploadDate() != null ? galleryItemDTO.getUploadDate() : LocalDateTime.now());
+        updateGalleryItemScalarFields(galleryItem, galleryItemDTO);
 
         if (galleryItemDTO.getPastEventId() != null) {
             PastEvent pastEvent = pastEventRepository.findById(galleryItemDTO.getPastEventId()).orElse(null);
@@ -189,37 +440,73 @@ public class GalleryItemService {
         }
 
         if (galleryItemDTO.getSocietyId() != null) {
-            Society society = societyRepository.findById(galleryItemDTO.getSocietyId()).orElse(null);
+            Society society = referenceLookupService.findSociety(galleryItemDTO.getSocietyId());
             galleryItem.setSociety(society);
         }
 
         if (galleryItemDTO.getCouncilId() != null) {
-            Council council = councilRepository.findById(galleryItemDTO.getCouncilId()).orElse(null);
+            Council council = referenceLookupService.findCouncil(galleryItemDTO.getCouncilId());
             galleryItem.setCouncil(council);
         }
     }
 
-    public List<GalleryItemDTO> getItemsBySocietyId(Long societyId) {
-        log.info("Fetching gallery items for society id: {}", societyId);
-        Society society = societyRepository.findById(societyId).orElse(null);
-        if (society == null) {
-            return List.of();
+    private void updateGalleryItemScalarFields(GalleryItem galleryItem, GalleryItemDTO galleryItemDTO) {
+        galleryItem.setImg(galleryItemDTO.getImg());
+        galleryItem.setUrl(galleryItemDTO.getUrl());
+        galleryItem.setHeight(galleryItemDTO.getHeight());
+        galleryItem.setWidth(galleryItemDTO.getWidth());
+        galleryItem.setTitle(galleryItemDTO.getTitle());
+        galleryItem.setDescription(galleryItemDTO.getDescription());
+        galleryItem.setAltText(galleryItemDTO.getAltText());
+        galleryItem.setCategory(galleryItemDTO.getCategory());
+        galleryItem.setTags(galleryItemDTO.getTags());
+        galleryItem.setIsFeatured(galleryItemDTO.getIsFeatured() != null ? galleryItemDTO.getIsFeatured() : false);
+        galleryItem.setUploadDate(galleryItemDTO.getUploadDate() != null ? galleryItemDTO.getUploadDate() : LocalDateTime.now());
+    }
+
+    private List<Long> findDuplicates(Long perceptualHash) {
+        return perceptualHash != null ? galleryDuplicateService.findNearDuplicates(perceptualHash) : List.of();
+    }
+
+    private void rejectIfDuplicate(String title, List<Long> duplicateIds) {
+        if (galleryDuplicateService.getMode() == GalleryDuplicateService.DuplicateMode.REJECT && !duplicateIds.isEmpty()) {
+            throw new DuplicateGalleryItemException("Gallery item '" + title
+                    + "' is a near-duplicate of existing gallery item(s) " + duplicateIds, duplicateIds);
         }
-        return galleryItemRepository.findBySociety(society)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
     }
 
-    public List<GalleryItemDTO> getItemsByCouncilId(Long councilId) {
-        log.info("Fetching gallery items for council id: {}", councilId);
-        Council council = councilRepository.findById(councilId).orElse(null);
-        if (council == null) {
-            return List.of();
+    private static Set<Long> collectIds(List<GalleryItemDTO> galleryItemDTOs, Function<GalleryItemDTO, Long> idGetter) {
+        return galleryItemDTOs.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<GalleryItemDTO> getItemsBySocietyId(Long societyId, Pageable pageable) {
+        log.info("Fetching gallery items for society id: {} (page {})", societyId, pageable.getPageNumber());
+        return galleryItemRepository.findBySocietyId(societyId, pageable)
+                .map(this::convertToDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<GalleryItemDTO> getItemsByCouncilId(Long councilId, Pageable pageable) {
+        log.info("Fetching gallery items for council id: {} (page {})", councilId, pageable.getPageNumber());
+        return galleryItemRepository.findByCouncilId(councilId, pageable)
+                .map(this::convertToDTO);
+    }
+
+    /** Runs {@code action} once the surrounding transaction commits, so a rollback leaves in-memory indexes untouched. */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
-        return galleryItemRepository.findByCouncil(council)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
     }
 }
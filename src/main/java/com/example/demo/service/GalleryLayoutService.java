@@ -0,0 +1,274 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.GalleryLayoutDTO;
+import com.example.demo.dto.GalleryLayoutItemDTO;
+import com.example.demo.model.GalleryItem;
+import com.example.demo.repository.GalleryItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a precomputed masonry layout of the gallery for a few standard breakpoints.
+ * Items are ordered like /api/gallery (newest first) and placed greedily into the
+ * shortest column. Adding, moving or removing items only re-places the items from the
+ * first changed position on, starting from the nearest column-height checkpoint before
+ * it, so no reload is needed. Checkpoints are kept every {@value #CHECKPOINT_INTERVAL}
+ * items rather than per item.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GalleryLayoutService {
+
+    public static final int GUTTER = 16;
+
+    static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final Comparator<LayoutEntry> ORDER = Comparator
+            .comparing(LayoutEntry::uploadDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(LayoutEntry::id, Comparator.reverseOrder());
+
+    private final GalleryItemRepository galleryItemRepository;
+
+    private final List<LayoutEntry> entries = new ArrayList<>();
+    private final Map<Long, LayoutEntry> entriesById = new HashMap<>();
+    private final Map<Breakpoint, ColumnLayout> layouts = new EnumMap<>(Breakpoint.class);
+    private boolean initialized = false;
+
+    public GalleryLayoutDTO getLayoutPage(Breakpoint breakpoint, int page, int size) {
+        List<Placement> pagePlacements;
+        List<LayoutEntry> pageEntries;
+        int totalItems;
+        int totalHeight;
+
+        synchronized (this) {
+            ensureInitialized();
+            totalItems = entries.size();
+            // In long: page * size overflows int for far-out pages, which then read past the end
+            int from = (int) Math.min((long) page * size, totalItems);
+            int to = (int) Math.min((long) from + size, totalItems);
+            ColumnLayout layout = layouts.get(breakpoint);
+            pagePlacements = new ArrayList<>(layout.placements.subList(from, to));
+            pageEntries = new ArrayList<>(entries.subList(from, to));
+            totalHeight = totalItems == 0 ? 0 : max(layout.heights) - GUTTER;
+        }
+
+        Map<Long, GalleryItem> items = galleryItemRepository
+                .findAllById(pageEntries.stream().map(LayoutEntry::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(GalleryItem::getId, Function.identity()));
+
+        List<GalleryLayoutItemDTO> layoutItems = new ArrayList<>();
+        for (int i = 0; i < pageEntries.size(); i++) {
+            GalleryItem item = items.get(pageEntries.get(i).id());
+            if (item == null) {
+                continue;
+            }
+            Placement placement = pagePlacements.get(i);
+            layoutItems.add(new GalleryLayoutItemDTO(
+                    item.getId(),
+                    item.getImg(),
+                    item.getUrl(),
+                    item.getTitle(),
+                    item.getAltText(),
+                    placement.column(),
+                    placement.x(),
+                    placement.y(),
+                    breakpoint.columnWidth(),
+                    placement.height()
+            ));
+        }
+
+        return new GalleryLayoutDTO(
+                breakpoint.name(),
+                breakpoint.containerWidth,
+                breakpoint.columns,
+                breakpoint.columnWidth(),
+                GUTTER,
+                page,
+                size,
+                totalItems,
+                Math.max(totalHeight, 0),
+                layoutItems
+        );
+    }
+
+    /** Call once the item is committed, so a rolled-back save never shows up in the layout. */
+    public void onItemSaved(GalleryItem galleryItem) {
+        onItemsSaved(List.of(galleryItem));
+    }
+
+    public synchronized void onItemsSaved(Collection<GalleryItem> galleryItems) {
+        if (!initialized || galleryItems.isEmpty()) {
+            return;
+        }
+        int firstChanged = entries.size();
+        for (GalleryItem galleryItem : galleryItems) {
+            firstChanged = Math.min(firstChanged, removeEntry(galleryItem.getId()));
+            LayoutEntry entry = new LayoutEntry(galleryItem.getId(), galleryItem.getUploadDate(),
+                    aspectRatio(galleryItem.getWidth(), galleryItem.getHeight()));
+            int index = Collections.binarySearch(entries, entry, ORDER);
+            int insertAt = index >= 0 ? index : -index - 1;
+            entries.add(insertAt, entry);
+            entriesById.put(entry.id(), entry);
+            firstChanged = Math.min(firstChanged, insertAt);
+        }
+        relayoutFrom(firstChanged);
+    }
+
+    /** Call once the removal is committed. */
+    public synchronized void onItemRemoved(Long id) {
+        if (!initialized) {
+            return;
+        }
+        int before = entries.size();
+        int index = removeEntry(id);
+        if (entries.size() < before) {
+            relayoutFrom(index);
+        }
+    }
+
+    public synchronized void invalidate() {
+        initialized = false;
+        entries.clear();
+        entriesById.clear();
+        layouts.clear();
+    }
+
+    /** Removes the entry without re-placing anything; returns its former index, or the entry count if absent. */
+    private int removeEntry(Long id) {
+        LayoutEntry existing = entriesById.remove(id);
+        if (existing == null) {
+            return entries.size();
+        }
+        int index = Collections.binarySearch(entries, existing, ORDER);
+        if (index < 0) {
+            return entries.size();
+        }
+        entries.remove(index);
+        return index;
+    }
+
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        log.info("Building gallery layout");
+        for (Object[] row : galleryItemRepository.findLayoutRows()) {
+            LayoutEntry entry = new LayoutEntry((Long) row[0], (LocalDateTime) row[3],
+                    aspectRatio((Integer) row[1], (Integer) row[2]));
+            entries.add(entry);
+            entriesById.put(entry.id(), entry);
+        }
+        entries.sort(ORDER);
+        for (Breakpoint breakpoint : Breakpoint.values()) {
+            layouts.put(breakpoint, new ColumnLayout(breakpoint.columns, entries.size()));
+        }
+        relayoutFrom(0);
+        initialized = true;
+        log.info("Gallery layout built for {} items", entries.size());
+    }
+
+    /** Re-places every item from {@code index} on, resuming from the last checkpoint at or before it. */
+    private void relayoutFrom(int index) {
+        for (Breakpoint breakpoint : Breakpoint.values()) {
+            ColumnLayout layout = layouts.get(breakpoint);
+            int checkpoint = Math.min(index / CHECKPOINT_INTERVAL, layout.checkpoints.size() - 1);
+            int start = checkpoint * CHECKPOINT_INTERVAL;
+            int[] heights = layout.checkpoints.get(checkpoint).clone();
+            truncate(layout.checkpoints, checkpoint + 1);
+            truncate(layout.placements, start);
+            int columnWidth = breakpoint.columnWidth();
+            for (int i = start; i < entries.size(); i++) {
+                if (i > start && i % CHECKPOINT_INTERVAL == 0) {
+                    layout.checkpoints.add(heights.clone());
+                }
+                int column = shortestColumn(heights);
+                int height = Math.max(1, (int) Math.round(columnWidth * entries.get(i).aspectRatio()));
+                int y = heights[column];
+                heights[column] = y + height + GUTTER;
+                layout.placements.add(new Placement(column, column * (columnWidth + GUTTER), y, height));
+            }
+            layout.heights = heights;
+        }
+    }
+
+    private static void truncate(List<?> list, int size) {
+        if (list.size() > size) {
+            list.subList(size, list.size()).clear();
+        }
+    }
+
+    private static int shortestColumn(int[] heights) {
+        int column = 0;
+        for (int i = 1; i < heights.length; i++) {
+            if (heights[i] < heights[column]) {
+                column = i;
+            }
+        }
+        return column;
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static double aspectRatio(Integer width, Integer height) {
+        if (width == null || height == null || width <= 0 || height <= 0) {
+            return 1.0;
+        }
+        return (double) height / width;
+    }
+
+    public enum Breakpoint {
+        SM(640, 2), MD(1024, 3), LG(1280, 4), XL(1536, 5);
+
+        private final int containerWidth;
+        private final int columns;
+
+        Breakpoint(int containerWidth, int columns) {
+            this.containerWidth = containerWidth;
+            this.columns = columns;
+        }
+
+        public int columnWidth() {
+            return (containerWidth - GUTTER * (columns - 1)) / columns;
+        }
+    }
+
+    private record LayoutEntry(Long id, LocalDateTime uploadDate, double aspectRatio) {
+    }
+
+    private record Placement(int column, int x, int y, int height) {
+    }
+
+    // Placements for one breakpoint; checkpoints.get(k) holds the column heights before item k * CHECKPOINT_INTERVAL
+    private static final class ColumnLayout {
+        private final List<Placement> placements;
+        private final List<int[]> checkpoints = new ArrayList<>();
+        private int[] heights;
+
+        ColumnLayout(int columns, int expectedItems) {
+            this.placements = new ArrayList<>(expectedItems);
+            this.heights = new int[columns];
+            checkpoints.add(new int[columns]);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.demo.service;
 
+import com.example.demo.config.CacheConfig;
 import com.example.demo.dto.HeroSlideDTO;
 import com.example.demo.model.HeroSlide;
 import com.example.demo.repository.HeroSlideRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +23,7 @@ public class HeroSlideService {
 
     private final HeroSlideRepository heroSlideRepository;
 
+    @Transactional(readOnly = true)
     public List<HeroSlideDTO> getAllHeroSlides() {
         log.info("Fetching all hero slides");
         return heroSlideRepository.findAllByOrderByDisplayOrderAsc()
@@ -28,20 +32,24 @@ public class HeroSlideService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_HERO_SLIDES, key = "'all'")
+    @Transactional(readOnly = true)
     public List<HeroSlideDTO> getActiveHeroSlides() {
         log.info("Fetching active hero slides");
         return heroSlideRepository.findByIsActiveTrueOrderByDisplayOrderAsc()
                 .stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public Optional<HeroSlideDTO> getHeroSlideById(Long id) {
         log.info("Fetching hero slide with id: {}", id);
         return heroSlideRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_HERO_SLIDES, allEntries = true)
     public HeroSlideDTO createHeroSlide(HeroSlideDTO heroSlideDTO) {
         log.info("Creating new hero slide: {}", heroSlideDTO.getTitle());
         HeroSlide heroSlide = convertToEntity(heroSlideDTO);
@@ -56,6 +64,7 @@ public class HeroSlideService {
         return convertToDTO(savedHeroSlide);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_HERO_SLIDES, allEntries = true)
     public Optional<HeroSlideDTO> updateHeroSlide(Long id, HeroSlideDTO heroSlideDTO) {
         log.info("Updating hero slide with id: {}", id);
         return heroSlideRepository.findById(id)
@@ -66,6 +75,7 @@ public class HeroSlideService {
                 });
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_HERO_SLIDES, allEntries = true)
     public boolean deleteHeroSlide(Long id) {
         log.info("Deleting hero slide with id: {}", id);
         if (heroSlideRepository.existsById(id)) {
@@ -75,6 +85,7 @@ public class HeroSlideService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public long getActiveHeroSlidesCount() {
         return heroSlideRepository.countByIsActiveTrue();
     }
@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import com.example.demo.model.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+
+/**
+ * Moves every table-backed id generator past the highest id already stored, so databases that were
+ * filled through AUTO_INCREMENT keep working after the switch to pooled ids. Runs once the schema
+ * exists and before any entity is inserted; safe to run on several instances at once because the
+ * counter only ever moves forward.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorSeeder {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            TableGenerator generator = tableGenerator(type);
+            Table table = type.getAnnotation(Table.class);
+            if (generator == null || table == null) {
+                continue;
+            }
+            seed(generator.pkColumnValue(), table.name());
+        }
+    }
+
+    private void seed(String name, String table) {
+        String nextId = "COALESCE(MAX(id), 0) + 1 FROM " + table;
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdGenerators.TABLE
+                + " WHERE " + IdGenerators.NAME_COLUMN + " = ?", Integer.class, name);
+        if (rows == null || rows == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", "
+                        + IdGenerators.VALUE_COLUMN + ") SELECT ?, " + nextId, name);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Id generator row {} was created concurrently", name);
+            }
+        }
+        jdbcTemplate.update("UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN
+                + " = GREATEST(" + IdGenerators.VALUE_COLUMN + ", (SELECT " + nextId + ")) WHERE "
+                + IdGenerators.NAME_COLUMN + " = ?", name);
+        log.debug("Id generator {} seeded past existing ids in {}", name, table);
+    }
+
+    private static TableGenerator tableGenerator(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            TableGenerator generator = field.getAnnotation(TableGenerator.class);
+            if (generator != null) {
+                return generator;
+            }
+        }
+        return null;
+    }
+}
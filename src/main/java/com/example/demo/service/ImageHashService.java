@@ -0,0 +1,207 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Computes 64-bit difference hashes (dHash) of gallery images. The image is shrunk to
+ * 9x8 grayscale and every bit records whether a pixel is brighter than its right-hand
+ * neighbour, so re-encoded, resized or lightly edited copies land a few bits apart.
+ * <p>
+ * Images are only fetched over http(s) from {@code gallery.duplicates.allowed-hosts} (a host or any
+ * of its subdomains), never from loopback, link-local or private addresses, and without following
+ * redirects. Downloads are capped at {@code max-image-bytes} and images larger than
+ * {@code max-image-pixels} are not decoded; the rest are decoded subsampled to about
+ * {@value #DECODE_SIZE} pixels on the long side, which is plenty for a 9x8 hash.
+ */
+@Service
+@Slf4j
+public class ImageHashService {
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    private static final int MAX_CACHED_HASHES = 2048;
+    private static final int DECODE_SIZE = 256;
+
+    private final AsyncTaskExecutor taskExecutor;
+    private final Map<String, Long> hashCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_CACHED_HASHES;
+                }
+            });
+
+    @Value("${gallery.duplicates.fetch-timeout-ms:5000}")
+    private int fetchTimeoutMs;
+
+    @Value("${gallery.duplicates.allowed-hosts:}")
+    private List<String> allowedHosts;
+
+    @Value("${gallery.duplicates.max-image-bytes:10485760}")
+    private int maxImageBytes;
+
+    @Value("${gallery.duplicates.max-image-pixels:50000000}")
+    private long maxImagePixels;
+
+    public ImageHashService(AsyncTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    public Optional<Long> computeHash(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return Optional.empty();
+        }
+        Long cached = hashCache.get(imageUrl);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            BufferedImage image = readImage(imageUrl);
+            if (image == null) {
+                log.warn("Unsupported image format, skipping perceptual hash: {}", imageUrl);
+                return Optional.empty();
+            }
+            long hash = differenceHash(image);
+            hashCache.put(imageUrl, hash);
+            return Optional.of(hash);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not compute perceptual hash for {}: {}", imageUrl, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Hashes several images concurrently; URLs that cannot be fetched or decoded are left out of the result.
+     */
+    public Map<String, Long> computeHashes(Collection<String> imageUrls) {
+        Map<String, CompletableFuture<Optional<Long>>> futures = new HashMap<>();
+        for (String imageUrl : imageUrls) {
+            if (imageUrl != null && !futures.containsKey(imageUrl)) {
+                futures.put(imageUrl, CompletableFuture.supplyAsync(() -> computeHash(imageUrl), taskExecutor));
+            }
+        }
+        Map<String, Long> hashes = new HashMap<>();
+        futures.forEach((imageUrl, future) -> future.join().ifPresent(hash -> hashes.put(imageUrl, hash)));
+        return hashes;
+    }
+
+    public static int hammingDistance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    static long differenceHash(BufferedImage image) {
+        BufferedImage scaled = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        graphics.dispose();
+
+        long hash = 0L;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = scaled.getRaster().getSample(x, y, 0);
+                int right = scaled.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1L : 0L);
+            }
+        }
+        return hash;
+    }
+
+    private BufferedImage readImage(String imageUrl) throws IOException {
+        URI uri = URI.create(imageUrl);
+        checkFetchAllowed(uri);
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setInstanceFollowRedirects(false);
+        connection.setConnectTimeout(fetchTimeoutMs);
+        connection.setReadTimeout(fetchTimeoutMs);
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                throw new IOException("HTTP " + connection.getResponseCode());
+            }
+            if (connection.getContentLengthLong() > maxImageBytes) {
+                throw new IOException("Image larger than " + maxImageBytes + " bytes");
+            }
+            byte[] bytes;
+            try (InputStream in = connection.getInputStream()) {
+                bytes = in.readNBytes(maxImageBytes + 1);
+            }
+            if (bytes.length > maxImageBytes) {
+                throw new IOException("Image larger than " + maxImageBytes + " bytes");
+            }
+            return decode(bytes);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    void checkFetchAllowed(URI uri) throws IOException {
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            throw new IOException("Only http and https image URLs are fetched");
+        }
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        boolean allowed = allowedHosts.stream()
+                .map(entry -> entry.trim().toLowerCase(Locale.ROOT))
+                .anyMatch(entry -> !entry.isEmpty() && (host.equals(entry) || host.endsWith("." + entry)));
+        if (!allowed) {
+            throw new IOException("Host " + host + " is not in gallery.duplicates.allowed-hosts");
+        }
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+            if (address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+                    || address.isAnyLocalAddress() || address.isMulticastAddress()) {
+                throw new IOException("Host " + host + " resolves to a non-public address");
+            }
+        }
+    }
+
+    BufferedImage decode(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxImagePixels) {
+                    throw new IOException("Image of " + width + "x" + height + " exceeds " + maxImagePixels + " pixels");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / DECODE_SIZE);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
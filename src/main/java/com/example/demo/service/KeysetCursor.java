@@ -0,0 +1,69 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CursorPageDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Position of the last row served by a keyset page: its sort key (null when the row has no key
+ * and therefore sorts last) and its id, which breaks ties. Clients only ever see the encoded form.
+ */
+record KeysetCursor(String key, Long id) {
+
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                return new KeysetCursor(null, Long.parseLong(raw));
+            }
+            return new KeysetCursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    static String encode(Object key, Long id) {
+        String raw = key != null ? id + "|" + key : String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime dateKey() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor key: " + key);
+        }
+    }
+
+    /**
+     * Fetches one row more than requested so the presence of a next page is known without a COUNT query.
+     */
+    static Pageable limit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    static <E, D> CursorPageDTO<D> toPage(List<E> rows, int size, Function<E, D> mapper,
+                                          Function<E, ?> keyOf, Function<E, Long> idOf, Long totalElements) {
+        boolean hasMore = rows.size() > size;
+        List<E> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = encode(keyOf.apply(last), idOf.apply(last));
+        }
+        List<D> items = pageRows.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor, hasMore, totalElements);
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.NotificationDTO;
 import com.example.demo.model.Notification;
 import com.example.demo.model.Society;
 import com.example.demo.model.UpcomingEvent;
 import com.example.demo.repository.NotificationRepository;
-import com.example.demo.repository.SocietyRepository;
 import com.example.demo.repository.UpcomingEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,9 +26,10 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final SocietyRepository societyRepository;
+    private final ReferenceLookupService referenceLookupService;
     private final UpcomingEventRepository upcomingEventRepository;
 
+    @Transactional(readOnly = true)
     public List<NotificationDTO> getAllNotifications() {
         log.info("Fetching all notifications");
         return notificationRepository.findAllByOrderByTimeDesc()
@@ -37,12 +38,30 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificationDTO> getAllNotifications(Pageable pageable) {
         log.info("Fetching notifications with pagination");
         return notificationRepository.findAllByOrderByTimeDesc(pageable)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<NotificationDTO> getNotificationsCursorPage(String cursor, int size, boolean includeTotal) {
+        log.info("Fetching notifications with cursor pagination");
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Notification> rows;
+        if (after == null) {
+            rows = notificationRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else if (after.key() == null) {
+            rows = notificationRepository.findKeysetPageAfterNullKey(after.id(), KeysetCursor.limit(size));
+        } else {
+            rows = notificationRepository.findKeysetPageAfter(after.dateKey(), after.id(), KeysetCursor.limit(size));
+        }
+        return KeysetCursor.toPage(rows, size, this::convertToDTO, Notification::getTime, Notification::getId,
+                includeTotal ? notificationRepository.count() : null);
+    }
+
+    @Transactional(readOnly = true)
     public List<NotificationDTO> getUnreadNotifications() {
         log.info("Fetching unread notifications");
         return notificationRepository.findByUnreadTrueOrderByTimeDesc()
@@ -51,6 +70,7 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<NotificationDTO> getActiveNotifications() {
         log.info("Fetching active notifications");
         return notificationRepository.findActiveNotifications(LocalDateTime.now())
@@ -59,6 +79,7 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<NotificationDTO> getNotificationsByType(Notification.NotificationType type) {
         log.info("Fetching notifications by type: {}", type);
         return notificationRepository.findByTypeOrderByTimeDesc(type)
@@ -67,6 +88,7 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<NotificationDTO> getNotificationsByPriority(Notification.PriorityLevel priority) {
         log.info("Fetching notifications by priority: {}", priority);
         return notificationRepository.findByPriority(priority)
@@ -75,6 +97,7 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Optional<NotificationDTO> getNotificationById(Long id) {
         log.info("Fetching notification with id: {}", id);
         return notificationRepository.findById(id)
@@ -129,6 +152,7 @@ public class NotificationService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<NotificationDTO> searchNotifications(String keyword) {
         log.info("Searching notifications with keyword: {}", keyword);
         return notificationRepository.searchNotificationsByKeyword(keyword)
@@ -137,10 +161,12 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public long getUnreadNotificationsCount() {
         return notificationRepository.countByUnreadTrue();
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getNotificationCountByType() {
         return notificationRepository.getNotificationCountByType();
     }
@@ -185,7 +211,7 @@ public class NotificationService {
         }
 
         if (notificationDTO.getSocietyId() != null) {
-            Society society = societyRepository.findById(notificationDTO.getSocietyId()).orElse(null);
+            Society society = referenceLookupService.findSociety(notificationDTO.getSocietyId());
             notification.setSociety(society);
         }
     }
@@ -1,12 +1,11 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.PastEventDTO;
 import com.example.demo.model.PastEvent;
 import com.example.demo.model.Society;
 import com.example.demo.model.Council;
 import com.example.demo.repository.PastEventRepository;
-import com.example.demo.repository.SocietyRepository;
-import com.example.demo.repository.CouncilRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -25,10 +25,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class PastEventService {
 
+    // DTO properties that can be requested through the fields parameter
+    private static final Map<String, String> SELECTABLE_FIELDS = FieldSelectionService.fieldPaths(
+            "id", "title", "eventDate", "image", "description", "participants", "hostingBranchName",
+            "hostingBranchLogo", "venue", "durationHours", "feedbackRating", "societyId=society.id", "societyName=society.name",
+            "councilId=council.id", "councilName=council.name");
+
     private final PastEventRepository pastEventRepository;
-    private final SocietyRepository societyRepository;
-    private final CouncilRepository councilRepository;
+    private final ReferenceLookupService referenceLookupService;
+    private final FieldSelectionService fieldSelectionService;
 
+    @Transactional(readOnly = true)
     public List<PastEventDTO> getAllPastEvents() {
         log.info("Fetching all past events");
         return pastEventRepository.findAllByOrderByEventDateDesc()
@@ -37,18 +44,44 @@ public class PastEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllPastEventFields(String fields) {
+        log.info("Fetching all past events with fields: {}", fields);
+        return fieldSelectionService.select(PastEvent.class, SELECTABLE_FIELDS, fields,
+                null, "eventDate", false);
+    }
+
+    @Transactional(readOnly = true)
     public Page<PastEventDTO> getAllPastEvents(Pageable pageable) {
         log.info("Fetching past events with pagination");
         return pastEventRepository.findAllByOrderByEventDateDesc(pageable)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PastEventDTO> getPastEventsCursorPage(String cursor, int size, boolean includeTotal) {
+        log.info("Fetching past events with cursor pagination");
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<PastEvent> rows;
+        if (after == null) {
+            rows = pastEventRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else if (after.key() == null) {
+            rows = pastEventRepository.findKeysetPageAfterNullKey(after.id(), KeysetCursor.limit(size));
+        } else {
+            rows = pastEventRepository.findKeysetPageAfter(after.dateKey(), after.id(), KeysetCursor.limit(size));
+        }
+        return KeysetCursor.toPage(rows, size, this::convertToDTO, PastEvent::getEventDate, PastEvent::getId,
+                includeTotal ? pastEventRepository.count() : null);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<PastEventDTO> getPastEventById(Long id) {
         log.info("Fetching past event with id: {}", id);
         return pastEventRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<PastEventDTO> getPastEventsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         log.info("Fetching past events between {} and {}", startDate, endDate);
         return pastEventRepository.findByEventDateBetweenOrderByEventDateDesc(startDate, endDate)
@@ -57,6 +90,14 @@ public class PastEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getPastEventFieldsByDateRange(LocalDateTime startDate, LocalDateTime endDate, String fields) {
+        log.info("Fetching past events between {} and {} with fields: {}", startDate, endDate, fields);
+        return fieldSelectionService.select(PastEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.between(root.get("eventDate"), startDate, endDate), "eventDate", false);
+    }
+
+    @Transactional(readOnly = true)
     public List<PastEventDTO> getEventsByMinRating(Double minRating) {
         log.info("Fetching past events with minimum rating: {}", minRating);
         return pastEventRepository.findEventsByMinRating(minRating)
@@ -65,6 +106,14 @@ public class PastEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEventFieldsByMinRating(Double minRating, String fields) {
+        log.info("Fetching past events with minimum rating {} with fields: {}", minRating, fields);
+        return fieldSelectionService.select(PastEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.greaterThanOrEqualTo(root.get("feedbackRating"), minRating), "feedbackRating", false);
+    }
+
+    @Transactional(readOnly = true)
     public List<PastEventDTO> getEventsByHostingBranch(String branchName) {
         log.info("Fetching past events by hosting branch: {}", branchName);
         return pastEventRepository.findEventsByHostingBranch(branchName)
@@ -73,6 +122,13 @@ public class PastEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEventFieldsByHostingBranch(String branchName, String fields) {
+        log.info("Fetching past events by hosting branch {} with fields: {}", branchName, fields);
+        return fieldSelectionService.select(PastEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.equal(root.get("hostingBranchName"), branchName), "eventDate", false);
+    }
+
     public PastEventDTO createPastEvent(PastEventDTO eventDTO) {
         log.info("Creating new past event: {}", eventDTO.getTitle());
         PastEvent event = convertToEntity(eventDTO);
@@ -99,6 +155,7 @@ public class PastEventService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<PastEventDTO> searchEvents(String keyword) {
         log.info("Searching past events with keyword: {}", keyword);
         return pastEventRepository.searchEventsByKeyword(keyword)
@@ -107,6 +164,14 @@ public class PastEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchEventFields(String keyword, String fields) {
+        log.info("Searching past events with keyword {} with fields: {}", keyword, fields);
+        return fieldSelectionService.select(PastEvent.class, SELECTABLE_FIELDS, fields,
+                FieldSelectionService.containsIgnoringCase(keyword, "title", "description"), null, false);
+    }
+
+    @Transactional(readOnly = true)
     public List<Object[]> getEventCountByYear() {
         log.info("Fetching event count by year");
         return pastEventRepository.getEventCountByYear();
@@ -151,37 +216,27 @@ public class PastEventService {
         event.setFeedbackRating(eventDTO.getFeedbackRating());
 
         if (eventDTO.getSocietyId() != null) {
-            Society society = societyRepository.findById(eventDTO.getSocietyId()).orElse(null);
+            Society society = referenceLookupService.findSociety(eventDTO.getSocietyId());
             event.setSociety(society);
         }
 
         if (eventDTO.getCouncilId() != null) {
-            Council council = councilRepository.findById(eventDTO.getCouncilId()).orElse(null);
+            Council council = referenceLookupService.findCouncil(eventDTO.getCouncilId());
             event.setCouncil(council);
         }
     }
 
-    public List<PastEventDTO> getEventsBySocietyId(Long societyId) {
-        log.info("Fetching past events for society id: {}", societyId);
-        Society society = societyRepository.findById(societyId).orElse(null);
-        if (society == null) {
-            return List.of();
-        }
-        return pastEventRepository.findBySociety(society)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<PastEventDTO> getEventsBySocietyId(Long societyId, Pageable pageable) {
+        log.info("Fetching past events for society id: {} (page {})", societyId, pageable.getPageNumber());
+        return pastEventRepository.findBySocietyId(societyId, pageable)
+                .map(this::convertToDTO);
     }
 
-    public List<PastEventDTO> getEventsByCouncilId(Long councilId) {
-        log.info("Fetching past events for council id: {}", councilId);
-        Council council = councilRepository.findById(councilId).orElse(null);
-        if (council == null) {
-            return List.of();
-        }
-        return pastEventRepository.findByCouncil(council)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<PastEventDTO> getEventsByCouncilId(Long councilId, Pageable pageable) {
+        log.info("Fetching past events for council id: {} (page {})", councilId, pageable.getPageNumber());
+        return pastEventRepository.findByCouncilId(councilId, pageable)
+                .map(this::convertToDTO);
     }
 }
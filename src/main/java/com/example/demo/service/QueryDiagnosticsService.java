@@ -0,0 +1,184 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Finds slow statements in every request and N+1 patterns in sampled ones. Statements are grouped by
+ * shape (SQL with literals and IN-list lengths normalized away). A single execution over
+ * {@code slow-ms} is a slow query, whichever request ran it. In a sampled request, a shape executed
+ * at least {@code repeat-threshold} times is an N+1 suspect; only those requests pay for keeping
+ * every statement. Offenders are merged across requests and logged once per report interval with
+ * the service method that issued them, so a hot endpoint produces one line rather than one per hit.
+ */
+@Service
+@Slf4j
+public class QueryDiagnosticsService {
+
+    static final int MAX_OFFENDERS = 500;
+    private static final int MAX_LOGGED_SQL = 300;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** One statement execution kept for diagnostics. */
+    public record ExecutedStatement(String sql, int binds, long nanos, String origin) {
+    }
+
+    public enum OffenceType { N_PLUS_ONE, SLOW }
+
+    record OffenderKey(OffenceType type, String handler, String shape) {
+    }
+
+    static final class Offender {
+        private final String origin;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxRepeats = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxBinds = new LongAccumulator(Math::max, 0);
+
+        Offender(String origin) {
+            this.origin = origin;
+        }
+
+        long requests() {
+            return requests.sum();
+        }
+
+        long maxRepeats() {
+            return maxRepeats.get();
+        }
+
+        long maxNanos() {
+            return maxNanos.get();
+        }
+    }
+
+    private final ConcurrentMap<OffenderKey, Offender> offenders = new ConcurrentHashMap<>();
+
+    @Value("${diagnostics.queries.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${diagnostics.queries.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${diagnostics.queries.slow-ms:200}")
+    private long slowMillis;
+
+    /** Whether the request about to start should have its statements captured. */
+    public boolean shouldSample() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /** Statements at least this long are kept from every request as slow queries. */
+    public long slowNanos() {
+        return slowMillis * 1_000_000;
+    }
+
+    /** Records statements that ran longer than {@link #slowNanos()}, from any request. */
+    public void recordSlow(String handler, List<ExecutedStatement> statements) {
+        for (ExecutedStatement statement : statements) {
+            offence(OffenceType.SLOW, handler, shape(statement.sql()), List.of(statement));
+        }
+    }
+
+    /** Looks for N+1 patterns among all the statements of a sampled request. */
+    public void analyze(String handler, List<ExecutedStatement> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        Map<String, List<ExecutedStatement>> byShape = new LinkedHashMap<>();
+        for (ExecutedStatement statement : statements) {
+            byShape.computeIfAbsent(shape(statement.sql()), key -> new ArrayList<>()).add(statement);
+        }
+        byShape.forEach((shape, executions) -> {
+            if (executions.size() >= repeatThreshold) {
+                offence(OffenceType.N_PLUS_ONE, handler, shape, executions);
+            }
+        });
+    }
+
+    private void offence(OffenceType type, String handler, String shape, List<ExecutedStatement> executions) {
+        OffenderKey key = new OffenderKey(type, handler, shape);
+        Offender offender = offenders.get(key);
+        if (offender == null) {
+            if (offenders.size() >= MAX_OFFENDERS) {
+                return;
+            }
+            offender = offenders.computeIfAbsent(key, k -> new Offender(executions.get(0).origin()));
+        }
+        offender.requests.increment();
+        offender.executions.add(executions.size());
+        offender.maxRepeats.accumulate(executions.size());
+        for (ExecutedStatement execution : executions) {
+            offender.totalNanos.add(execution.nanos());
+            offender.maxNanos.accumulate(execution.nanos());
+            offender.maxBinds.accumulate(execution.binds());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${diagnostics.queries.report-interval-ms:60000}",
+            initialDelayString = "${diagnostics.queries.report-interval-ms:60000}")
+    public void report() {
+        Map<OffenderKey, Offender> drained = drain();
+        drained.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<OffenderKey, Offender> entry) -> entry.getKey().type())
+                        .thenComparing(entry -> -entry.getValue().totalNanos.sum()))
+                .forEach(entry -> log(entry.getKey(), entry.getValue()));
+    }
+
+    Map<OffenderKey, Offender> drain() {
+        Map<OffenderKey, Offender> drained = new LinkedHashMap<>();
+        for (OffenderKey key : List.copyOf(offenders.keySet())) {
+            Offender offender = offenders.remove(key);
+            if (offender != null) {
+                drained.put(key, offender);
+            }
+        }
+        return drained;
+    }
+
+    private static void log(OffenderKey key, Offender offender) {
+        long executions = offender.executions.sum();
+        double totalMillis = offender.totalNanos.sum() / 1e6;
+        String sql = key.shape().length() > MAX_LOGGED_SQL
+                ? key.shape().substring(0, MAX_LOGGED_SQL) + "..." : key.shape();
+        if (key.type() == OffenceType.N_PLUS_ONE) {
+            log.warn("N+1 in {} from {}: {} request(s), up to {} executions per request, {} binds, {} ms total: {}",
+                    key.handler(), offender.origin, offender.requests(), offender.maxRepeats(),
+                    offender.maxBinds.get(), String.format("%.1f", totalMillis), sql);
+        } else {
+            log.warn("Slow query in {} from {}: {} execution(s), max {} ms, mean {} ms, {} binds: {}",
+                    key.handler(), offender.origin, executions, String.format("%.1f", offender.maxNanos() / 1e6),
+                    String.format("%.1f", totalMillis / executions), offender.maxBinds.get(), sql);
+        }
+    }
+
+    static String shape(String sql) {
+        if (sql == null) {
+            return "<batch>";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
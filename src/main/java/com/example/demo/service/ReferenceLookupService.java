@@ -0,0 +1,40 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.model.Council;
+import com.example.demo.model.Society;
+import com.example.demo.repository.CouncilRepository;
+import com.example.demo.repository.SocietyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Cached lookups of the societies and councils that events, achievements, gallery items and
+ * notifications point at. The returned entities are shared, detached snapshots: they may be assigned
+ * to a non-cascading association or read, but must never be modified. SocietyService, CouncilService
+ * and SlateMemberService evict an entry whenever the underlying row changes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReferenceLookupService {
+
+    private final SocietyRepository societyRepository;
+    private final CouncilRepository councilRepository;
+
+    @Cacheable(cacheNames = CacheConfig.SOCIETY_REFERENCES, unless = "#result == null")
+    public Society findSociety(Long id) {
+        log.debug("Loading society reference {}", id);
+        return societyRepository.findById(id).orElse(null);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.COUNCIL_REFERENCES, unless = "#result == null")
+    public Council findCouncil(Long id) {
+        log.debug("Loading council reference {}", id);
+        return councilRepository.findById(id).orElse(null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets {@code event_registrations.event_id} hold NULL in databases created before registrations could
+ * move to a past event. {@code ddl-auto=update} adds the new {@code past_event_id} column but never
+ * relaxes an existing NOT NULL, so without this the lifecycle job would fail on those databases.
+ * Runs once the schema exists; a no-op when the column already allows NULL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationSchemaUpgrade {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void upgrade() {
+        Integer notNull = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = SCHEMA() AND UPPER(TABLE_NAME) = 'EVENT_REGISTRATIONS' "
+                + "AND UPPER(COLUMN_NAME) = 'EVENT_ID' AND IS_NULLABLE = 'NO'", Integer.class);
+        if (notNull != null && notNull > 0) {
+            jdbcTemplate.execute("ALTER TABLE event_registrations MODIFY event_id BIGINT NULL");
+            log.info("event_registrations.event_id now allows NULL for registrations of past events");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.service;
+
+import com.example.demo.model.SchedulerLock;
+import com.example.demo.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Lease-based lock on a database row, so a scheduled job runs on one instance at a time even when
+ * several instances share the database. Lease expiry is set and checked against the database clock,
+ * never the instance's, so instances whose clocks disagree cannot hold the lease at the same time.
+ * Each call commits on its own; do not call from inside a transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLockService {
+
+    private static final LocalDateTime NEVER_LOCKED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    public boolean tryLock(String name, Duration leaseTime) {
+        if (schedulerLockRepository.acquire(name, owner, leaseTime.toSeconds()) > 0) {
+            return true;
+        }
+        if (schedulerLockRepository.existsById(name)) {
+            log.debug("Lock {} is held by another instance", name);
+            return false;
+        }
+        try {
+            // First run anywhere: create the row already expired by any clock, then race for it like any other run
+            schedulerLockRepository.saveAndFlush(new SchedulerLock(name, NEVER_LOCKED, null, null));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lock row {} was created concurrently", name);
+        }
+        return schedulerLockRepository.acquire(name, owner, leaseTime.toSeconds()) > 0;
+    }
+
+    public void unlock(String name) {
+        schedulerLockRepository.release(name, owner);
+    }
+}
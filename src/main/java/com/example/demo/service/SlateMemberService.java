@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.dto.SlateMemberDTO;
+import com.example.demo.repository.CouncilRepository;
+import com.example.demo.repository.SocietyRepository;
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Typed access to the slate members JSON column of societies and councils. The parsed tree of each
+ * owner is kept in the bounded {@code slateMemberTrees} cache, one entry per owner, and reused while
+ * the owner's {@code version} is unchanged, so reads after the first only cost a version lookup. Edits
+ * patch the stored document in place with MySQL JSON functions and bump the version, so the next read
+ * replaces the owner's entry.
+ */
+@Service
+@Slf4j
+@Transactional
+public class SlateMemberService {
+
+    private final SocietyRepository societyRepository;
+    private final CouncilRepository councilRepository;
+    private final ObjectMapper objectMapper;
+    private final CollectionVersionService collectionVersionService;
+    private final Cache parsedTrees;
+
+    private record CachedTree(Long version, JsonNode tree) {
+    }
+
+    public SlateMemberService(SocietyRepository societyRepository, CouncilRepository councilRepository,
+                              ObjectMapper objectMapper, CollectionVersionService collectionVersionService,
+                              CacheManager cacheManager) {
+        this.societyRepository = societyRepository;
+        this.councilRepository = councilRepository;
+        this.objectMapper = objectMapper;
+        this.collectionVersionService = collectionVersionService;
+        this.parsedTrees = cacheManager.getCache(CacheConfig.SLATE_MEMBER_TREES);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<List<SlateMemberDTO>> getSocietySlateMembers(Long societyId) {
+        log.info("Fetching slate members for society id: {}", societyId);
+        return societyRepository.findVersionById(societyId)
+                .map(version -> readSlateMembers("society:" + societyId, version,
+                        () -> societyRepository.findSlateMembersById(societyId)));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<List<SlateMemberDTO>> getCouncilSlateMembers(Long councilId) {
+        log.info("Fetching slate members for council id: {}", councilId);
+        return councilRepository.findVersionById(councilId)
+                .map(version -> readSlateMembers("council:" + councilId, version,
+                        () -> councilRepository.findSlateMembersById(councilId)));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_SOCIETIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SOCIETY_REFERENCES, key = "#societyId")
+    })
+    public boolean addSocietySlateMember(Long societyId, SlateMemberDTO member) {
+        log.info("Adding slate member {} to society id: {}", member.getName(), societyId);
+        return markSocietyChanged(societyRepository.appendSlateMember(societyId, toJson(member)) > 0);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_COUNCILS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COUNCIL_REFERENCES, key = "#councilId")
+    })
+    public boolean addCouncilSlateMember(Long councilId, SlateMemberDTO member) {
+        log.info("Adding slate member {} to council id: {}", member.getName(), councilId);
+        return markCouncilChanged(councilRepository.appendSlateMember(councilId, toJson(member)) > 0);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_SOCIETIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SOCIETY_REFERENCES, key = "#societyId")
+    })
+    public boolean updateSocietySlateMember(Long societyId, int index, SlateMemberDTO member) {
+        log.info("Updating slate member {} of society id: {}", index, societyId);
+        return markSocietyChanged(index >= 0 && societyRepository.replaceSlateMember(societyId, index, toJson(member)) > 0);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_COUNCILS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COUNCIL_REFERENCES, key = "#councilId")
+    })
+    public boolean updateCouncilSlateMember(Long councilId, int index, SlateMemberDTO member) {
+        log.info("Updating slate member {} of council id: {}", index, councilId);
+        return markCouncilChanged(index >= 0 && councilRepository.replaceSlateMember(councilId, index, toJson(member)) > 0);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_SOCIETIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SOCIETY_REFERENCES, key = "#societyId")
+    })
+    public boolean removeSocietySlateMember(Long societyId, int index) {
+        log.info("Removing slate member {} from society id: {}", index, societyId);
+        return markSocietyChanged(index >= 0 && societyRepository.removeSlateMember(societyId, index) > 0);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_COUNCILS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.COUNCIL_REFERENCES, key = "#councilId")
+    })
+    public boolean removeCouncilSlateMember(Long councilId, int index) {
+        log.info("Removing slate member {} from council id: {}", index, councilId);
+        return markCouncilChanged(index >= 0 && councilRepository.removeSlateMember(councilId, index) > 0);
+    }
+
+    private boolean markSocietyChanged(boolean updated) {
+        if (updated) {
+            collectionVersionService.markChanged(ContentCollection.SOCIETIES);
+        }
+        return updated;
+    }
+
+    private boolean markCouncilChanged(boolean updated) {
+        if (updated) {
+            collectionVersionService.markChanged(ContentCollection.COUNCILS);
+        }
+        return updated;
+    }
+
+    private List<SlateMemberDTO> readSlateMembers(String key, Long version, Supplier<List<Object[]>> loader) {
+        CachedTree cached = parsedTrees.get(key, CachedTree.class);
+        if (cached == null || !cached.version().equals(version)) {
+            List<Object[]> rows = loader.get();
+            if (rows.isEmpty()) {
+                return List.of();
+            }
+            cached = new CachedTree((Long) rows.get(0)[1], parse((String) rows.get(0)[0], key));
+            parsedTrees.put(key, cached);
+        }
+
+        List<SlateMemberDTO> members = new ArrayList<>();
+        if (cached.tree().isArray()) {
+            for (JsonNode node : cached.tree()) {
+                members.add(objectMapper.convertValue(node, SlateMemberDTO.class));
+            }
+        }
+        return members;
+    }
+
+    private JsonNode parse(String json, String key) {
+        if (json == null || json.isBlank()) {
+            return objectMapper.createArrayNode();
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed slate members JSON for {}: {}", key, e.getOriginalMessage());
+            return objectMapper.createArrayNode();
+        }
+    }
+
+    private String toJson(SlateMemberDTO member) {
+        try {
+            return objectMapper.writeValueAsString(member);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid slate member: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.demo.service;
 
+import com.example.demo.config.CacheConfig;
 import com.example.demo.dto.SocietyDTO;
 import com.example.demo.model.Society;
 import com.example.demo.repository.SocietyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,36 +23,74 @@ import java.util.stream.Collectors;
 @Transactional
 public class SocietyService {
 
-    private final SocietyRepository societyRepository;
+    // DTO properties that can be requested through the fields parameter
+    private static final Map<String, String> SELECTABLE_FIELDS = FieldSelectionService.fieldPaths(
+            "id", "name", "image", "description", "vision", "mission", "objectives", "slateMembers",
+            "events", "achievements", "isActive", "memberCount", "studentMemberCount", "establishedYear");
 
-    public List<SocietyDTO> getAllSocieties() {
-        log.info("Fetching all societies");
+    private final SocietyRepository societyRepository;
+    private final FieldSelectionService fieldSelectionService;
+
+    @Transactional(readOnly = true)
+    public List<SocietyDTO> getAllSocieties(boolean includeJson) {
+        log.info("Fetching all societies (includeJson={})", includeJson);
+        if (!includeJson) {
+            return societyRepository.findAllSummaries()
+                    .stream()
+                    .map(this::convertSummaryToDTO)
+                    .collect(Collectors.toList());
+        }
         return societyRepository.findAll()
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    public List<SocietyDTO> getActiveSocieties() {
-        log.info("Fetching active societies");
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_SOCIETIES, key = "#includeJson")
+    @Transactional(readOnly = true)
+    public List<SocietyDTO> getActiveSocieties(boolean includeJson) {
+        log.info("Fetching active societies (includeJson={})", includeJson);
+        if (!includeJson) {
+            return societyRepository.findActiveSummaries()
+                    .stream()
+                    .map(this::convertSummaryToDTO)
+                    .toList();
+        }
         return societyRepository.findByIsActiveTrueOrderByNameAsc()
                 .stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllSocietyFields(String fields) {
+        log.info("Fetching all societies with fields: {}", fields);
+        return fieldSelectionService.select(Society.class, SELECTABLE_FIELDS, fields,
+                null, "name", true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getActiveSocietyFields(String fields) {
+        log.info("Fetching active societies with fields: {}", fields);
+        return fieldSelectionService.select(Society.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.isTrue(root.get("isActive")), "name", true);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<SocietyDTO> getSocietyById(Long id) {
         log.info("Fetching society with id: {}", id);
         return societyRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public Optional<SocietyDTO> getSocietyByName(String name) {
         log.info("Fetching society with name: {}", name);
         return societyRepository.findByNameIgnoreCase(name)
                 .map(this::convertToDTO);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_SOCIETIES, allEntries = true)
     public SocietyDTO createSociety(SocietyDTO societyDTO) {
         log.info("Creating new society: {}", societyDTO.getName());
         Society society = convertToEntity(societyDTO);
@@ -55,6 +98,10 @@ public class SocietyService {
         return convertToDTO(savedSociety);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_SOCIETIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SOCIETY_REFERENCES, key = "#id")
+    })
     public Optional<SocietyDTO> updateSociety(Long id, SocietyDTO societyDTO) {
         log.info("Updating society with id: {}", id);
         return societyRepository.findById(id)
@@ -65,6 +112,10 @@ public class SocietyService {
                 });
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_SOCIETIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SOCIETY_REFERENCES, key = "#id")
+    })
     public boolean deleteSociety(Long id) {
         log.info("Deleting society with id: {}", id);
         if (societyRepository.existsById(id)) {
@@ -74,6 +125,7 @@ public class SocietyService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<SocietyDTO> searchSocieties(String keyword) {
         log.info("Searching societies with keyword: {}", keyword);
         return societyRepository.searchSocietiesByKeyword(keyword)
@@ -82,6 +134,15 @@ public class SocietyService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchSocietyFields(String keyword, String fields) {
+        log.info("Searching societies with keyword {} with fields: {}", keyword, fields);
+        FieldSelectionService.Filter<Society> matches = FieldSelectionService.containsIgnoringCase(keyword, "name");
+        return fieldSelectionService.select(Society.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.and(cb.isTrue(root.get("isActive")), matches.toPredicate(cb, root)), "name", true);
+    }
+
+    @Transactional(readOnly = true)
     public List<SocietyDTO> getSocietiesWithMinMembers(Integer minMembers) {
         log.info("Fetching societies with minimum {} members", minMembers);
         return societyRepository.findActiveSocietiesWithMinMembers(minMembers)
@@ -90,6 +151,15 @@ public class SocietyService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getSocietyFieldsWithMinMembers(Integer minMembers, String fields) {
+        log.info("Fetching societies with minimum {} members with fields: {}", minMembers, fields);
+        return fieldSelectionService.select(Society.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.and(cb.isTrue(root.get("isActive")), cb.greaterThanOrEqualTo(root.get("memberCount"), minMembers)),
+                "name", true);
+    }
+
+    @Transactional(readOnly = true)
     public long getActiveSocietiesCount() {
         return societyRepository.countByIsActiveTrue();
     }
@@ -113,6 +183,25 @@ public class SocietyService {
         );
     }
 
+    private SocietyDTO convertSummaryToDTO(Object[] row) {
+        return new SocietyDTO(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5],
+                (String) row[6],
+                null,
+                null,
+                null,
+                (Boolean) row[7],
+                (Integer) row[8],
+                (Integer) row[9],
+                (Integer) row[10]
+        );
+    }
+
     private Society convertToEntity(SocietyDTO societyDTO) {
         Society society = new Society();
         updateSocietyFields(society, societyDTO);
@@ -126,9 +215,16 @@ public class SocietyService {
         society.setVision(societyDTO.getVision());
         society.setMission(societyDTO.getMission());
         society.setObjectives(societyDTO.getObjectives());
-        society.setSlateMembers(societyDTO.getSlateMembers());
-        society.setEvents(societyDTO.getEvents());
-        society.setAchievements(societyDTO.getAchievements());
+        // Summary DTOs from list endpoints carry no JSON, so a null keeps the stored document
+        if (societyDTO.getSlateMembers() != null) {
+            society.setSlateMembers(societyDTO.getSlateMembers());
+        }
+        if (societyDTO.getEvents() != null) {
+            society.setEvents(societyDTO.getEvents());
+        }
+        if (societyDTO.getAchievements() != null) {
+            society.setAchievements(societyDTO.getAchievements());
+        }
         society.setIsActive(societyDTO.getIsActive() != null ? societyDTO.getIsActive() : true);
         society.setMemberCount(societyDTO.getMemberCount() != null ? societyDTO.getMemberCount() : 0);
         society.setStudentMemberCount(societyDTO.getStudentMemberCount() != null ? societyDTO.getStudentMemberCount() : 0);
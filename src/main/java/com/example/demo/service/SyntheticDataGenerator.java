@@ -0,0 +1,516 @@
+package com.example.demo.service;
+
+import com.example.demo.model.EventRegistration;
+import com.example.demo.model.Notification;
+import com.example.demo.model.UpcomingEvent;
+import com.example.demo.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills the database with a large synthetic dataset for load testing. Tables are written in
+ * foreign-key order, each in parallel chunks of batched JDBC inserts. Every chunk draws from its own
+ * random stream derived from the seed, the table and the chunk number, so the same seed, reference
+ * date and sizes produce the same rows whatever the thread count or scheduling.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator {
+
+    public static final String EMAIL_DOMAIN = "synthetic.example.org";
+
+    private static final String[] FIELDS = {
+            "Computer", "Signal Processing", "Power & Energy", "Robotics & Automation", "Communications",
+            "Antennas & Propagation", "Photonics", "Aerospace", "Biomedical", "Circuits & Systems",
+            "Microwave Theory", "Industrial Electronics", "Vehicular Technology", "Geoscience", "Oceanic Engineering"};
+    private static final String[] TOPICS = {
+            "Machine Learning", "Embedded Systems", "VLSI Design", "Cloud Computing", "Cyber Security",
+            "IoT", "5G Networks", "Renewable Energy", "Computer Vision", "Quantum Computing", "Drones",
+            "Blockchain", "Edge AI", "PCB Design", "Smart Grids"};
+    private static final String[] WORDS = {
+            "hands-on", "session", "students", "industry", "experts", "projects", "research", "innovation",
+            "teams", "learning", "practical", "design", "systems", "community", "technical", "mentors",
+            "challenge", "workshop", "networking", "skills", "future", "applications", "demo", "lab"};
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Ananya", "Rahul", "Priya", "Karthik", "Sneha", "Vikram", "Divya", "Arjun", "Meera",
+            "Rohan", "Kavya", "Siddharth", "Lakshmi", "Nikhil", "Pooja", "Aditya", "Harini", "Varun", "Sravya"};
+    private static final String[] LAST_NAMES = {
+            "Reddy", "Sharma", "Rao", "Kumar", "Iyer", "Naidu", "Patel", "Gupta", "Varma", "Menon",
+            "Chowdary", "Nair", "Singh", "Joshi", "Das"};
+    private static final String[] DEPARTMENTS = {"CSE", "ECE", "EEE", "IT", "MECH", "CIVIL", "AI&DS", "CSM"};
+    private static final String[] VENUES = {
+            "Seminar Hall 1", "Seminar Hall 2", "Main Auditorium", "Innovation Lab", "Block C Conference Room",
+            "Open Air Theatre", "Online"};
+    private static final String[] GALLERY_CATEGORIES = {
+            "Workshops", "Competitions", "Conferences", "Celebrations", "Field Visits", "Awards"};
+    private static final String[] AWARD_CATEGORIES = {
+            "Best Student Branch", "Outstanding Volunteer", "Best Paper", "Hackathon Winner", "Exemplary Chapter"};
+    private static final String[] ORGANIZATIONS = {"IEEE Hyderabad Section", "IEEE Region 10", "IEEE India Council"};
+    private static final String[] AUDIENCES = {"ALL", "MEMBERS", "STUDENTS", "EXECUTIVES"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final IdGeneratorSeeder idGeneratorSeeder;
+
+    /** Rows to create per table. */
+    public record DatasetSize(int users, int societies, int councils, int upcomingEvents, int pastEvents,
+                              int registrations, int galleryItems, int notifications, int achievements) {
+    }
+
+    /** Seed, the "now" every date is relative to, and how the work is split. */
+    public record GenerationOptions(long seed, LocalDateTime referenceDate, int threads, int chunkSize) {
+    }
+
+    // First generated id and row count of a table, used to draw foreign keys into it
+    private record IdRange(long first, int count) {
+        long pick(SplittableRandom random, double skew) {
+            return first + skewedIndex(random, count, skew);
+        }
+    }
+
+    /**
+     * Which (user, event) pair each registration row gets. Every user registers for an event at most
+     * once, as {@code EventRegistrationRepository.findByUserIdAndEventId} expects. Rows are grouped by
+     * event: the number of registrations per event is drawn up front (a few headline events draw most
+     * of them, capped at the number of users), and the k-th registration of an event goes to the user
+     * at {@code (offset + k * stride) mod users}, which is a different user for every k. A row's pair
+     * only depends on its index, so chunks can be written in any order.
+     */
+    private static final class RegistrationPlan {
+
+        private final IdRange users;
+        private final long[] eventStarts;
+        private final long[] userOffsets;
+        private final long stride;
+        private final int rows;
+
+        RegistrationPlan(long seed, IdRange users, IdRange events, int requested) {
+            this.users = users;
+            long capacity = (long) users.count() * events.count();
+            this.rows = (int) Math.min(requested, capacity);
+            if (rows < requested) {
+                log.warn("Only {} distinct (user, event) pairs; generating {} registrations instead of {}",
+                        capacity, rows, requested);
+            }
+            SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+            int[] quotas = new int[events.count()];
+            for (int i = 0; i < rows; i++) {
+                int event = skewedIndex(random, events.count(), 2.5);
+                while (quotas[event] == users.count()) {
+                    event = (event + 1) % events.count();
+                }
+                quotas[event]++;
+            }
+            this.eventStarts = new long[events.count() + 1];
+            this.userOffsets = new long[events.count()];
+            for (int event = 0; event < events.count(); event++) {
+                eventStarts[event + 1] = eventStarts[event] + quotas[event];
+                // Early registrants lean towards the same active users
+                userOffsets[event] = skewedIndex(random, users.count(), 1.5);
+            }
+            long step = Math.max(1, (long) (users.count() * 0.618));
+            while (gcd(step, users.count()) != 1) {
+                step++;
+            }
+            this.stride = step;
+        }
+
+        int rows() {
+            return rows;
+        }
+
+        int eventIndex(long row) {
+            int found = Arrays.binarySearch(eventStarts, row);
+            if (found >= 0) {
+                // Skip events with no registrations, which share their start with the next one
+                while (eventStarts[found + 1] == row) {
+                    found++;
+                }
+                return found;
+            }
+            return -found - 2;
+        }
+
+        long userId(int event, long row) {
+            long k = row - eventStarts[event];
+            return users.first() + (userOffsets[event] + k * stride) % users.count();
+        }
+
+        private static long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, SplittableRandom random, long id, long index) throws SQLException;
+    }
+
+    public Map<String, Integer> generate(DatasetSize size, GenerationOptions options) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = options.referenceDate();
+        String q = jdbcTemplate.execute((ConnectionCallback<String>) con ->
+                con.getMetaData().getIdentifierQuoteString().trim());
+        String password = passwordEncoder.encode("password");
+        Map<String, Integer> created = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        try {
+            IdRange societies = fill(executor, options, created, "societies",
+                    "name, description, established_year, image_url, is_active, member_count, student_member_count, "
+                            + "mission, vision, objectives, version", size.societies(),
+                    (ps, r, id, i) -> {
+                        String field = FIELDS[(int) (i % FIELDS.length)];
+                        ps.setString(1, "IEEE " + field + " Society " + (i / FIELDS.length + 1));
+                        ps.setString(2, sentence(r, 30));
+                        ps.setInt(3, 1960 + r.nextInt(64));
+                        ps.setString(4, "https://cdn." + EMAIL_DOMAIN + "/societies/" + id + ".png");
+                        ps.setBoolean(5, r.nextInt(100) < 92);
+                        int members = 20 + skewedIndex(r, 980, 3.0);
+                        ps.setInt(6, members);
+                        ps.setInt(7, members * (40 + r.nextInt(50)) / 100);
+                        ps.setString(8, sentence(r, 15));
+                        ps.setString(9, sentence(r, 15));
+                        ps.setString(10, sentence(r, 25));
+                        ps.setLong(11, 0);
+                    });
+            IdRange councils = fill(executor, options, created, "councils",
+                    "name, description, established_year, image_url, is_active, member_count, student_member_count, "
+                            + "chair_person, website_url, mission, vision, objectives, version", size.councils(),
+                    (ps, r, id, i) -> {
+                        ps.setString(1, "IEEE " + TOPICS[(int) (i % TOPICS.length)] + " Council " + (i / TOPICS.length + 1));
+                        ps.setString(2, sentence(r, 30));
+                        ps.setInt(3, 1980 + r.nextInt(44));
+                        ps.setString(4, "https://cdn." + EMAIL_DOMAIN + "/councils/" + id + ".png");
+                        ps.setBoolean(5, r.nextInt(100) < 95);
+                        int members = 30 + skewedIndex(r, 1500, 3.0);
+                        ps.setInt(6, members);
+                        ps.setInt(7, members * (30 + r.nextInt(50)) / 100);
+                        ps.setString(8, fullName(r));
+                        ps.setString(9, "https://council" + id + "." + EMAIL_DOMAIN);
+                        ps.setString(10, sentence(r, 15));
+                        ps.setString(11, sentence(r, 15));
+                        ps.setString(12, sentence(r, 25));
+                        ps.setLong(13, 0);
+                    });
+            User.UserRole[] roles = User.UserRole.values();
+            IdRange users = fill(executor, options, created, "users",
+                    "email, password, full_name, role, entity_id, department, year_of_study, student_id, is_active, "
+                            + "email_verified, created_at, last_login, updated_at", size.users(),
+                    (ps, r, id, i) -> {
+                        // ADMIN, EXECUTIVE, MODERATOR, MEMBER, GUEST, SOCIETY_ADMIN, COUNCIL_ADMIN
+                        User.UserRole role = weighted(r, roles, 1, 30, 10, 880, 60, 12, 7);
+                        ps.setString(1, "user" + id + "@" + EMAIL_DOMAIN);
+                        ps.setString(2, password);
+                        ps.setString(3, fullName(r));
+                        ps.setString(4, role.name());
+                        if (role == User.UserRole.SOCIETY_ADMIN && societies.count() > 0) {
+                            ps.setLong(5, societies.pick(r, 1.0));
+                        } else if (role == User.UserRole.COUNCIL_ADMIN && councils.count() > 0) {
+                            ps.setLong(5, councils.pick(r, 1.0));
+                        } else {
+                            ps.setNull(5, Types.BIGINT);
+                        }
+                        ps.setString(6, DEPARTMENTS[r.nextInt(DEPARTMENTS.length)]);
+                        ps.setInt(7, 1 + r.nextInt(4));
+                        ps.setString(8, "21A" + String.format("%07d", id));
+                        ps.setBoolean(9, r.nextInt(100) < 97);
+                        ps.setBoolean(10, r.nextInt(100) < 85);
+                        LocalDateTime joined = now.minusDays(r.nextInt(4 * 365)).minusMinutes(r.nextInt(1440));
+                        ps.setTimestamp(11, Timestamp.valueOf(joined));
+                        // Most members log in rarely; a small active core logs in every few days
+                        ps.setTimestamp(12, Timestamp.valueOf(now.minusHours(skewedIndex(r, 24 * 365, 0.4))));
+                        ps.setTimestamp(13, Timestamp.valueOf(joined));
+                    });
+            UpcomingEvent.EventType[] eventTypes = UpcomingEvent.EventType.values();
+            IdRange upcomingEvents = fill(executor, options, created, "upcoming_events",
+                    "title, description, event_date, event_type, venue, hosting_branch_name, image_url, "
+                            + "is_registration_open, max_participants, registration_deadline, registration_fee, "
+                            + "society_id, council_id, created_at, updated_at", size.upcomingEvents(),
+                    (ps, r, id, i) -> {
+                        // WORKSHOP, SEMINAR, CONFERENCE, HACKATHON, SYMPOSIUM, BOOTCAMP, SUMMIT
+                        UpcomingEvent.EventType type = weighted(r, eventTypes, 40, 25, 5, 12, 6, 8, 4);
+                        LocalDateTime eventDate = now.plusDays(1 + r.nextInt(180)).withHour(9 + r.nextInt(8))
+                                .withMinute(r.nextInt(4) * 15).withSecond(0).withNano(0);
+                        LocalDateTime deadline = eventDate.minusDays(r.nextInt(10));
+                        ps.setString(1, title(r, type.name()));
+                        ps.setString(2, sentence(r, 40));
+                        ps.setTimestamp(3, Timestamp.valueOf(eventDate));
+                        ps.setString(4, type.name());
+                        ps.setString(5, VENUES[r.nextInt(VENUES.length)]);
+                        ps.setString(6, "IEEE " + FIELDS[r.nextInt(FIELDS.length)] + " Society");
+                        ps.setString(7, "https://cdn." + EMAIL_DOMAIN + "/events/" + id + ".jpg");
+                        ps.setBoolean(8, r.nextInt(100) < 85);
+                        ps.setInt(9, 30 + 10 * r.nextInt(48));
+                        ps.setTimestamp(10, Timestamp.valueOf(deadline));
+                        ps.setDouble(11, r.nextInt(100) < 60 ? 0.0 : 50.0 * (1 + r.nextInt(10)));
+                        setOwner(ps, 12, r, societies, councils);
+                        ps.setTimestamp(14, Timestamp.valueOf(now.minusDays(r.nextInt(60))));
+                        ps.setTimestamp(15, Timestamp.valueOf(now.minusDays(r.nextInt(7))));
+                    });
+            IdRange pastEvents = fill(executor, options, created, "past_events",
+                    "title, description, event_date, duration_hours, feedback_rating, venue, hosting_branch_name, "
+                            + "image_url, participants_count, society_id, council_id, created_at, updated_at",
+                    size.pastEvents(),
+                    (ps, r, id, i) -> {
+                        LocalDateTime eventDate = now.minusDays(1 + r.nextInt(5 * 365)).withHour(9 + r.nextInt(8))
+                                .withMinute(0).withSecond(0).withNano(0);
+                        ps.setString(1, title(r, eventTypes[r.nextInt(eventTypes.length)].name()));
+                        ps.setString(2, sentence(r, 50));
+                        ps.setTimestamp(3, Timestamp.valueOf(eventDate));
+                        ps.setInt(4, 1 + skewedIndex(r, 48, 3.0));
+                        // Ratings cluster around 4 with a thin tail of poorly received events
+                        double rating = Math.min(5.0, Math.max(1.0, 4.1 + r.nextDouble(-1.0, 1.0) * r.nextDouble(0.3, 1.6)));
+                        ps.setDouble(5, Math.round(rating * 10.0) / 10.0);
+                        ps.setString(6, VENUES[r.nextInt(VENUES.length)]);
+                        ps.setString(7, "IEEE " + FIELDS[r.nextInt(FIELDS.length)] + " Society");
+                        ps.setString(8, "https://cdn." + EMAIL_DOMAIN + "/past-events/" + id + ".jpg");
+                        ps.setString(9, String.valueOf(15 + skewedIndex(r, 600, 2.5)));
+                        setOwner(ps, 10, r, societies, councils);
+                        ps.setTimestamp(12, Timestamp.valueOf(eventDate.plusDays(1)));
+                        ps.setTimestamp(13, Timestamp.valueOf(eventDate.plusDays(1)));
+                    });
+            EventRegistration.RegistrationStatus[] statuses = EventRegistration.RegistrationStatus.values();
+            EventRegistration.PaymentStatus[] payments = EventRegistration.PaymentStatus.values();
+            if (users.count() > 0 && upcomingEvents.count() > 0) {
+                RegistrationPlan plan = new RegistrationPlan(options.seed(), users, upcomingEvents, size.registrations());
+                fill(executor, options, created, "event_registrations",
+                        "user_id, event_id, registration_status, payment_status, attendance_status, payment_amount, "
+                                + "registration_date, certificate_issued, created_at, updated_at", plan.rows(),
+                        (ps, r, id, i) -> {
+                            LocalDateTime registeredAt = now.minusDays(r.nextInt(60)).minusMinutes(r.nextInt(1440));
+                            int event = plan.eventIndex(i);
+                            ps.setLong(1, plan.userId(event, i));
+                            ps.setLong(2, upcomingEvents.first() + event);
+                            // PENDING, CONFIRMED, CANCELLED, WAITLISTED
+                            ps.setString(3, weighted(r, statuses, 15, 70, 7, 8).name());
+                            // PENDING, PAID, FAILED, REFUNDED
+                            EventRegistration.PaymentStatus payment = weighted(r, payments, 20, 72, 5, 3);
+                            ps.setString(4, payment.name());
+                            ps.setString(5, EventRegistration.AttendanceStatus.REGISTERED.name());
+                            ps.setDouble(6, payment == EventRegistration.PaymentStatus.PAID ? 50.0 * (1 + r.nextInt(10)) : 0.0);
+                            ps.setTimestamp(7, Timestamp.valueOf(registeredAt));
+                            ps.setBoolean(8, false);
+                            ps.setTimestamp(9, Timestamp.valueOf(registeredAt));
+                            ps.setTimestamp(10, Timestamp.valueOf(registeredAt));
+                        });
+            }
+            fill(executor, options, created, "gallery_items",
+                    "title, description, image_url, category, tags, upload_date, is_featured, alt_text, image_width, "
+                            + "image_height, society_id, council_id, past_event_id, created_at, updated_at",
+                    size.galleryItems(),
+                    (ps, r, id, i) -> {
+                        LocalDateTime uploaded = now.minusDays(r.nextInt(5 * 365)).minusMinutes(r.nextInt(1440));
+                        String category = GALLERY_CATEGORIES[skewedIndex(r, GALLERY_CATEGORIES.length, 1.8)];
+                        ps.setString(1, category + " " + TOPICS[r.nextInt(TOPICS.length)] + " #" + id);
+                        ps.setString(2, sentence(r, 20));
+                        ps.setString(3, "https://cdn." + EMAIL_DOMAIN + "/gallery/" + id + ".jpg");
+                        ps.setString(4, category);
+                        ps.setString(5, TOPICS[r.nextInt(TOPICS.length)] + "," + WORDS[r.nextInt(WORDS.length)]);
+                        ps.setTimestamp(6, Timestamp.valueOf(uploaded));
+                        ps.setBoolean(7, r.nextInt(100) < 3);
+                        ps.setString(8, sentence(r, 8));
+                        boolean landscape = r.nextInt(100) < 70;
+                        ps.setInt(9, landscape ? 1600 : 1067);
+                        ps.setInt(10, landscape ? 1067 : 1600);
+                        setOwner(ps, 11, r, societies, councils);
+                        if (pastEvents.count() > 0 && r.nextInt(100) < 60) {
+                            ps.setLong(13, pastEvents.pick(r, 2.0));
+                        } else {
+                            ps.setNull(13, Types.BIGINT);
+                        }
+                        ps.setTimestamp(14, Timestamp.valueOf(uploaded));
+                        ps.setTimestamp(15, Timestamp.valueOf(uploaded));
+                    });
+            Notification.NotificationType[] notificationTypes = Notification.NotificationType.values();
+            Notification.PriorityLevel[] priorities = Notification.PriorityLevel.values();
+            fill(executor, options, created, "notifications",
+                    "title, message, notification_type, priority_level, notification_time, expiry_date, is_unread, "
+                            + "target_audience, society_id, related_event_id, created_at, updated_at",
+                    size.notifications(),
+                    (ps, r, id, i) -> {
+                        LocalDateTime sent = now.minusHours(skewedIndex(r, 2 * 365 * 24, 1.3));
+                        // EVENT, ACHIEVEMENT, REMINDER, MEMBERSHIP, NEWSLETTER, ANNOUNCEMENT, DEADLINE
+                        Notification.NotificationType type = weighted(r, notificationTypes, 35, 8, 20, 7, 5, 15, 10);
+                        ps.setString(1, type.name().charAt(0) + type.name().substring(1).toLowerCase() + ": "
+                                + TOPICS[r.nextInt(TOPICS.length)]);
+                        ps.setString(2, sentence(r, 25));
+                        ps.setString(3, type.name());
+                        // LOW, MEDIUM, HIGH, URGENT
+                        ps.setString(4, weighted(r, priorities, 30, 50, 15, 5).name());
+                        ps.setTimestamp(5, Timestamp.valueOf(sent));
+                        ps.setTimestamp(6, Timestamp.valueOf(sent.plusDays(7 + r.nextInt(60))));
+                        ps.setBoolean(7, r.nextInt(100) < 30);
+                        ps.setString(8, AUDIENCES[weightedIndex(r, 70, 15, 10, 5)]);
+                        if (societies.count() > 0 && r.nextInt(100) < 50) {
+                            ps.setLong(9, societies.pick(r, 2.0));
+                        } else {
+                            ps.setNull(9, Types.BIGINT);
+                        }
+                        if (upcomingEvents.count() > 0 && type == Notification.NotificationType.EVENT) {
+                            ps.setLong(10, upcomingEvents.pick(r, 2.0));
+                        } else {
+                            ps.setNull(10, Types.BIGINT);
+                        }
+                        ps.setTimestamp(11, Timestamp.valueOf(sent));
+                        ps.setTimestamp(12, Timestamp.valueOf(sent));
+                    });
+            fill(executor, options, created, "achievements",
+                    "title, description, " + q + "year" + q + ", achievement_date, award_category, awarding_organization, "
+                            + "recipient_name, is_featured, society_id, council_id, created_at, updated_at",
+                    size.achievements(),
+                    (ps, r, id, i) -> {
+                        LocalDateTime achievedAt = now.minusDays(r.nextInt(10 * 365));
+                        String award = AWARD_CATEGORIES[r.nextInt(AWARD_CATEGORIES.length)];
+                        ps.setString(1, award + " " + achievedAt.getYear());
+                        ps.setString(2, sentence(r, 30));
+                        ps.setString(3, String.valueOf(achievedAt.getYear()));
+                        ps.setTimestamp(4, Timestamp.valueOf(achievedAt));
+                        ps.setString(5, award);
+                        ps.setString(6, ORGANIZATIONS[r.nextInt(ORGANIZATIONS.length)]);
+                        ps.setString(7, fullName(r));
+                        ps.setBoolean(8, r.nextInt(100) < 10);
+                        setOwner(ps, 9, r, societies, councils);
+                        ps.setTimestamp(11, Timestamp.valueOf(achievedAt));
+                        ps.setTimestamp(12, Timestamp.valueOf(achievedAt));
+                    });
+        } finally {
+            executor.shutdownNow();
+        }
+        // Generated rows carry explicit ids; move the id counters past them
+        idGeneratorSeeder.seed();
+        log.info("Synthetic dataset generated in {} ms: {}", System.currentTimeMillis() - startedAt, created);
+        return created;
+    }
+
+    private IdRange fill(ExecutorService executor, GenerationOptions options, Map<String, Integer> created,
+                         String table, String columns, int rows, RowWriter writer) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        IdRange range = new IdRange(maxId + 1, rows);
+        int columnCount = columns.split(",").length;
+        String placeholders = String.join(", ", Collections.nCopies(columnCount + 1, "?"));
+        String sql = "INSERT INTO " + table + " (" + columns + ", id) VALUES (" + placeholders + ")";
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int start = 0; start < rows; start += options.chunkSize()) {
+            int chunkStart = start;
+            int chunkRows = Math.min(options.chunkSize(), rows - start);
+            SplittableRandom random = new SplittableRandom(
+                    options.seed() ^ (table.hashCode() * 0x9E3779B97F4A7C15L) ^ (chunkStart * 0xC2B2AE3D27D4EB4FL));
+            chunks.add(executor.submit(() -> transaction.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            long index = chunkStart + i;
+                            long id = range.first() + index;
+                            writer.write(ps, random, id, index);
+                            ps.setLong(columnCount + 1, id);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunkRows;
+                        }
+                    }))));
+        }
+        for (Future<?> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Data generation interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to generate " + table, e.getCause());
+            }
+        }
+        created.put(table, rows);
+        log.info("Generated {} rows in {}", rows, table);
+        return range;
+    }
+
+    private static void setOwner(PreparedStatement ps, int index, SplittableRandom random,
+                                 IdRange societies, IdRange councils) throws SQLException {
+        // Societies own about four in five records, councils the rest
+        boolean society = societies.count() > 0 && (councils.count() == 0 || random.nextInt(100) < 80);
+        if (society) {
+            ps.setLong(index, societies.pick(random, 2.0));
+            ps.setNull(index + 1, Types.BIGINT);
+        } else if (councils.count() > 0) {
+            ps.setNull(index, Types.BIGINT);
+            ps.setLong(index + 1, councils.pick(random, 2.0));
+        } else {
+            ps.setNull(index, Types.BIGINT);
+            ps.setNull(index + 1, Types.BIGINT);
+        }
+    }
+
+    /**
+     * Index in [0, n) biased towards 0: skew 1 is uniform, larger values give a heavier head
+     * (a handful of popular societies, events and users), values below 1 favour the tail.
+     */
+    static int skewedIndex(SplittableRandom random, int n, double skew) {
+        return Math.min(n - 1, (int) (n * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private static <E extends Enum<E>> E weighted(SplittableRandom random, E[] values, int... weights) {
+        return values[weightedIndex(random, weights)];
+    }
+
+    private static int weightedIndex(SplittableRandom random, int... weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static String title(SplittableRandom random, String type) {
+        return TOPICS[random.nextInt(TOPICS.length)] + " " + type.charAt(0) + type.substring(1).toLowerCase();
+    }
+
+    private static String fullName(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String sentence(SplittableRandom random, int maxWords) {
+        int words = 4 + random.nextInt(Math.max(1, maxWords - 3));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Generates the synthetic dataset at startup when the datagen profile is active. Sizes, seed and
+ * parallelism come from application-datagen.properties.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${datagen.users}")
+    private int users;
+
+    @Value("${datagen.societies}")
+    private int societies;
+
+    @Value("${datagen.councils}")
+    private int councils;
+
+    @Value("${datagen.upcoming-events}")
+    private int upcomingEvents;
+
+    @Value("${datagen.past-events}")
+    private int pastEvents;
+
+    @Value("${datagen.registrations}")
+    private int registrations;
+
+    @Value("${datagen.gallery-items}")
+    private int galleryItems;
+
+    @Value("${datagen.notifications}")
+    private int notifications;
+
+    @Value("${datagen.achievements}")
+    private int achievements;
+
+    @Value("${datagen.seed}")
+    private long seed;
+
+    @Value("${datagen.reference-date:}")
+    private String referenceDate;
+
+    @Value("${datagen.threads:0}")
+    private int threads;
+
+    @Value("${datagen.chunk-size}")
+    private int chunkSize;
+
+    @Value("${datagen.skip-if-present:true}")
+    private boolean skipIfPresent;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE ?",
+                Integer.class, "%@" + SyntheticDataGenerator.EMAIL_DOMAIN);
+        if (skipIfPresent && existing != null && existing > 0) {
+            log.info("Synthetic data already present ({} users), skipping generation", existing);
+            return;
+        }
+        LocalDateTime reference = StringUtils.hasText(referenceDate)
+                ? LocalDate.parse(referenceDate).atStartOfDay()
+                : LocalDate.now().atStartOfDay();
+        int workers = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors());
+        syntheticDataGenerator.generate(
+                new SyntheticDataGenerator.DatasetSize(users, societies, councils, upcomingEvents, pastEvents,
+                        registrations, galleryItems, notifications, achievements),
+                new SyntheticDataGenerator.GenerationOptions(seed, reference, workers, chunkSize));
+    }
+}
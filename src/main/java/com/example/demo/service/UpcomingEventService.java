@@ -1,12 +1,11 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.CursorPageDTO;
 import com.example.demo.dto.UpcomingEventDTO;
 import com.example.demo.model.UpcomingEvent;
 import com.example.demo.model.Society;
 import com.example.demo.model.Council;
 import com.example.demo.repository.UpcomingEventRepository;
-import com.example.demo.repository.SocietyRepository;
-import com.example.demo.repository.CouncilRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,7 +14,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -25,10 +26,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class UpcomingEventService {
 
+    // DTO properties that can be requested through the fields parameter
+    private static final Map<String, String> SELECTABLE_FIELDS = FieldSelectionService.fieldPaths(
+            "id", "title", "eventDate", "image", "description", "registrations", "hostingBranchName",
+            "hostingBranchLogo", "venue", "registrationDeadline", "maxParticipants", "registrationFee", "isRegistrationOpen",
+            "eventType", "societyId=society.id", "societyName=society.name", "councilId=council.id", "councilName=council.name");
+
     private final UpcomingEventRepository upcomingEventRepository;
-    private final SocietyRepository societyRepository;
-    private final CouncilRepository councilRepository;
+    private final ReferenceLookupService referenceLookupService;
+    private final FieldSelectionService fieldSelectionService;
 
+    @Transactional(readOnly = true)
     public List<UpcomingEventDTO> getAllUpcomingEvents() {
         log.info("Fetching all upcoming events");
         return upcomingEventRepository.findAllByOrderByEventDateAsc()
@@ -37,18 +45,49 @@ public class UpcomingEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllUpcomingEventFields(String fields) {
+        log.info("Fetching all upcoming events with fields: {}", fields);
+        return fieldSelectionService.select(UpcomingEvent.class, SELECTABLE_FIELDS, fields,
+                null, "eventDate", true);
+    }
+
+    @Transactional(readOnly = true)
     public Page<UpcomingEventDTO> getAllUpcomingEvents(Pageable pageable) {
         log.info("Fetching upcoming events with pagination");
         return upcomingEventRepository.findAllByOrderByEventDateAsc(pageable)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<UpcomingEventDTO> getUpcomingEventsCursorPage(String cursor, int size, boolean includeTotal) {
+        log.info("Fetching upcoming events with cursor pagination");
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<UpcomingEvent> rows;
+        if (after == null) {
+            rows = upcomingEventRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else if (after.key() == null) {
+            rows = upcomingEventRepository.findKeysetPageAfterNullKey(after.id(), KeysetCursor.limit(size));
+        } else {
+            rows = upcomingEventRepository.findKeysetPageAfter(after.dateKey(), after.id(), KeysetCursor.limit(size));
+        }
+        if ((after == null || after.key() != null) && rows.size() <= size) {
+            // Dated rows ran out: continue with the undated tail
+            rows = new ArrayList<>(rows);
+            rows.addAll(upcomingEventRepository.findKeysetPageAfterNullKey(0L, KeysetCursor.limit(size - rows.size())));
+        }
+        return KeysetCursor.toPage(rows, size, this::convertToDTO, UpcomingEvent::getEventDate, UpcomingEvent::getId,
+                includeTotal ? upcomingEventRepository.count() : null);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<UpcomingEventDTO> getUpcomingEventById(Long id) {
         log.info("Fetching upcoming event with id: {}", id);
         return upcomingEventRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<UpcomingEventDTO> getUpcomingEventsAfterDate(LocalDateTime date) {
         log.info("Fetching upcoming events after date: {}", date);
         return upcomingEventRepository.findByEventDateAfterOrderByEventDateAsc(date)
@@ -57,6 +96,14 @@ public class UpcomingEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUpcomingEventFieldsAfterDate(LocalDateTime date, String fields) {
+        log.info("Fetching upcoming events after date {} with fields: {}", date, fields);
+        return fieldSelectionService.select(UpcomingEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.greaterThan(root.get("eventDate"), date), "eventDate", true);
+    }
+
+    @Transactional(readOnly = true)
     public List<UpcomingEventDTO> getEventsWithOpenRegistration() {
         log.info("Fetching events with open registration");
         return upcomingEventRepository.findEventsWithOpenRegistration(LocalDateTime.now())
@@ -65,6 +112,17 @@ public class UpcomingEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEventFieldsWithOpenRegistration(String fields) {
+        log.info("Fetching events with open registration with fields: {}", fields);
+        LocalDateTime now = LocalDateTime.now();
+        return fieldSelectionService.select(UpcomingEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.and(cb.greaterThanOrEqualTo(root.get("registrationDeadline"), now),
+                        cb.isTrue(root.get("isRegistrationOpen"))),
+                "registrationDeadline", true);
+    }
+
+    @Transactional(readOnly = true)
     public List<UpcomingEventDTO> getFreeUpcomingEvents() {
         log.info("Fetching free upcoming events");
         return upcomingEventRepository.findFreeUpcomingEvents(LocalDateTime.now())
@@ -73,6 +131,16 @@ public class UpcomingEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getFreeUpcomingEventFields(String fields) {
+        log.info("Fetching free upcoming events with fields: {}", fields);
+        LocalDateTime now = LocalDateTime.now();
+        return fieldSelectionService.select(UpcomingEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.and(cb.equal(root.get("registrationFee"), 0.0), cb.greaterThan(root.get("eventDate"), now)),
+                "eventDate", true);
+    }
+
+    @Transactional(readOnly = true)
     public List<UpcomingEventDTO> getEventsByType(UpcomingEvent.EventType eventType) {
         log.info("Fetching events by type: {}", eventType);
         return upcomingEventRepository.findByEventType(eventType)
@@ -81,6 +149,13 @@ public class UpcomingEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEventFieldsByType(UpcomingEvent.EventType eventType, String fields) {
+        log.info("Fetching events by type {} with fields: {}", eventType, fields);
+        return fieldSelectionService.select(UpcomingEvent.class, SELECTABLE_FIELDS, fields,
+                (cb, root) -> cb.equal(root.get("eventType"), eventType), null, true);
+    }
+
     public UpcomingEventDTO createUpcomingEvent(UpcomingEventDTO eventDTO) {
         log.info("Creating new upcoming event: {}", eventDTO.getTitle());
         UpcomingEvent event = convertToEntity(eventDTO);
@@ -107,6 +182,7 @@ public class UpcomingEventService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<UpcomingEventDTO> searchEvents(String keyword) {
         log.info("Searching upcoming events with keyword: {}", keyword);
         return upcomingEventRepository.searchEventsByKeyword(keyword)
@@ -115,10 +191,19 @@ public class UpcomingEventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchEventFields(String keyword, String fields) {
+        log.info("Searching upcoming events with keyword {} with fields: {}", keyword, fields);
+        return fieldSelectionService.select(UpcomingEvent.class, SELECTABLE_FIELDS, fields,
+                FieldSelectionService.containsIgnoringCase(keyword, "title", "description"), null, true);
+    }
+
+    @Transactional(readOnly = true)
     public long getUpcomingEventsCount() {
         return upcomingEventRepository.countByEventDateAfter(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public long getOpenRegistrationEventsCount() {
         return upcomingEventRepository.countByIsRegistrationOpenTrue();
     }
@@ -168,37 +253,27 @@ public class UpcomingEventService {
         event.setEventType(eventDTO.getEventType());
 
         if (eventDTO.getSocietyId() != null) {
-            Society society = societyRepository.findById(eventDTO.getSocietyId()).orElse(null);
+            Society society = referenceLookupService.findSociety(eventDTO.getSocietyId());
             event.setSociety(society);
         }
 
         if (eventDTO.getCouncilId() != null) {
-            Council council = councilRepository.findById(eventDTO.getCouncilId()).orElse(null);
+            Council council = referenceLookupService.findCouncil(eventDTO.getCouncilId());
             event.setCouncil(council);
         }
     }
 
-    public List<UpcomingEventDTO> getEventsBySocietyId(Long societyId) {
-        log.info("Fetching upcoming events for society id: {}", societyId);
-        Society society = societyRepository.findById(societyId).orElse(null);
-        if (society == null) {
-            return List.of();
-        }
-        return upcomingEventRepository.findBySociety(society)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<UpcomingEventDTO> getEventsBySocietyId(Long societyId, Pageable pageable) {
+        log.info("Fetching upcoming events for society id: {} (page {})", societyId, pageable.getPageNumber());
+        return upcomingEventRepository.findBySocietyId(societyId, pageable)
+                .map(this::convertToDTO);
     }
 
-    public List<UpcomingEventDTO> getEventsByCouncilId(Long councilId) {
-        log.info("Fetching upcoming events for council id: {}", councilId);
-        Council council = councilRepository.findById(councilId).orElse(null);
-        if (council == null) {
-            return List.of();
-        }
-        return upcomingEventRepository.findByCouncil(council)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<UpcomingEventDTO> getEventsByCouncilId(Long councilId, Pageable pageable) {
+        log.info("Fetching upcoming events for council id: {} (page {})", councilId, pageable.getPageNumber());
+        return upcomingEventRepository.findByCouncilId(councilId, pageable)
+                .map(this::convertToDTO);
     }
 }
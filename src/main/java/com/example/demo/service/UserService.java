@@ -1,10 +1,13 @@
 package com.example.demo.service;
 
+import com.example.demo.config.CacheConfig;
 import com.example.demo.dto.UserDTO;
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +28,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
         log.info("Fetching all users");
         return userRepository.findByIsActiveTrueOrderByFullNameAsc()
@@ -33,18 +37,21 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(Long id) {
         log.info("Fetching user with id: {}", id);
         return userRepository.findById(id)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserDTO> getUserByEmail(String email) {
         log.info("Fetching user with email: {}", email);
         return userRepository.findByEmailAndIsActiveTrue(email)
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<UserDTO> getUsersByRole(User.UserRole role) {
         log.info("Fetching users by role: {}", role);
         return userRepository.findActiveUsersByRole(role)
@@ -53,6 +60,7 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<UserDTO> getUsersByDepartment(String department) {
         log.info("Fetching users by department: {}", department);
         return userRepository.findByDepartment(department)
@@ -78,6 +86,11 @@ public class UserService {
         return convertToDTO(savedUser);
     }
 
+    // Role, entity and active flag feed cached dashboard access decisions
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACCESS_PRINCIPALS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ACCESS_DECISIONS, allEntries = true)
+    })
     public Optional<UserDTO> updateUser(Long id, UserDTO userDTO) {
         log.info("Updating user with id: {}", id);
         return userRepository.findById(id)
@@ -88,6 +101,10 @@ public class UserService {
                 });
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACCESS_PRINCIPALS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ACCESS_DECISIONS, allEntries = true)
+    })
     public boolean deleteUser(Long id) {
         log.info("Deactivating user with id: {}", id);
         return userRepository.findById(id)
@@ -114,6 +131,7 @@ public class UserService {
         return false;
     }
 
+    @Transactional(readOnly = true)
     public List<UserDTO> searchUsers(String keyword) {
         log.info("Searching users with keyword: {}", keyword);
         return userRepository.searchUsersByKeyword(keyword)
@@ -122,14 +140,17 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getUserCountByDepartment() {
         return userRepository.getUserCountByDepartment();
     }
 
+    @Transactional(readOnly = true)
     public List<Object[]> getUserCountByRole() {
         return userRepository.getUserCountByRole();
     }
 
+    @Transactional(readOnly = true)
     public long getActiveUsersCount() {
         return userRepository.countByIsActiveTrue();
     }
@@ -0,0 +1,63 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.service.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+
+import java.time.LocalDate;
+
+/**
+ * The application context without the web server, on the embedded H2 database filled by
+ * {@link SyntheticDataGenerator}. Shared by the benchmarks that go through Spring beans; one
+ * context per fork, built before the first warmup iteration.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    static final SyntheticDataGenerator.DatasetSize DATASET =
+            new SyntheticDataGenerator.DatasetSize(2000, 60, 20, 300, 1200, 20000, 5000, 2000, 300);
+
+    private static final String[] ARGS = {
+            "--spring.profiles.active=embedded",
+            "--lifecycle.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.org.springframework.web=WARN"
+    };
+
+    ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(ARGS);
+        // Dates are relative to today so upcoming events and open registrations stay in the future
+        context.getBean(SyntheticDataGenerator.class).generate(DATASET,
+                new SyntheticDataGenerator.GenerationOptions(42, LocalDate.now().atStartOfDay(), 4, 2000));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /** The bean behind its transactional or caching proxy, for calling its private helpers. */
+    <T> T target(Class<T> type) {
+        return AopTestUtils.getUltimateTargetObject(context.getBean(type));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.UserDTO;
+import com.example.demo.service.AuthService;
+import com.example.demo.service.SyntheticDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AuthService.getUserFromToken}, which every dashboard request runs: the format check alone,
+ * and the full path including the user lookup by email.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthTokenBenchmark {
+
+    private AuthService authService;
+    private String knownUserToken;
+    private String unknownUserToken;
+    private String malformedToken;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        authService = application.bean(AuthService.class);
+        long firstUserId = application.bean(JdbcTemplate.class)
+                .queryForObject("SELECT MIN(id) FROM users", Long.class);
+        knownUserToken = token("user" + firstUserId + "@" + SyntheticDataGenerator.EMAIL_DOMAIN);
+        unknownUserToken = token("nobody@" + SyntheticDataGenerator.EMAIL_DOMAIN);
+        malformedToken = "Bearer abc";
+    }
+
+    private static String token(String email) {
+        return "ieee_token_" + System.currentTimeMillis() + "_" + email + "_1a2b3c4d";
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return authService.validateToken(knownUserToken);
+    }
+
+    @Benchmark
+    public Optional<UserDTO> knownUser() {
+        return authService.getUserFromToken(knownUserToken);
+    }
+
+    @Benchmark
+    public Optional<UserDTO> unknownUser() {
+        return authService.getUserFromToken(unknownUserToken);
+    }
+
+    @Benchmark
+    public Optional<UserDTO> malformedToken() {
+        return authService.getUserFromToken(malformedToken);
+    }
+}
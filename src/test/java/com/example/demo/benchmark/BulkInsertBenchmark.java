@@ -0,0 +1,162 @@
+package com.example.demo.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts per second through Hibernate with IDENTITY ids (the old mapping, one INSERT per row)
+ * against pooled-lo table ids with JDBC batching (the current mapping). Runs on in-memory H2 by
+ * default; pass {@code -Dbenchmark.jdbc.url=jdbc:mysql://...?rewriteBatchedStatements=true}
+ * (plus {@code benchmark.jdbc.user} / {@code benchmark.jdbc.password}) to measure MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String[] JDBC_PROPERTIES = {
+            "benchmark.jdbc.url", "benchmark.jdbc.user", "benchmark.jdbc.password"};
+
+    @Param({"identity", "pooled-lo"})
+    private String ids;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1"))
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.jdbc.user", "sa"))
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.jdbc.password", ""))
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from IdentityRow").executeUpdate();
+            session.createMutationQuery("delete from PooledRow").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        boolean identity = "identity".equals(ids);
+        LocalDateTime uploadedAt = LocalDateTime.now();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                GalleryRow row = identity ? new IdentityRow() : new PooledRow();
+                row.fill("Workshop photo " + i, "https://cdn.example.org/gallery/" + i + ".jpg",
+                        i % 2 == 0 ? "Workshops" : "Competitions", uploadedAt);
+                session.persist(row);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(BulkInsertBenchmark.class.getSimpleName());
+        for (String property : JDBC_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                options.jvmArgsAppend("-D" + property + "=" + System.getProperty(property));
+            }
+        }
+        new Runner(options.build()).run();
+    }
+
+    interface GalleryRow {
+        void fill(String title, String imageUrl, String category, LocalDateTime uploadDate);
+    }
+
+    @Entity(name = "IdentityRow")
+    @Table(name = "bench_identity_rows")
+    public static class IdentityRow implements GalleryRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(length = 500) String title;
+        String imageUrl;
+        String category;
+        LocalDateTime uploadDate;
+
+        @Override
+        public void fill(String title, String imageUrl, String category, LocalDateTime uploadDate) {
+            this.title = title;
+            this.imageUrl = imageUrl;
+            this.category = category;
+            this.uploadDate = uploadDate;
+        }
+    }
+
+    @Entity(name = "PooledRow")
+    @Table(name = "bench_pooled_rows")
+    public static class PooledRow implements GalleryRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_pooled_rows_id")
+        @TableGenerator(name = "bench_pooled_rows_id", table = "bench_id_generators",
+                pkColumnValue = "bench_pooled_rows", allocationSize = 50)
+        Long id;
+        @Column(length = 500) String title;
+        String imageUrl;
+        String category;
+        LocalDateTime uploadDate;
+
+        @Override
+        public void fill(String title, String imageUrl, String category, LocalDateTime uploadDate) {
+            this.title = title;
+            this.imageUrl = imageUrl;
+            this.category = category;
+            this.uploadDate = uploadDate;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator for comparing the platform-thread baseline with the {@code virtual}
+ * profile. Each simulated client sends its next request as soon as the previous one completes, and
+ * the harness reports throughput per concurrency level. The client is fully asynchronous, so 10k
+ * clients do not need 10k threads here. Raise {@code ulimit -n} on both sides for the larger levels.
+ *
+ * <pre>
+ * java -cp target/test-classes:... com.example.demo.benchmark.ConcurrencyLoadHarness \
+ *     http://localhost:8081 /api/dashboard/home-data 1000,2500,5000,10000 30
+ * </pre>
+ *
+ * A unique query parameter is appended to every request so the response-bytes cache and conditional
+ * GETs do not hide the database work being measured.
+ */
+public class ConcurrencyLoadHarness {
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+        String path = args.length > 1 ? args[1] : "/api/dashboard/home-data";
+        String[] levels = (args.length > 2 ? args[2] : "1000,2500,5000,10000").split(",");
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("%-8s %12s %10s %10s %14s%n", "clients", "requests", "errors", "req/s", "mean ms");
+        for (String level : levels) {
+            Result result = run(client, baseUrl + path, Integer.parseInt(level.trim()), seconds);
+            System.out.printf("%-8s %12d %10d %10.1f %14.1f%n", level.trim(), result.completed(), result.errors(),
+                    result.completed() / (double) seconds, result.meanMillis());
+        }
+    }
+
+    static Result run(HttpClient client, String url, int clients, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        LongAdder totalNanos = new LongAdder();
+        AtomicLong nonce = new AtomicLong();
+        CountDownLatch finished = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            new Object() {
+                void next() {
+                    if (System.nanoTime() >= deadline) {
+                        finished.countDown();
+                        return;
+                    }
+                    String separator = url.contains("?") ? "&" : "?";
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url + separator + "_n=" + nonce.incrementAndGet()))
+                            .timeout(Duration.ofSeconds(60))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.increment();
+                        } else {
+                            completed.increment();
+                            totalNanos.add(System.nanoTime() - start);
+                        }
+                        next();
+                    });
+                }
+            }.next();
+        }
+        finished.await();
+        long count = completed.sum();
+        return new Result(count, errors.sum(), count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count);
+    }
+
+    record Result(long completed, long errors, double meanMillis) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.GalleryItem;
+import com.example.demo.model.Notification;
+import com.example.demo.model.PastEvent;
+import com.example.demo.model.UpcomingEvent;
+import com.example.demo.model.User;
+import com.example.demo.service.GalleryItemService;
+import com.example.demo.service.NotificationService;
+import com.example.demo.service.PastEventService;
+import com.example.demo.service.UpcomingEventService;
+import com.example.demo.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The private {@code convertToDTO} mappers of the services, applied to a page of 100 entities whose
+ * associations are already loaded, so only the mapping itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private static final int PAGE = 100;
+
+    private Mapper<UpcomingEvent> upcomingEvents;
+    private Mapper<PastEvent> pastEvents;
+    private Mapper<GalleryItem> galleryItems;
+    private Mapper<Notification> notifications;
+    private Mapper<User> users;
+
+    private record Mapper<E>(MethodHandle convert, List<E> entities) {
+        void mapAll(Blackhole blackhole) throws Throwable {
+            for (E entity : entities) {
+                blackhole.consume(convert.invoke(entity));
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) throws ReflectiveOperationException {
+        EntityManager em = application.bean(EntityManagerFactory.class).createEntityManager();
+        try {
+            upcomingEvents = mapper(application, UpcomingEventService.class, UpcomingEvent.class, em.createQuery(
+                    "select e from UpcomingEvent e left join fetch e.society left join fetch e.council",
+                    UpcomingEvent.class).setMaxResults(PAGE).getResultList());
+            pastEvents = mapper(application, PastEventService.class, PastEvent.class, em.createQuery(
+                    "select e from PastEvent e left join fetch e.society left join fetch e.council",
+                    PastEvent.class).setMaxResults(PAGE).getResultList());
+            galleryItems = mapper(application, GalleryItemService.class, GalleryItem.class, em.createQuery(
+                    "select g from GalleryItem g left join fetch g.society left join fetch g.council "
+                            + "left join fetch g.pastEvent left join fetch g.upcomingEvent",
+                    GalleryItem.class).setMaxResults(PAGE).getResultList());
+            notifications = mapper(application, NotificationService.class, Notification.class, em.createQuery(
+                    "select n from Notification n left join fetch n.society left join fetch n.relatedEvent",
+                    Notification.class).setMaxResults(PAGE).getResultList());
+            users = mapper(application, UserService.class, User.class,
+                    em.createQuery("select u from User u", User.class).setMaxResults(PAGE).getResultList());
+        } finally {
+            em.close();
+        }
+    }
+
+    private static <S, E> Mapper<E> mapper(ApplicationState application, Class<S> serviceType, Class<E> entityType,
+                                           List<E> entities) throws ReflectiveOperationException {
+        S service = application.target(serviceType);
+        MethodHandle convert = MethodHandles.privateLookupIn(serviceType, MethodHandles.lookup())
+                .findVirtual(serviceType, "convertToDTO",
+                        MethodType.methodType(serviceType.getDeclaredMethod("convertToDTO", entityType).getReturnType(),
+                                entityType))
+                .bindTo(service);
+        return new Mapper<>(convert, entities);
+    }
+
+    @Benchmark
+    public void upcomingEvents(Blackhole blackhole) throws Throwable {
+        upcomingEvents.mapAll(blackhole);
+    }
+
+    @Benchmark
+    public void pastEvents(Blackhole blackhole) throws Throwable {
+        pastEvents.mapAll(blackhole);
+    }
+
+    @Benchmark
+    public void galleryItems(Blackhole blackhole) throws Throwable {
+        galleryItems.mapAll(blackhole);
+    }
+
+    @Benchmark
+    public void notifications(Blackhole blackhole) throws Throwable {
+        notifications.mapAll(blackhole);
+    }
+
+    @Benchmark
+    public void users(Blackhole blackhole) throws Throwable {
+        users.mapAll(blackhole);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.NotificationDTO;
+import com.example.demo.dto.UpcomingEventDTO;
+import com.example.demo.model.Notification;
+import com.example.demo.model.UpcomingEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON with the CBOR and Smile encodings served to clients that ask for them, using the
+ * DTO lists behind {@code /api/upcoming-events} and {@code /api/notifications}. Payload sizes are
+ * printed once per trial; run with {@code main} or through the JMH runner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    private static final TypeReference<List<UpcomingEventDTO>> EVENT_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<NotificationDTO>> NOTIFICATION_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"50"})
+    private int listSize;
+
+    private ObjectMapper mapper;
+    private List<UpcomingEventDTO> events;
+    private List<NotificationDTO> notifications;
+    private byte[] encodedEvents;
+    private byte[] encodedNotifications;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factoryFor(format)).build();
+        events = new ArrayList<>();
+        notifications = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 6, 10, 0);
+        UpcomingEvent.EventType[] eventTypes = UpcomingEvent.EventType.values();
+        Notification.NotificationType[] notificationTypes = Notification.NotificationType.values();
+        Notification.PriorityLevel[] priorities = Notification.PriorityLevel.values();
+        for (int i = 0; i < listSize; i++) {
+            events.add(new UpcomingEventDTO((long) i, "Hands-on Workshop " + i, start.plusDays(i),
+                    "https://cdn.example.org/events/" + i + ".jpg",
+                    "A full-day session on embedded systems, signal processing and the tooling around them.",
+                    "https://forms.example.org/register/" + i, "IEEE Computer Society",
+                    "https://cdn.example.org/logos/cs.png", "Seminar Hall " + (i % 4),
+                    start.plusDays(i - 3), 120, 0.0, i % 3 != 0, eventTypes[i % eventTypes.length],
+                    (long) (i % 6), "IEEE Computer Society", null, null));
+            notifications.add(new NotificationDTO((long) i, "Registration closing soon",
+                    "Registrations for workshop " + i + " close in three days.", start.plusHours(i),
+                    notificationTypes[i % notificationTypes.length], i % 2 == 0, priorities[i % priorities.length],
+                    start.plusDays(14), "ALL", (long) i, "Hands-on Workshop " + i, (long) (i % 6),
+                    "IEEE Computer Society"));
+        }
+        encodedEvents = mapper.writeValueAsBytes(events);
+        encodedNotifications = mapper.writeValueAsBytes(notifications);
+        System.out.printf("%n[%s] upcoming events: %d bytes, notifications: %d bytes%n",
+                format, encodedEvents.length, encodedNotifications.length);
+    }
+
+    @Benchmark
+    public byte[] serializeUpcomingEvents() throws IOException {
+        return mapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeNotifications() throws IOException {
+        return mapper.writeValueAsBytes(notifications);
+    }
+
+    @Benchmark
+    public List<UpcomingEventDTO> deserializeUpcomingEvents() throws IOException {
+        return mapper.readValue(encodedEvents, EVENT_LIST);
+    }
+
+    @Benchmark
+    public List<NotificationDTO> deserializeNotifications() throws IOException {
+        return mapper.readValue(encodedNotifications, NOTIFICATION_LIST);
+    }
+
+    private static JsonFactory factoryFor(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build();
+            default -> new JsonFactory();
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DtoSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.controller.DashboardController;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@code /api/dashboard/home-data} map with the application's
+ * ObjectMapper. The map is built once from the synthetic dataset; only serialization is timed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HomeDataSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> homeData;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) throws JsonProcessingException {
+        objectMapper = application.bean(ObjectMapper.class);
+        homeData = application.bean(DashboardController.class).getHomePageData().getBody();
+        System.out.printf("%nhome-data: %d bytes%n", objectMapper.writeValueAsBytes(homeData).length);
+    }
+
+    @Benchmark
+    public byte[] serializeHomeData() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(homeData);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.GalleryItemDTO;
+import com.example.demo.dto.PastEventDTO;
+import com.example.demo.dto.SocietyDTO;
+import com.example.demo.dto.UserDTO;
+import com.example.demo.service.GalleryItemService;
+import com.example.demo.service.PastEventService;
+import com.example.demo.service.SocietyService;
+import com.example.demo.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The keyword search endpoints end to end below the controller: the case-insensitive LIKE filter
+ * over the synthetic dataset (in-process H2) and the mapping of the matches. "learning" matches
+ * many rows, "quantum" a few, "zzz" none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordSearchBenchmark {
+
+    @Param({"learning", "quantum", "zzz"})
+    private String keyword;
+
+    private PastEventService pastEventService;
+    private GalleryItemService galleryItemService;
+    private SocietyService societyService;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        pastEventService = application.bean(PastEventService.class);
+        galleryItemService = application.bean(GalleryItemService.class);
+        societyService = application.bean(SocietyService.class);
+        userService = application.bean(UserService.class);
+    }
+
+    @Benchmark
+    public List<PastEventDTO> pastEvents() {
+        return pastEventService.searchEvents(keyword);
+    }
+
+    @Benchmark
+    public List<GalleryItemDTO> galleryItems() {
+        return galleryItemService.searchGalleryItems(keyword);
+    }
+
+    @Benchmark
+    public List<SocietyDTO> societies() {
+        return societyService.searchSocieties(keyword);
+    }
+
+    @Benchmark
+    public List<UserDTO> users() {
+        return userService.searchUsers(keyword);
+    }
+}
@@ -0,0 +1,367 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end HTTP load test. Boots the application on a random port with the {@code embedded}
+ * profile (in-memory H2 in MySQL mode), seeds it through the {@code datagen} profile, then runs a
+ * closed-loop traffic mix from concurrent virtual users and reports p50/p95/p99 latency and
+ * throughput per endpoint.
+ * <p>
+ * Scenarios (weights set with {@code --mix}):
+ * <ul>
+ *   <li>{@code home}: the home page, {@code GET /api/dashboard/home-data}</li>
+ *   <li>{@code gallery}: infinite scroll, 2-5 pages of {@code /api/gallery/cursor}</li>
+ *   <li>{@code search}: keyword search over past events, gallery and societies</li>
+ *   <li>{@code registration}: the open-registration list followed by a sign-up</li>
+ *   <li>{@code admin}: a society admin's dashboard, then create, update and delete an upcoming event</li>
+ * </ul>
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:... com.example.demo.benchmark.LoadTestSuite \
+ *     --concurrency=100 --duration=60 --warmup=15 --scale=0.1 --mix=home:40,gallery:20,search:15,registration:15,admin:10
+ * </pre>
+ *
+ * The load generator shares the JVM and CPUs with the server, so compare runs made on the same
+ * machine rather than reading the numbers as production latency.
+ */
+public class LoadTestSuite {
+
+    private static final String[] KEYWORDS = {"learning", "workshop", "quantum", "robotics", "ieee", "zzz"};
+    private static final ObjectMapper JSON = new ObjectMapper().findAndRegisterModules();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong signUps = new AtomicLong();
+    private final String baseUrl;
+    private final List<Admin> admins;
+    private volatile boolean recording;
+
+    private record Admin(String token, long societyId) {
+    }
+
+    private LoadTestSuite(String baseUrl, List<Admin> admins) {
+        this.baseUrl = baseUrl;
+        this.admins = admins;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        double scale = Double.parseDouble(options.getOrDefault("scale", "0.1"));
+        long thinkMillis = Long.parseLong(options.getOrDefault("think-ms", "0"));
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix",
+                "home:40,gallery:20,search:15,registration:15,admin:10"));
+
+        System.out.printf("Seeding embedded database at scale %.2f...%n", scale);
+        try (ConfigurableApplicationContext context = start(scale)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTestSuite suite = new LoadTestSuite(baseUrl, List.of());
+            List<Admin> admins = suite.loginAdmins(context.getBean(JdbcTemplate.class), Math.max(1, concurrency / 4));
+            suite = new LoadTestSuite(baseUrl, admins);
+
+            System.out.printf("Warming up for %d s with %d virtual users...%n", warmup, concurrency);
+            suite.run(concurrency, warmup, thinkMillis, mix);
+            suite.stats.clear();
+            System.out.printf("Measuring for %d s with %d virtual users, mix %s%n", duration, concurrency, mix);
+            suite.recording = true;
+            suite.run(concurrency, duration, thinkMillis, mix);
+            suite.recording = false;
+            suite.report(duration);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(double scale) {
+        // The devtools restarter would relaunch main() with the Spring arguments only
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=embedded,datagen",
+                "--server.port=0",
+                "--lifecycle.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--datagen.skip-if-present=false"));
+        Map<String, Integer> fullScale = new LinkedHashMap<>();
+        fullScale.put("users", 100_000);
+        fullScale.put("societies", 1_500);
+        fullScale.put("councils", 500);
+        fullScale.put("upcoming-events", 10_000);
+        fullScale.put("past-events", 40_000);
+        fullScale.put("registrations", 1_000_000);
+        fullScale.put("gallery-items", 500_000);
+        fullScale.put("notifications", 200_000);
+        fullScale.put("achievements", 20_000);
+        fullScale.forEach((table, rows) ->
+                args.add("--datagen." + table + "=" + Math.max(10, Math.round(rows * scale))));
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .logStartupInfo(false)
+                .run(args.toArray(String[]::new));
+    }
+
+    private List<Admin> loginAdmins(JdbcTemplate jdbcTemplate, int count) throws IOException, InterruptedException {
+        List<Admin> result = new ArrayList<>();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT email, entity_id FROM users "
+                + "WHERE role = 'SOCIETY_ADMIN' AND is_active = TRUE AND entity_id IS NOT NULL ORDER BY id LIMIT ?", count);
+        for (Map<String, Object> row : rows) {
+            HttpResponse<String> response = send("POST /api/auth/login", post("/api/auth/login",
+                    Map.of("email", row.get("email"), "password", "password")));
+            if (response.statusCode() == 200) {
+                String token = JSON.readTree(response.body()).path("token").asText();
+                result.add(new Admin(token, ((Number) row.get("entity_id")).longValue()));
+            }
+        }
+        System.out.printf("Logged in %d society admins%n", result.size());
+        return result;
+    }
+
+    private void run(int concurrency, int seconds, long thinkMillis, Map<String, Integer> mix)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<String> scenarios = new ArrayList<>(mix.keySet());
+        int[] weights = mix.values().stream().mapToInt(Integer::intValue).toArray();
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(i);
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    String scenario = scenarios.get(weightedIndex(random, weights));
+                    try {
+                        runScenario(scenario, random);
+                        if (thinkMillis > 0) {
+                            Thread.sleep(thinkMillis);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        // Failed steps are already counted as errors; continue with the next scenario
+                    }
+                }
+            }, "vu-" + i);
+            user.start();
+            users.add(user);
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    private void runScenario(String scenario, SplittableRandom random) throws IOException, InterruptedException {
+        switch (scenario) {
+            case "home" -> send("GET /api/dashboard/home-data", get("/api/dashboard/home-data"));
+            case "gallery" -> {
+                String cursor = null;
+                int pages = 2 + random.nextInt(4);
+                for (int page = 0; page < pages; page++) {
+                    String path = "/api/gallery/cursor?size=24" + (cursor == null ? "" : "&cursor=" + encode(cursor));
+                    HttpResponse<String> response = send("GET /api/gallery/cursor", get(path));
+                    cursor = response.statusCode() == 200 ? JSON.readTree(response.body()).path("nextCursor").asText(null) : null;
+                    if (cursor == null) {
+                        break;
+                    }
+                }
+            }
+            case "search" -> {
+                String keyword = encode(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+                switch (random.nextInt(3)) {
+                    case 0 -> send("GET /api/past-events/search", get("/api/past-events/search?keyword=" + keyword));
+                    case 1 -> send("GET /api/gallery/search", get("/api/gallery/search?keyword=" + keyword));
+                    default -> send("GET /api/societies/search", get("/api/societies/search?keyword=" + keyword));
+                }
+            }
+            case "registration" -> {
+                send("GET /api/upcoming-events/open-registration", get("/api/upcoming-events/open-registration"));
+                long n = signUps.incrementAndGet();
+                send("POST /api/auth/register", post("/api/auth/register", Map.of(
+                        "email", "rush" + n + "-" + System.nanoTime() + "@load.example.org",
+                        "fullName", "Rush User " + n,
+                        "password", "password",
+                        "department", "CSE",
+                        "yearOfStudy", 2)));
+            }
+            case "admin" -> runAdminScenario(random);
+            default -> throw new IllegalArgumentException("Unknown scenario " + scenario);
+        }
+    }
+
+    private void runAdminScenario(SplittableRandom random) throws IOException, InterruptedException {
+        if (admins.isEmpty()) {
+            return;
+        }
+        Admin admin = admins.get(random.nextInt(admins.size()));
+        String base = "/api/society-dashboard/society/" + admin.societyId();
+        send("GET /api/society-dashboard/society/{id}", authorized(get(base), admin));
+        send("GET /api/society-dashboard/society/{id}/events/upcoming", authorized(get(base + "/events/upcoming"), admin));
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("title", "Load test workshop");
+        event.put("description", "Created by the load test suite.");
+        event.put("eventDate", LocalDateTime.now().plusDays(30).withNano(0).toString());
+        event.put("venue", "Seminar Hall 1");
+        event.put("maxParticipants", 120);
+        event.put("registrationFee", 0.0);
+        event.put("isRegistrationOpen", true);
+        event.put("eventType", "WORKSHOP");
+        HttpResponse<String> created = send("POST /api/society-dashboard/society/{id}/events/upcoming",
+                authorized(post(base + "/events/upcoming", event), admin));
+        if (created.statusCode() != 201) {
+            return;
+        }
+        long eventId = JSON.readTree(created.body()).path("id").asLong();
+        event.put("title", "Load test workshop (updated)");
+        send("PUT /api/society-dashboard/society/{id}/events/upcoming/{eventId}",
+                authorized(put(base + "/events/upcoming/" + eventId, event), admin));
+        send("DELETE /api/society-dashboard/society/{id}/events/upcoming/{eventId}",
+                authorized(HttpRequest.newBuilder(uri(base + "/events/upcoming/" + eventId)).DELETE(), admin));
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.timeout(Duration.ofSeconds(60)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            record(endpoint, System.nanoTime() - start, response.statusCode() >= 400);
+            return response;
+        } catch (IOException e) {
+            record(endpoint, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    private void record(String endpoint, long nanos, boolean error) {
+        if (recording) {
+            stats.computeIfAbsent(endpoint, key -> new EndpointStats()).add(nanos, error);
+        }
+    }
+
+    private void report(int seconds) {
+        System.out.printf("%n%-66s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            long[] latencies = endpoint.sorted();
+            total += latencies.length;
+            System.out.printf("%-66s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(), latencies.length,
+                    endpoint.errors.sum(), latencies.length / (double) seconds, percentile(latencies, 50),
+                    percentile(latencies, 95), percentile(latencies, 99), percentile(latencies, 100));
+        }
+        System.out.printf("%nTotal: %d requests, %.1f req/s%n", total, total / (double) seconds);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private static final class EndpointStats {
+        private long[] latencies = new long[1024];
+        private int size;
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long nanos, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)));
+    }
+
+    private HttpRequest.Builder put(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(uri(path)).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)));
+    }
+
+    private static HttpRequest.Builder authorized(HttpRequest.Builder request, Admin admin) {
+        return request.header("Authorization", "Bearer " + admin.token());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static int weightedIndex(SplittableRandom random, int[] weights) {
+        int roll = random.nextInt(Arrays.stream(weights).sum());
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+        return options;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.example.demo.config.LogSamplingFilter;
+import com.example.demo.config.RedactingJsonMembersCustomizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The log calls of one society dashboard request as the code made them before logging was reworked:
+ * security and web framework DEBUG lines, the controller line, seven access-check lines (two with
+ * the raw token) and a service line. Measured in requests per second across 8 request threads:
+ * <ul>
+ *   <li>{@code SYNC_PLAIN}: the previous setup. A synchronous appender writes the plain pattern, and
+ *   {@code org.springframework.security} and {@code org.springframework.web} log at DEBUG</li>
+ *   <li>{@code ASYNC_JSON}: logback-spring.xml with application.properties. Framework loggers log at
+ *   INFO, the sampling filter keeps 10% of controller and service INFO lines within 200 per second,
+ *   and redacted JSON goes through the async queue</li>
+ *   <li>{@code ASYNC_JSON_UNSAMPLED}: the async queue and redacted JSON alone, with every line of
+ *   {@code SYNC_PLAIN} still written. This separates the appender change from the reduction in lines</li>
+ * </ul>
+ * Both write to /dev/null, so the console's own throughput does not cap either side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    public enum Pipeline { SYNC_PLAIN, ASYNC_JSON_UNSAMPLED, ASYNC_JSON }
+
+    private static final String TOKEN = "Bearer ieee_token_1718000000000_jane.doe@vardhaman.org_1a2b3c4d";
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param
+    private Pipeline pipeline;
+
+    private LoggerContext context;
+    private Logger filterChain;
+    private Logger anonymousFilter;
+    private Logger dispatcher;
+    private Logger handlerMapping;
+    private Logger returnValueHandler;
+    private Logger controller;
+    private Logger service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws FileNotFoundException {
+        context = new LoggerContext();
+        context.start();
+        Appender<ILoggingEvent> appender = pipeline == Pipeline.SYNC_PLAIN ? syncPlain() : asyncJson();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        ch.qos.logback.classic.Level frameworkLevel = pipeline == Pipeline.ASYNC_JSON
+                ? ch.qos.logback.classic.Level.INFO : ch.qos.logback.classic.Level.DEBUG;
+        context.getLogger("org.springframework.security").setLevel(frameworkLevel);
+        context.getLogger("org.springframework.web").setLevel(frameworkLevel);
+
+        filterChain = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        anonymousFilter = context.getLogger("org.springframework.security.web.authentication.AnonymousAuthenticationFilter");
+        dispatcher = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        handlerMapping = context.getLogger("org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping");
+        returnValueHandler = context.getLogger("org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor");
+        controller = context.getLogger("com.example.demo.controller.SocietyDashboardController");
+        service = context.getLogger("com.example.demo.service.SocietyService");
+    }
+
+    private Appender<ILoggingEvent> syncPlain() throws FileNotFoundException {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        return sink(encoder);
+    }
+
+    private Appender<ILoggingEvent> asyncJson() throws FileNotFoundException {
+        if (pipeline == Pipeline.ASYNC_JSON) {
+            LogSamplingFilter filter = new LogSamplingFilter();
+            filter.addRule("com.example.demo.controller sample=0.1 max-per-second=200");
+            filter.addRule("com.example.demo.service sample=0.1 max-per-second=200");
+            filter.addRule("org.springframework max-per-second=200");
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("logging.structured.json.customizer", RedactingJsonMembersCustomizer.class.getName());
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        context.putObject(Environment.class.getName(), environment);
+
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("logstash");
+        encoder.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setIncludeCallerData(false);
+        async.addAppender(sink(encoder));
+        async.start();
+        return async;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> sink(Encoder<ILoggingEvent> encoder) throws FileNotFoundException {
+        File devNull = new File("/dev/null");
+        OutputStream out = devNull.exists() ? new FileOutputStream(devNull) : OutputStream.nullOutputStream();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(out);
+        appender.start();
+        return appender;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void societyDashboardRequest() {
+        filterChain.debug("Securing GET /api/society-dashboard/society/3");
+        anonymousFilter.debug("Set SecurityContextHolder to anonymous SecurityContext");
+        filterChain.debug("Secured GET /api/society-dashboard/society/3");
+        dispatcher.debug("GET \"/api/society-dashboard/society/3\", parameters={}");
+        handlerMapping.debug("Mapped to com.example.demo.controller.SocietyDashboardController#getSocietyDetails(String, Long)");
+        controller.info("GET /api/society-dashboard/society/{} - Get society details", 3L);
+        controller.info("=== VALIDATING SOCIETY ACCESS ===");
+        controller.info("Token: {}", TOKEN);
+        controller.info("Society ID: {}", 3L);
+        controller.info("Clean Token: {}", TOKEN.substring(7));
+        controller.info("User found: email={}, role={}, entityId={}", "jane.doe@vardhaman.org", "SOCIETY_ADMIN", 3L);
+        controller.info("Checking SOCIETY_ADMIN access - user.entityId={}, societyId={}", 3L, 3L);
+        controller.info("Access validation successful for user: {}", "jane.doe@vardhaman.org");
+        service.info("Fetching society with id: {}", 3L);
+        returnValueHandler.debug("Using 'application/json', given [*/*] and supported [application/json, application/*+json]");
+        returnValueHandler.debug("Writing [SocietyDTO(id=3, name=Computer Society, ...)]");
+        dispatcher.debug("Completed 200 OK");
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.AchievementDTO;
+import com.example.demo.dto.CouncilDTO;
+import com.example.demo.dto.GalleryItemDTO;
+import com.example.demo.dto.HeroSlideDTO;
+import com.example.demo.dto.NotificationDTO;
+import com.example.demo.dto.PastEventDTO;
+import com.example.demo.dto.SocietyDTO;
+import com.example.demo.dto.UpcomingEventDTO;
+import com.example.demo.model.Achievement;
+import com.example.demo.model.Council;
+import com.example.demo.model.GalleryItem;
+import com.example.demo.model.HeroSlide;
+import com.example.demo.model.Notification;
+import com.example.demo.model.PastEvent;
+import com.example.demo.model.Society;
+import com.example.demo.model.UpcomingEvent;
+import com.example.demo.service.CollectionVersionService;
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import jakarta.persistence.ManyToOne;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keeps the route table in step with what the DTOs actually carry: every association a DTO exposes
+ * (its {@code societyName}, {@code relatedEventTitle}, ...) must make the route depend on the
+ * collection behind it, or renaming that entity would leave the ETag, and every cached body, stale.
+ */
+class ConditionalGetFilterTest {
+
+    private static final Map<Class<?>, ContentCollection> COLLECTIONS = Map.of(
+            Society.class, ContentCollection.SOCIETIES,
+            Council.class, ContentCollection.COUNCILS,
+            PastEvent.class, ContentCollection.PAST_EVENTS,
+            UpcomingEvent.class, ContentCollection.UPCOMING_EVENTS,
+            Achievement.class, ContentCollection.ACHIEVEMENTS,
+            GalleryItem.class, ContentCollection.GALLERY,
+            Notification.class, ContentCollection.NOTIFICATIONS,
+            HeroSlide.class, ContentCollection.HERO_SLIDES);
+
+    private record Mapping(Class<?> entity, Class<?> dto) {
+    }
+
+    private static final Map<String, Mapping> ROUTES = new LinkedHashMap<>();
+
+    static {
+        ROUTES.put("/api/societies", new Mapping(Society.class, SocietyDTO.class));
+        ROUTES.put("/api/councils", new Mapping(Council.class, CouncilDTO.class));
+        ROUTES.put("/api/hero-slides", new Mapping(HeroSlide.class, HeroSlideDTO.class));
+        ROUTES.put("/api/past-events", new Mapping(PastEvent.class, PastEventDTO.class));
+        ROUTES.put("/api/upcoming-events", new Mapping(UpcomingEvent.class, UpcomingEventDTO.class));
+        ROUTES.put("/api/achievements", new Mapping(Achievement.class, AchievementDTO.class));
+        ROUTES.put("/api/notifications", new Mapping(Notification.class, NotificationDTO.class));
+        ROUTES.put("/api/gallery", new Mapping(GalleryItem.class, GalleryItemDTO.class));
+    }
+
+    @Test
+    void everyRouteDependsOnTheCollectionsItsDtoReferences() {
+        Map<String, Set<ContentCollection>> expected = new LinkedHashMap<>();
+        Map<String, Set<ContentCollection>> actual = new LinkedHashMap<>();
+        ROUTES.forEach((path, mapping) -> {
+            expected.put(path, referencedCollections(mapping));
+            actual.put(path, ConditionalGetFilter.collectionsFor(path));
+        });
+
+        assertThat(actual).isEqualTo(expected);
+        // Sub-paths follow their list route
+        assertThat(ConditionalGetFilter.collectionsFor("/api/achievements/cursor")).isEqualTo(expected.get("/api/achievements"));
+    }
+
+    @Test
+    void renamingACouncilChangesTheAchievementsTag() throws Exception {
+        CollectionVersionService versions = mock(CollectionVersionService.class);
+        when(versions.getLastModified(any())).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+        Map<ContentCollection, Long> current = new EnumMap<>(ContentCollection.class);
+        for (ContentCollection collection : ContentCollection.values()) {
+            current.put(collection, 1L);
+        }
+        when(versions.getVersion(any())).thenAnswer(invocation -> current.get(invocation.<ContentCollection>getArgument(0)));
+        ConditionalGetFilter filter = new ConditionalGetFilter(versions, 60);
+
+        String before = etag(filter, "/api/achievements");
+        current.put(ContentCollection.COUNCILS, 2L);
+        assertThat(etag(filter, "/api/achievements")).isNotEqualTo(before);
+    }
+
+    private static Set<ContentCollection> referencedCollections(Mapping mapping) {
+        Set<ContentCollection> collections = EnumSet.of(COLLECTIONS.get(mapping.entity()));
+        for (Field association : mapping.entity().getDeclaredFields()) {
+            if (association.isAnnotationPresent(ManyToOne.class) && exposes(mapping.dto(), association.getName())) {
+                collections.add(COLLECTIONS.get(association.getType()));
+            }
+        }
+        return collections;
+    }
+
+    // societyId / societyName for the society association, relatedEventTitle for relatedEvent, ...
+    private static boolean exposes(Class<?> dto, String association) {
+        return Arrays.stream(dto.getDeclaredFields())
+                .map(Field::getName)
+                .anyMatch(name -> name.startsWith(association) && name.length() > association.length()
+                        && Character.isUpperCase(name.charAt(association.length())));
+    }
+
+    private static String etag(ConditionalGetFilter filter, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+        return response.getHeader("ETag");
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.MetricsController;
+import com.example.demo.service.EndpointMetricsService;
+import com.example.demo.service.QueryDiagnosticsService;
+import com.example.demo.service.QueryDiagnosticsService.ExecutedStatement;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs requests through the metrics filter against an H2 database behind the counting DataSource and
+ * checks what the Prometheus scrape reports, including statements issued on an executor thread, and
+ * what requests hand to query diagnostics.
+ */
+class EndpointMetricsFilterTest {
+
+    private EndpointMetricsService metrics;
+    private EndpointMetricsFilter filter;
+    private JdbcTemplate jdbcTemplate;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws NoSuchMethodException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:metrics;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new StatementCountingDataSource(h2));
+        metrics = new EndpointMetricsService();
+        filter = new EndpointMetricsFilter(metrics, new QueryDiagnosticsService(), mock(ObjectProvider.class));
+        handler = new HandlerMethod(new MetricsController(metrics), MetricsController.class.getMethod("scrape"));
+    }
+
+    @Test
+    void chargesStatementsToTheHandlingControllerMethod() throws Exception {
+        for (int queries : new int[]{1, 3}) {
+            serve(handler, () -> {
+                for (int i = 0; i < queries; i++) {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                }
+            });
+        }
+
+        String scrape = metrics.scrape();
+        assertThat(scrape).contains("jdbc_statements_total{handler=\"MetricsController.scrape\"} 4.0");
+        assertThat(scrape).contains("jdbc_statements_per_request{handler=\"MetricsController.scrape\"} 2.0");
+        assertThat(scrape).contains("jdbc_statements_per_request_max{handler=\"MetricsController.scrape\"} 3.0");
+        assertThat(scrape).contains("http_server_request_duration_seconds_count{handler=\"MetricsController.scrape\"} 2.0");
+        assertThat(scrape).contains("http_server_request_duration_seconds{handler=\"MetricsController.scrape\",quantile=\"0.99\"}");
+        assertThat(scrape).contains("# TYPE http_server_request_duration_seconds summary");
+    }
+
+    @Test
+    void followsTheRequestOntoExecutorThreadsAndIgnoresWorkOutsideRequests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            serve(null, () -> {
+                CompletableFuture<?> first = CompletableFuture.runAsync(
+                        RequestStatements.propagate(() -> jdbcTemplate.execute("SELECT 1")), executor);
+                CompletableFuture<?> second = CompletableFuture.runAsync(
+                        RequestStatements.propagate(() -> jdbcTemplate.execute("SELECT 2")), executor);
+                first.join();
+                second.join();
+            });
+            // Background work has no request to charge
+            CompletableFuture.runAsync(RequestStatements.propagate(() -> jdbcTemplate.execute("SELECT 3")), executor)
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        String scrape = metrics.scrape();
+        assertThat(scrape).contains("jdbc_statements_total{handler=\"" + EndpointMetricsFilter.UNMATCHED + "\"} 2.0");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void capturesSqlAndBindCountsForSampledRequests() throws Exception {
+        QueryDiagnosticsService diagnostics = mock(QueryDiagnosticsService.class);
+        when(diagnostics.shouldSample()).thenReturn(true);
+        filter = new EndpointMetricsFilter(metrics, diagnostics, mock(ObjectProvider.class));
+
+        serve(handler, () -> {
+            jdbcTemplate.queryForObject("SELECT ? + ?", Integer.class, 1, 2);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS t (id INT)");
+            jdbcTemplate.batchUpdate("INSERT INTO t (id) VALUES (?)", List.of(new Object[]{1}, new Object[]{2},
+                    new Object[]{3}));
+        });
+
+        ArgumentCaptor<List<ExecutedStatement>> captured = ArgumentCaptor.forClass(List.class);
+        verify(diagnostics).analyze(eq("MetricsController.scrape"), captured.capture());
+        assertThat(captured.getValue()).extracting(ExecutedStatement::sql, ExecutedStatement::binds).containsExactly(
+                tuple("SELECT ? + ?", 2),
+                tuple("CREATE TABLE IF NOT EXISTS t (id INT)", 0),
+                tuple("INSERT INTO t (id) VALUES (?)", 3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handsSlowStatementsOverFromRequestsThatAreNotSampled() throws Exception {
+        QueryDiagnosticsService diagnostics = mock(QueryDiagnosticsService.class);
+        when(diagnostics.shouldSample()).thenReturn(false);
+        when(diagnostics.slowNanos()).thenReturn(1L);
+        filter = new EndpointMetricsFilter(metrics, diagnostics, mock(ObjectProvider.class));
+
+        serve(handler, () -> jdbcTemplate.queryForObject("SELECT ? + ?", Integer.class, 1, 2));
+
+        ArgumentCaptor<List<ExecutedStatement>> slow = ArgumentCaptor.forClass(List.class);
+        verify(diagnostics).recordSlow(eq("MetricsController.scrape"), slow.capture());
+        assertThat(slow.getValue()).extracting(ExecutedStatement::sql, ExecutedStatement::binds)
+                .containsExactly(tuple("SELECT ? + ?", 2));
+        assertThat(slow.getValue().get(0).origin()).isNotNull();
+        verify(diagnostics, never()).analyze(any(), any());
+    }
+
+    private void serve(HandlerMethod handlerMethod, Runnable work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                if (handlerMethod != null) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+                }
+                work.run();
+            }
+        }));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.UserDTO;
+import com.example.demo.model.User;
+import com.example.demo.service.AccessControlService;
+import com.example.demo.service.AccessControlService.AccessDecision;
+import com.example.demo.service.AccessControlService.EntityScope;
+import com.example.demo.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dashboard authorization through the interceptor and the cached decisions behind it, with the token
+ * lookup mocked so every query it would issue is counted.
+ */
+class EntityAccessInterceptorTest {
+
+    private static final String COUNCIL_ADMIN_TOKEN = "ieee_token_1718000000000_chair@vardhaman.org_1a2b3c4d";
+    private static final String SOCIETY_ADMIN_TOKEN = "ieee_token_1718000000000_lead@vardhaman.org_5e6f7a8b";
+
+    private AuthService authService;
+    private CacheManager cacheManager;
+    private AccessControlService accessControlService;
+    private EntityAccessInterceptor councilInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        authService = mock(AuthService.class);
+        when(authService.getUserFromToken(anyString())).thenReturn(Optional.empty());
+        when(authService.getUserFromToken(COUNCIL_ADMIN_TOKEN)).thenReturn(Optional.of(user(1L, User.UserRole.COUNCIL_ADMIN, 7L)));
+        when(authService.getUserFromToken(SOCIETY_ADMIN_TOKEN)).thenReturn(Optional.of(user(2L, User.UserRole.SOCIETY_ADMIN, 3L)));
+        cacheManager = new CacheConfig().cacheManager(new StandardEnvironment());
+        accessControlService = new AccessControlService(authService, cacheManager);
+        councilInterceptor = new EntityAccessInterceptor(accessControlService, new ObjectMapper(), EntityScope.COUNCIL, "councilId");
+    }
+
+    @Test
+    void grantsCouncilAdminsTheirOwnCouncilAndBindsTheDecision() throws Exception {
+        MockHttpServletRequest request = request("7", "Bearer " + COUNCIL_ADMIN_TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(councilInterceptor.preHandle(request, response, new Object())).isTrue();
+        AccessDecision decision = (AccessDecision) request.getAttribute(EntityAccessInterceptor.DECISION_ATTRIBUTE);
+        assertThat(decision.granted()).isTrue();
+        assertThat(decision.user().getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void answersDeniedRequestsWithoutReachingTheHandler() throws Exception {
+        assertRejected(request("8", "Bearer " + COUNCIL_ADMIN_TOKEN), 403, "Access denied for this council");
+        assertRejected(request("7", "Bearer " + SOCIETY_ADMIN_TOKEN), 403, "Insufficient permissions");
+        assertRejected(request("7", "Bearer ieee_token_1718000000000_nobody@vardhaman.org_00000000"), 401, "Invalid token");
+        assertRejected(request("7", null), 401, "Invalid token");
+        assertRejected(request("seven", "Bearer " + COUNCIL_ADMIN_TOKEN), 400, "Invalid councilId: seven");
+
+        MockHttpServletRequest unmatched = new MockHttpServletRequest("GET", "/api/council-dashboard/council/7/unknown");
+        unmatched.addHeader("Authorization", "Bearer " + COUNCIL_ADMIN_TOKEN);
+        assertRejected(unmatched, 400, "Missing councilId");
+    }
+
+    @Test
+    void sharesDecisionsBetweenTokensOfOneUserAndNeverCachesInvalidTokens() {
+        String secondToken = "ieee_token_1718000500000_chair@vardhaman.org_9c0d1e2f";
+        when(authService.getUserFromToken(secondToken)).thenReturn(Optional.of(user(1L, User.UserRole.COUNCIL_ADMIN, 7L)));
+
+        AccessDecision first = accessControlService.authorize("Bearer " + COUNCIL_ADMIN_TOKEN, EntityScope.COUNCIL, 7L);
+        AccessDecision second = accessControlService.authorize("Bearer " + secondToken, EntityScope.COUNCIL, 7L);
+        assertThat(second).isSameAs(first);
+
+        String unknown = "ieee_token_1718000000000_nobody@vardhaman.org_00000000";
+        for (int i = 0; i < 3; i++) {
+            assertThat(accessControlService.authorize("Bearer " + unknown, EntityScope.COUNCIL, 7L).status())
+                    .isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+        verify(authService, times(3)).getUserFromToken(unknown);
+
+        // A token that starts resolving is honoured at once
+        when(authService.getUserFromToken(unknown)).thenReturn(Optional.of(user(9L, User.UserRole.ADMIN, null)));
+        assertThat(accessControlService.authorize("Bearer " + unknown, EntityScope.COUNCIL, 7L).granted()).isTrue();
+    }
+
+    @Test
+    void resolvesEachTokenOnceAcrossScopesUntilUsersChange() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(accessControlService.authorize("Bearer " + SOCIETY_ADMIN_TOKEN, EntityScope.SOCIETY, 3L).granted()).isTrue();
+            assertThat(accessControlService.authorize("Bearer " + SOCIETY_ADMIN_TOKEN, EntityScope.SOCIETY, 4L).granted()).isFalse();
+            assertThat(accessControlService.authorize(SOCIETY_ADMIN_TOKEN, EntityScope.COUNCIL, 3L).granted()).isFalse();
+        }
+        verify(authService, times(1)).getUserFromToken(SOCIETY_ADMIN_TOKEN);
+
+        // What UserService.updateUser and deleteUser evict
+        cacheManager.getCache(CacheConfig.ACCESS_PRINCIPALS).clear();
+        cacheManager.getCache(CacheConfig.ACCESS_DECISIONS).clear();
+        accessControlService.authorize("Bearer " + SOCIETY_ADMIN_TOKEN, EntityScope.SOCIETY, 3L);
+        verify(authService, times(2)).getUserFromToken(SOCIETY_ADMIN_TOKEN);
+    }
+
+    private void assertRejected(MockHttpServletRequest request, int status, String error) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(councilInterceptor.preHandle(request, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(status);
+        assertThat(new ObjectMapper().readValue(response.getContentAsByteArray(), Map.class)).containsEntry("error", error);
+        assertThat(request.getAttribute(EntityAccessInterceptor.DECISION_ATTRIBUTE)).isNull();
+    }
+
+    private static MockHttpServletRequest request(String councilId, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/council-dashboard/council/" + councilId);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("councilId", councilId));
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+
+    private static UserDTO user(Long id, User.UserRole role, Long entityId) {
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setRole(role);
+        user.setEntityId(entityId);
+        return user;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redaction and per-logger sampling as configured in logback-spring.xml, on a standalone logger context.
+ */
+class LoggingPipelineTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.addRule("com.example.demo.controller sample=0.1");
+        filter.addRule("com.example.demo.controller.AuthController sample=1.0");
+        filter.addRule("org.springframework max-per-second=10");
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void masksTokensPasswordsAndEmailAddresses() {
+        assertThat(LogRedaction.redact("Token: Bearer ieee_token_1718000000_jane.doe@vardhaman.org_1a2b3c4d"))
+                .isEqualTo("Token: Bearer [REDACTED]");
+        assertThat(LogRedaction.redact("Clean Token: ieee_token_1718000000_jane.doe@vardhaman.org_1a2b3c4d, society 3"))
+                .isEqualTo("Clean Token: [REDACTED], society 3");
+        assertThat(LogRedaction.redact("body {\"email\":\"x\",\"password\":\"hunter2\"} password=s3cret"))
+                .isEqualTo("body {\"email\":\"x\",\"password\":\"[REDACTED]\"} password=[REDACTED]");
+        assertThat(LogRedaction.redact("Login successful for user: jane.doe@vardhaman.org"))
+                .isEqualTo("Login successful for user: j***@vardhaman.org");
+        assertThat(LogRedaction.redact("GET /api/societies - Fetching all societies"))
+                .isEqualTo("GET /api/societies - Fetching all societies");
+    }
+
+    @Test
+    void samplesInfoPerLoggerPrefixButKeepsWarnings() {
+        Logger controller = context.getLogger("com.example.demo.controller.SocietyController");
+        Logger auth = context.getLogger("com.example.demo.controller.AuthController");
+        Logger service = context.getLogger("com.example.demo.service.SocietyService");
+        for (int i = 0; i < 2000; i++) {
+            controller.info("GET /api/societies - Fetching all societies");
+            auth.info("POST /api/auth/login");
+            service.info("Fetching all societies");
+        }
+        controller.warn("Society {} access denied", 3);
+
+        assertThat(count("com.example.demo.controller.SocietyController", Level.INFO)).isBetween(100L, 320L);
+        assertThat(count("com.example.demo.controller.AuthController", Level.INFO)).isEqualTo(2000);
+        assertThat(count("com.example.demo.service.SocietyService", Level.INFO)).isEqualTo(2000);
+        assertThat(count("com.example.demo.controller.SocietyController", Level.WARN)).isEqualTo(1);
+    }
+
+    @Test
+    void rateLimitsPerRuleAndIgnoresEnabledChecks() {
+        Logger security = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        Logger web = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+        for (int i = 0; i < 100; i++) {
+            assertThat(security.isInfoEnabled()).isTrue();
+            security.info("Secured GET /api/societies");
+            web.info("Completed 200 OK");
+        }
+
+        // Both loggers share the org.springframework budget; a second boundary may open one more window
+        long passed = count("org.springframework.security.web.FilterChainProxy", Level.INFO)
+                + count("org.springframework.web.servlet.DispatcherServlet", Level.INFO);
+        assertThat(passed).isBetween(10L, 20L);
+    }
+
+    private long count(String logger, Level level) {
+        return appender.list.stream()
+                .filter(event -> event.getLoggerName().equals(logger) && event.getLevel() == level)
+                .count();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsScrapeAuthorizationTest {
+
+    @Test
+    void admitsOnlyTheConfiguredBearerToken() {
+        MetricsScrapeAuthorization authorization = new MetricsScrapeAuthorization("s3cret-scrape");
+
+        assertThat(authorization.isScraper(scrape("Bearer s3cret-scrape"))).isTrue();
+        assertThat(authorization.isScraper(scrape(null))).isFalse();
+        assertThat(authorization.isScraper(scrape("Bearer s3cret"))).isFalse();
+        assertThat(authorization.isScraper(scrape("Bearer s3cret-scrape-and-more"))).isFalse();
+        assertThat(authorization.isScraper(scrape("Basic s3cret-scrape"))).isFalse();
+        assertThat(authorization.isScraper(scrape("s3cret-scrape"))).isFalse();
+    }
+
+    @Test
+    void staysClosedWithoutAConfiguredToken() {
+        MetricsScrapeAuthorization authorization = new MetricsScrapeAuthorization(" ");
+
+        assertThat(authorization.isScraper(scrape(null))).isFalse();
+        assertThat(authorization.isScraper(scrape("Bearer "))).isFalse();
+        assertThat(authorization.isScraper(scrape("Bearer  "))).isFalse();
+    }
+
+    private static MockHttpServletRequest scrape(String authorizationHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/metrics");
+        if (authorizationHeader != null) {
+            request.addHeader("Authorization", authorizationHeader);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.config;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two in-memory H2 databases stand in for the MySQL primary and replica
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.lag-tolerance-ms=300",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceRoutingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void bindClient() {
+        routing = (ReadWriteRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+        ReadYourWrites.bind(0);
+    }
+
+    @AfterEach
+    void unbindClient() {
+        ReadYourWrites.unbind();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void writeTransactionsUseThePrimary() {
+        assertThat(currentDatabase(false)).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void readsStayOnThePrimaryUntilTheLagToleranceElapses() throws InterruptedException {
+        write();
+
+        assertThat(routing.isPinnedToPrimary()).isTrue();
+        assertThat(currentDatabase(true)).isEqualTo("PRIMARY");
+
+        awaitUnpinned();
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void onlyTheWritingClientIsPinned() {
+        write();
+        long lastWrite = ReadYourWrites.current().lastWrite();
+
+        // Another client, as a request without the cookie would see it
+        ReadYourWrites.bind(0);
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+
+        // The writer's next request, carrying the cookie
+        ReadYourWrites.bind(lastWrite);
+        assertThat(currentDatabase(true)).isEqualTo("PRIMARY");
+
+        ReadYourWrites.unbind();
+        assertThat(routing.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void transactionsAndAutoCommitStatementsThatOnlyReadDoNotPin() {
+        currentDatabase(false);
+        new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class);
+
+        assertThat(routing.isPinnedToPrimary()).isFalse();
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+
+        new JdbcTemplate(dataSource).update("DELETE FROM hero_slides WHERE 1 = 0");
+        assertThat(routing.isPinnedToPrimary()).isTrue();
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReads() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("DELETE FROM hero_slides WHERE 1 = 0").executeUpdate();
+            status.setRollbackOnly();
+        });
+
+        assertThat(routing.isPinnedToPrimary()).isFalse();
+        assertThat(currentDatabase(true)).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void classifiesStatementsByTheirFirstKeyword() {
+        assertThat(ReadWriteRoutingDataSource.isWrite("insert into hero_slides (id) values (?)")).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isWrite("/* update GalleryItem */ update gallery_items set title=?")).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isWrite("-- cleanup\n  DELETE FROM notifications")).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isWrite("CALL close_registrations()")).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isWrite("select * from societies for update")).isFalse();
+        assertThat(ReadWriteRoutingDataSource.isWrite(" (SELECT 1) UNION (SELECT 2)")).isFalse();
+        assertThat(ReadWriteRoutingDataSource.isWrite("WITH recent AS (SELECT 1) SELECT * FROM recent")).isFalse();
+        assertThat(ReadWriteRoutingDataSource.isWrite(null)).isFalse();
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.createNativeQuery("DELETE FROM hero_slides WHERE 1 = 0").executeUpdate());
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult());
+    }
+
+    private void awaitUnpinned() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (routing.isPinnedToPrimary() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
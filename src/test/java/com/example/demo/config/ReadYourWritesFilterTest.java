@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMillis(2000));
+
+    @Test
+    void bindsTheCookieTimeAndSendsANewOneAfterAWrite() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/gallery");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "1700000000000"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong seen = new AtomicLong();
+
+        filter.doFilter(request, response, (req, res) -> {
+            seen.set(ReadYourWrites.current().lastWrite());
+            ReadYourWrites.current().recordWrite(1700000005000L);
+            res.getWriter().write("{}");
+            res.flushBuffer();
+        });
+
+        assertThat(seen).hasValue(1700000000000L);
+        assertThat(response.getHeader("Set-Cookie"))
+                .startsWith("last_write=1700000005000; Path=/; Max-Age=3;")
+                .contains("HttpOnly", "SameSite=Lax");
+        assertThat(ReadYourWrites.current()).isNull();
+    }
+
+    @Test
+    void leavesResponsesOfRequestsThatOnlyReadAlone() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gallery");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "not-a-time"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong seen = new AtomicLong(-1);
+
+        filter.doFilter(request, response, (req, res) -> seen.set(ReadYourWrites.current().lastWrite()));
+
+        assertThat(seen).hasValue(0);
+        assertThat(response.getHeader("Set-Cookie")).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs GETs through the filter with the ETag already set, as {@link ConditionalGetFilter} would, and
+ * counts how often the controller behind it has to serialize the body.
+ */
+class ResponseBytesCacheFilterTest {
+
+    private static final String ETAG = "W/\"1a2b\"";
+    private static final String BODY = "[" + "{\"title\":\"Technical Workshop Session\"},".repeat(60) + "{}]";
+
+    private ResponseBytesCacheFilter filter;
+    private AtomicInteger rendered;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseBytesCacheFilter(new CacheConfig().cacheManager(new StandardEnvironment()), 1024);
+        rendered = new AtomicInteger();
+    }
+
+    @Test
+    void servesRepeatRequestsFromTheStoredBytes() throws Exception {
+        MockHttpServletResponse miss = get("/api/gallery", ETAG, null, null);
+        MockHttpServletResponse hit = get("/api/gallery", ETAG, null, null);
+
+        assertThat(rendered).hasValue(1);
+        assertThat(hit.getContentAsString()).isEqualTo(miss.getContentAsString()).isEqualTo(BODY);
+        assertThat(hit.getContentType()).isEqualTo("application/json");
+        assertThat(hit.getHeader("Vary")).isEqualTo("Accept, Accept-Encoding");
+        assertThat(miss.getHeader("Vary")).isEqualTo("Accept, Accept-Encoding");
+        assertThat(hit.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void picksGzipOrIdentityFromAcceptEncoding() throws Exception {
+        get("/api/gallery", ETAG, null, null);
+        MockHttpServletResponse gzipped = get("/api/gallery", ETAG, null, "br, gzip");
+        MockHttpServletResponse refused = get("/api/gallery", ETAG, null, "gzip;q=0");
+
+        assertThat(rendered).hasValue(1);
+        assertThat(gzipped.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzipped.getContentLength()).isLessThan(BODY.length());
+        assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(BODY);
+        assertThat(refused.getHeader("Content-Encoding")).isNull();
+        assertThat(refused.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void missesOnANewTagAnotherAcceptOrAnotherQuery() throws Exception {
+        get("/api/gallery", ETAG, null, null);
+        get("/api/gallery", "W/\"3c4d\"", null, null);
+        assertThat(rendered).hasValue(2);
+
+        get("/api/gallery", "W/\"3c4d\"", "application/cbor", null);
+        assertThat(rendered).hasValue(3);
+
+        MockHttpServletRequest paged = request("/api/gallery", null, null);
+        paged.setQueryString("page=1");
+        serve(paged, ETAG);
+        assertThat(rendered).hasValue(4);
+    }
+
+    @Test
+    void leavesRoutesWithoutAVersionAlone() throws Exception {
+        MockHttpServletResponse first = get("/api/auth/profile", ETAG, null, "gzip");
+        get("/api/auth/profile", ETAG, null, "gzip");
+
+        assertThat(rendered).hasValue(2);
+        assertThat(first.getHeader("Content-Encoding")).isNull();
+        assertThat(first.getHeader("Vary")).isNull();
+    }
+
+    private MockHttpServletResponse get(String path, String etag, String accept, String acceptEncoding) throws Exception {
+        return serve(request(path, accept, acceptEncoding), etag);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request, String etag) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader("ETag", etag);
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                rendered.incrementAndGet();
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String accept, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
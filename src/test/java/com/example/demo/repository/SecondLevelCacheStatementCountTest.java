@@ -0,0 +1,131 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Council;
+import com.example.demo.model.Society;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements issued for repeated reference-data reads with the l2cache profile, once
+ * bypassing the second-level cache (the behaviour without the profile) and once going through it.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("l2cache")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheStatementCountTest {
+
+    private static final int READS = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SocietyRepository societyRepository;
+
+    @Autowired
+    private CouncilRepository councilRepository;
+
+    private Statistics statistics;
+    private Long societyId;
+    private Long councilId;
+
+    @BeforeEach
+    void setUp() {
+        councilRepository.deleteAll();
+        societyRepository.deleteAll();
+        for (int i = 0; i < 5; i++) {
+            Society society = new Society();
+            society.setName("Society " + i);
+            societyId = societyRepository.save(society).getId();
+        }
+        Council council = new Council();
+        council.setName("Council");
+        councilId = councilRepository.save(council).getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIdIsServedFromSecondLevelCache() {
+        long before = countStatements(CacheMode.IGNORE, em -> {
+            em.find(Society.class, societyId);
+            em.find(Council.class, councilId);
+        });
+        long after = countStatements(CacheMode.NORMAL, em -> {
+            em.find(Society.class, societyId);
+            em.find(Council.class, councilId);
+        });
+
+        assertThat(before).as("findById x%d without L2 cache", READS).isEqualTo(2L * READS);
+        assertThat(after).as("findById x%d with L2 cache", READS).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void activeListQueryIsServedFromQueryCache() {
+        long before = countStatements(CacheMode.IGNORE, em ->
+                em.createQuery("SELECT s FROM Society s WHERE s.isActive = true ORDER BY s.name ASC", Society.class)
+                        .getResultList());
+
+        statistics.clear();
+        for (int i = 0; i < READS; i++) {
+            assertThat(societyRepository.findByIsActiveTrueOrderByNameAsc()).hasSize(5);
+        }
+        long after = statistics.getPrepareStatementCount();
+
+        assertThat(before).as("active list x%d without query cache", READS).isEqualTo(READS);
+        assertThat(after).as("active list x%d with query cache", READS).isEqualTo(1);
+    }
+
+    @Test
+    void savingASocietyInvalidatesCachedActiveList() {
+        societyRepository.findByIsActiveTrueOrderByNameAsc();
+
+        Society society = new Society();
+        society.setName("Society 5");
+        societyRepository.save(society);
+
+        assertThat(societyRepository.findByIsActiveTrueOrderByNameAsc()).hasSize(6);
+    }
+
+    private long countStatements(CacheMode cacheMode, Consumer<EntityManager> read) {
+        statistics.clear();
+        for (int i = 0; i < READS; i++) {
+            EntityManager em = entityManagerFactory.createEntityManager();
+            try {
+                em.unwrap(Session.class).setCacheMode(cacheMode);
+                if (cacheMode == CacheMode.IGNORE) {
+                    em.setProperty("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS);
+                    em.setProperty("jakarta.persistence.cache.storeMode", CacheStoreMode.BYPASS);
+                }
+                read.accept(em);
+            } finally {
+                em.close();
+            }
+        }
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two services on one database stand in for two application instances.
+ */
+class CollectionVersionServiceTest {
+
+    private static final long TTL_MS = 2000;
+
+    private final MutableClock clock = new MutableClock();
+    private JdbcTemplate jdbcTemplate;
+    private CollectionVersionService instanceA;
+    private CollectionVersionService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:versions;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(h2);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS gallery_items");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS societies");
+        jdbcTemplate.execute("CREATE TABLE gallery_items (id BIGINT PRIMARY KEY, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE societies (id BIGINT PRIMARY KEY, version BIGINT)");
+        jdbcTemplate.update("INSERT INTO gallery_items VALUES (1, TIMESTAMP '2025-01-01 10:00:00')");
+        jdbcTemplate.update("INSERT INTO societies VALUES (1, 0)");
+        instanceA = instance();
+        instanceB = instance();
+    }
+
+    @Test
+    void instancesAgreeAndSeeWritesMadeElsewhereAfterTheTtl() {
+        long gallery = instanceA.getVersion(ContentCollection.GALLERY);
+        assertThat(instanceB.getVersion(ContentCollection.GALLERY)).isEqualTo(gallery);
+
+        // A plain JDBC insert, as the data generator or a manual fix would make
+        jdbcTemplate.update("INSERT INTO gallery_items VALUES (2, TIMESTAMP '2025-01-02 10:00:00')");
+        clock.advance(TTL_MS - 1);
+        assertThat(instanceB.getVersion(ContentCollection.GALLERY)).isEqualTo(gallery);
+        clock.advance(1);
+        long afterInsert = instanceB.getVersion(ContentCollection.GALLERY);
+        assertThat(afterInsert).isNotEqualTo(gallery);
+        assertThat(instanceA.getVersion(ContentCollection.GALLERY)).isEqualTo(afterInsert);
+
+        jdbcTemplate.update("DELETE FROM gallery_items WHERE id = 2");
+        clock.advance(TTL_MS);
+        assertThat(instanceA.getVersion(ContentCollection.GALLERY)).isEqualTo(gallery);
+    }
+
+    @Test
+    void localWritesExpireTheCachedVersionAtOnce() {
+        long societies = instanceA.getVersion(ContentCollection.SOCIETIES);
+        Instant boot = instanceA.getLastModified(List.of(ContentCollection.SOCIETIES));
+
+        clock.advance(500);
+        jdbcTemplate.update("UPDATE societies SET version = version + 1 WHERE id = 1");
+        instanceA.markChanged(ContentCollection.SOCIETIES);
+
+        assertThat(instanceA.getVersion(ContentCollection.SOCIETIES)).isNotEqualTo(societies);
+        assertThat(instanceA.getLastModified(List.of(ContentCollection.SOCIETIES))).isEqualTo(boot.plusMillis(500));
+        assertThat(instanceA.getLastModified(List.of(ContentCollection.GALLERY))).isEqualTo(boot);
+    }
+
+    private CollectionVersionService instance() {
+        CollectionVersionService service = new CollectionVersionService(jdbcTemplate, clock);
+        ReflectionTestUtils.setField(service, "versionTtlMs", TTL_MS);
+        return service;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
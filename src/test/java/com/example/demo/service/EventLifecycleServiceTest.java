@@ -0,0 +1,176 @@
+package com.example.demo.service;
+
+import com.example.demo.model.EventRegistration;
+import com.example.demo.model.GalleryItem;
+import com.example.demo.model.PastEvent;
+import com.example.demo.model.SchedulerLock;
+import com.example.demo.model.UpcomingEvent;
+import com.example.demo.model.User;
+import com.example.demo.repository.EventRegistrationRepository;
+import com.example.demo.repository.GalleryItemRepository;
+import com.example.demo.repository.PastEventRepository;
+import com.example.demo.repository.SchedulerLockRepository;
+import com.example.demo.repository.UpcomingEventRepository;
+import com.example.demo.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import({EventLifecycleService.class, CollectionVersionService.class, SchedulerLockService.class})
+class EventLifecycleServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private EventLifecycleService eventLifecycleService;
+
+    @Autowired
+    private UpcomingEventRepository upcomingEventRepository;
+
+    @Autowired
+    private PastEventRepository pastEventRepository;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Autowired
+    private GalleryItemRepository galleryItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void closesRegistrationOncePastDeadlineOrEventDate() {
+        UpcomingEvent pastDeadline = event("Deadline passed", NOW.plusDays(3), NOW.minusHours(1));
+        UpcomingEvent started = event("Already started", NOW.minusHours(2), null);
+        UpcomingEvent open = event("Still open", NOW.plusDays(3), NOW.plusDays(1));
+
+        assertThat(eventLifecycleService.closeExpiredRegistrations(NOW)).isEqualTo(2);
+        entityManager.clear();
+
+        assertThat(upcomingEventRepository.findById(pastDeadline.getId()).orElseThrow().getIsRegistrationOpen()).isFalse();
+        assertThat(upcomingEventRepository.findById(started.getId()).orElseThrow().getIsRegistrationOpen()).isFalse();
+        assertThat(upcomingEventRepository.findById(open.getId()).orElseThrow().getIsRegistrationOpen()).isTrue();
+    }
+
+    @Test
+    void migratesFinishedEventsWithRegistrationSummary() {
+        UpcomingEvent finished = event("Finished workshop", NOW.minusDays(2), NOW.minusDays(3));
+        UpcomingEvent later = event("Next workshop", NOW.plusDays(5), NOW.plusDays(4));
+        register(finished, "a@example.org", 4, EventRegistration.RegistrationStatus.CONFIRMED);
+        register(finished, "b@example.org", 5, EventRegistration.RegistrationStatus.CONFIRMED);
+        register(finished, "c@example.org", null, EventRegistration.RegistrationStatus.CANCELLED);
+        GalleryItem photo = new GalleryItem();
+        photo.setImg("https://cdn.example.org/photo.jpg");
+        photo.setUpcomingEvent(finished);
+        galleryItemRepository.save(photo);
+
+        assertThat(eventLifecycleService.migrateFinishedEvents(NOW.minusDays(1), 10)).isEqualTo(1);
+        entityManager.clear();
+
+        List<PastEvent> pastEvents = pastEventRepository.findAll();
+        assertThat(pastEvents).singleElement().satisfies(pastEvent -> {
+            assertThat(pastEvent.getTitle()).isEqualTo("Finished workshop");
+            assertThat(pastEvent.getParticipants()).isEqualTo("2");
+            assertThat(pastEvent.getFeedbackRating()).isEqualTo(4.5);
+        });
+        assertThat(upcomingEventRepository.findAll()).extracting(UpcomingEvent::getId).containsExactly(later.getId());
+        // Registrations are kept and follow the event
+        assertThat(eventRegistrationRepository.count()).isEqualTo(3);
+        assertThat(eventRegistrationRepository.countByPastEvent(pastEvents.get(0))).isEqualTo(3);
+        assertThat(eventRegistrationRepository.findAll()).allSatisfy(registration ->
+                assertThat(registration.getEvent()).isNull());
+        GalleryItem movedPhoto = galleryItemRepository.findById(photo.getId()).orElseThrow();
+        assertThat(movedPhoto.getUpcomingEvent()).isNull();
+        assertThat(movedPhoto.getPastEvent().getId()).isEqualTo(pastEvents.get(0).getId());
+    }
+
+    @Test
+    void migratesEveryFinishedEventInBatches() {
+        UpcomingEvent withRegistrations = event("Has attendees", NOW.minusDays(3), NOW.minusDays(4));
+        register(withRegistrations, "a@example.org", 3, EventRegistration.RegistrationStatus.CONFIRMED);
+        event("No attendees", NOW.minusDays(2), NOW.minusDays(3));
+
+        assertThat(eventLifecycleService.migrateFinishedEvents(NOW.minusDays(1), 1)).isEqualTo(1);
+        assertThat(eventLifecycleService.migrateFinishedEvents(NOW.minusDays(1), 1)).isEqualTo(1);
+        assertThat(eventLifecycleService.migrateFinishedEvents(NOW.minusDays(1), 1)).isZero();
+        entityManager.clear();
+
+        assertThat(upcomingEventRepository.count()).isZero();
+        assertThat(pastEventRepository.findAll()).extracting(PastEvent::getTitle, PastEvent::getParticipants)
+                .containsExactlyInAnyOrder(tuple("Has attendees", "1"), tuple("No attendees", null));
+        assertThat(eventRegistrationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void lockIsExclusiveUntilReleased() {
+        assertThat(schedulerLockService.tryLock("test-job", Duration.ofMinutes(5))).isTrue();
+        assertThat(schedulerLockService.tryLock("test-job", Duration.ofMinutes(5))).isFalse();
+        schedulerLockService.unlock("test-job");
+        assertThat(schedulerLockService.tryLock("test-job", Duration.ofMinutes(5))).isTrue();
+    }
+
+    @Test
+    void leaseExpiryFollowsTheDatabaseClock() {
+        assertThat(schedulerLockService.tryLock("clock-job", Duration.ofMinutes(5))).isTrue();
+        LocalDateTime databaseNow = jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+        entityManager.clear();
+        SchedulerLock lock = schedulerLockRepository.findById("clock-job").orElseThrow();
+        assertThat(Duration.between(databaseNow, lock.getLockedUntil())).isBetween(Duration.ofMinutes(4), Duration.ofMinutes(5));
+
+        // A lease that the database clock says has run out is free, whatever this instance's clock says
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = DATEADD('SECOND', -1, LOCALTIMESTAMP) WHERE name = ?",
+                "clock-job");
+        assertThat(schedulerLockService.tryLock("clock-job", Duration.ofMinutes(5))).isTrue();
+        // Zero-length lease: expires at once by the database clock
+        assertThat(schedulerLockService.tryLock("instant-job", Duration.ZERO)).isTrue();
+        assertThat(schedulerLockService.tryLock("instant-job", Duration.ZERO)).isTrue();
+    }
+
+    private UpcomingEvent event(String title, LocalDateTime eventDate, LocalDateTime registrationDeadline) {
+        UpcomingEvent event = new UpcomingEvent();
+        event.setTitle(title);
+        event.setEventDate(eventDate);
+        event.setRegistrationDeadline(registrationDeadline);
+        return upcomingEventRepository.save(event);
+    }
+
+    private void register(UpcomingEvent event, String email, Integer rating, EventRegistration.RegistrationStatus status) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName(email);
+        user.setPassword("secret");
+        EventRegistration registration = new EventRegistration();
+        registration.setUser(userRepository.save(user));
+        registration.setEvent(event);
+        registration.setFeedbackRating(rating);
+        registration.setStatus(status);
+        eventRegistrationRepository.save(registration);
+    }
+}
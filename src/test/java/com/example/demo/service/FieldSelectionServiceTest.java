@@ -0,0 +1,168 @@
+package com.example.demo.service;
+
+import com.example.demo.controller.PastEventController;
+import com.example.demo.model.PastEvent;
+import com.example.demo.model.Society;
+import com.example.demo.repository.PastEventRepository;
+import com.example.demo.repository.SocietyRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Sparse fieldsets must shrink the SQL as well as the JSON: checks the keys of every returned row and
+ * the SELECT list Hibernate actually sent.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.demo.service.FieldSelectionServiceTest$CapturingStatementInspector"
+})
+@Import({PastEventService.class, ReferenceLookupService.class, FieldSelectionService.class})
+class FieldSelectionServiceTest {
+
+    @Autowired
+    private PastEventService pastEventService;
+
+    @Autowired
+    private PastEventRepository pastEventRepository;
+
+    @Autowired
+    private SocietyRepository societyRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PastEventController controller;
+
+    @BeforeEach
+    void seed() {
+        Society society = new Society();
+        society.setName("Computer Society");
+        society.setIsActive(true);
+        societyRepository.save(society);
+        event("Workshop on compilers", society, LocalDateTime.of(2025, 3, 1, 10, 0));
+        event("Hackathon", null, LocalDateTime.of(2025, 2, 1, 10, 0));
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+        controller = new PastEventController(pastEventService);
+    }
+
+    @Test
+    void selectsOnlyTheRequestedColumnsThroughALeftJoin() {
+        List<Map<String, Object>> rows = rows(controller.getAllPastEvents("title,societyName"));
+
+        // The id comes first even when not requested; the event without a society is kept
+        assertThat(rows).allSatisfy(row -> assertThat(row.keySet()).containsExactly("id", "title", "societyName"));
+        assertThat(rows).extracting(row -> row.get("title"), row -> row.get("societyName"))
+                .containsExactly(
+                        tuple("Workshop on compilers", "Computer Society"),
+                        tuple("Hackathon", null));
+
+        String sql = singleSelect();
+        assertThat(selectList(sql)).hasSize(3)
+                .anySatisfy(column -> assertThat(column).endsWith(".id"))
+                .anySatisfy(column -> assertThat(column).endsWith(".title"))
+                .anySatisfy(column -> assertThat(column).endsWith(".name"));
+        assertThat(sql).contains(" left join ").doesNotContain("description").doesNotContain("venue");
+    }
+
+    @Test
+    void resolvesRelationIdsThroughTheSameLeftJoin() {
+        List<Map<String, Object>> rows = rows(controller.getAllPastEvents("societyId"));
+
+        assertThat(rows).allSatisfy(row -> assertThat(row.keySet()).containsExactly("id", "societyId"));
+        assertThat(rows.get(0).get("societyId")).isNotNull();
+        assertThat(rows.get(1).get("societyId")).isNull();
+        String sql = singleSelect();
+        assertThat(selectList(sql)).hasSize(2);
+        assertThat(sql).contains(" left join societies ");
+    }
+
+    @Test
+    void filtersTheSameWayOnFilteredEndpoints() {
+        List<Map<String, Object>> rows = rows(controller.searchEvents("WORKSHOP", "feedbackRating"));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).keySet()).containsExactly("id", "feedbackRating");
+        String sql = singleSelect();
+        assertThat(selectList(sql)).hasSize(2);
+        assertThat(sql).contains(" like ").doesNotContain(" join ");
+    }
+
+    @Test
+    void rejectsUnknownFieldsBeforeQuerying() {
+        ResponseEntity<?> response = controller.getAllPastEvents("title,password");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isEqualTo(Map.of("error", "Unknown field: password"));
+        assertThat(CapturingStatementInspector.STATEMENTS).isEmpty();
+    }
+
+    @Test
+    void returnsOnlyTheIdForAnEmptySelection() {
+        List<Map<String, Object>> rows = rows(controller.getAllPastEvents(" , "));
+
+        assertThat(rows).hasSize(2).allSatisfy(row -> assertThat(row.keySet()).containsExactly("id"));
+        assertThat(selectList(singleSelect())).hasSize(1);
+    }
+
+    private void event(String title, Society society, LocalDateTime eventDate) {
+        PastEvent event = new PastEvent();
+        event.setTitle(title);
+        event.setDescription("Details of " + title);
+        event.setVenue("Main hall");
+        event.setSociety(society);
+        event.setEventDate(eventDate);
+        pastEventRepository.save(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return (List<Map<String, Object>>) response.getBody();
+    }
+
+    private static String singleSelect() {
+        List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+        assertThat(statements).hasSize(1);
+        return statements.get(0).toLowerCase().replaceAll("\\s+", " ").replace("\"", "");
+    }
+
+    private static List<String> selectList(String sql) {
+        String columns = sql.substring(sql.indexOf("select ") + "select ".length(), sql.indexOf(" from "));
+        return Arrays.stream(columns.split(",")).map(String::trim).toList();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.stripLeading().toLowerCase().startsWith("select")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
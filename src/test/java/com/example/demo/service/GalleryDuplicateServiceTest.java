@@ -0,0 +1,66 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.GalleryItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GalleryDuplicateServiceTest {
+
+    private GalleryDuplicateService duplicates;
+
+    @BeforeEach
+    void setUp() {
+        GalleryItemRepository repository = mock(GalleryItemRepository.class);
+        List<Object[]> stored = new ArrayList<>();
+        stored.add(new Object[]{1L, 0x0L});
+        stored.add(new Object[]{2L, 0xFFL});
+        when(repository.findPerceptualHashes()).thenReturn(stored);
+        duplicates = new GalleryDuplicateService(repository);
+        ReflectionTestUtils.setField(duplicates, "maxDistance", 6);
+    }
+
+    @Test
+    void findsHashesWithinTheDistanceFromTheStoredIndex() {
+        assertThat(duplicates.findNearDuplicates(0x3FL)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(duplicates.findNearDuplicates(0x1L)).containsExactly(1L);
+        assertThat(duplicates.findNearDuplicates(0xFFFF0000L)).isEmpty();
+    }
+
+    @Test
+    void matchesALinearScanAfterInsertsAndRemovals() {
+        duplicates.findNearDuplicates(0L);
+        Random random = new Random(7);
+        List<long[]> live = new ArrayList<>(List.of(new long[]{1L, 0x0L}, new long[]{2L, 0xFFL}));
+        for (long id = 3; id < 400; id++) {
+            // Clustered hashes, so many fall within the search radius of each other
+            long hash = random.nextLong() & 0xFFFFL ^ (1L << random.nextInt(64));
+            duplicates.register(id, hash);
+            live.add(new long[]{id, hash});
+        }
+        for (int i = 0; i < 100; i++) {
+            long[] removed = live.remove(random.nextInt(live.size()));
+            duplicates.unregister(removed[0]);
+        }
+        // Re-registering moves an id to its new hash
+        duplicates.register(live.get(0)[0], 0xABCDL);
+        live.get(0)[1] = 0xABCDL;
+
+        for (int probe = 0; probe < 50; probe++) {
+            long query = random.nextLong() & 0xFFFFL;
+            List<Long> expected = live.stream()
+                    .filter(entry -> ImageHashService.hammingDistance(query, entry[1]) <= 6)
+                    .map(entry -> entry[0])
+                    .toList();
+            assertThat(duplicates.findNearDuplicates(query)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
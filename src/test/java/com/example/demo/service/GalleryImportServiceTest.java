@@ -0,0 +1,189 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.GalleryImportResultDTO;
+import com.example.demo.model.GalleryItem;
+import com.example.demo.repository.GalleryItemRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Streams manifests through the real services against H2. Batches commit on their own, so the test
+ * runs outside a transaction and clears the gallery afterwards.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "gallery.import.batch-size=4"
+})
+@Import({GalleryImportService.class, GalleryItemService.class, ReferenceLookupService.class,
+        GalleryLayoutService.class, GalleryDuplicateService.class, GalleryImportServiceTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GalleryImportServiceTest {
+
+    // Longer than the image_url column, so the insert itself fails
+    private static final String TOO_LONG = "https://img.example/" + "x".repeat(300) + ".jpg";
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        ImageHashService imageHashService() {
+            return mock(ImageHashService.class);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+    }
+
+    @Autowired
+    private GalleryImportService galleryImportService;
+
+    @Autowired
+    private GalleryDuplicateService galleryDuplicateService;
+
+    @Autowired
+    private GalleryItemRepository galleryItemRepository;
+
+    @Autowired
+    private ImageHashService imageHashService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, Long> hashes = new HashMap<>();
+
+    @BeforeEach
+    void hashFromTable() {
+        clearInvocations(imageHashService);
+        doAnswer(invocation -> {
+            Map<String, Long> found = new HashMap<>();
+            for (String url : invocation.<Collection<String>>getArgument(0)) {
+                if (hashes.containsKey(url)) {
+                    found.put(url, hashes.get(url));
+                }
+            }
+            return found;
+        }).when(imageHashService).computeHashes(any());
+    }
+
+    @AfterEach
+    void clearGallery() {
+        galleryItemRepository.findAll().forEach(item -> galleryDuplicateService.unregister(item.getId()));
+        galleryItemRepository.deleteAll();
+        ReflectionTestUtils.setField(galleryDuplicateService, "mode", GalleryDuplicateService.DuplicateMode.OFF);
+    }
+
+    @Test
+    void reportsEveryLineAndKeepsTheRestOfABatchWhenOneRowFails() throws Exception {
+        ReflectionTestUtils.setField(galleryDuplicateService, "mode", GalleryDuplicateService.DuplicateMode.FLAG);
+        hashes.put("https://img.example/a.jpg", 0b1111L);
+        hashes.put("https://img.example/a-resized.jpg", 0b1110L);
+        hashes.put("https://img.example/d.jpg", -1L);
+
+        List<GalleryImportResultDTO> results = importManifest(
+                item("A", "https://img.example/a.jpg"),
+                "{not json",
+                "{\"title\":\"No image\"}",
+                item("A resized", "https://img.example/a-resized.jpg"),
+                "",
+                item("Broken", TOO_LONG),
+                item("D", "https://img.example/d.jpg"));
+
+        assertThat(results).extracting(GalleryImportResultDTO::getStatus, GalleryImportResultDTO::getLine, GalleryImportResultDTO::getTitle)
+                .containsExactly(
+                        tuple("FAILED", 2, null),
+                        tuple("FAILED", 3, null),
+                        tuple("CREATED", 1, "A"),
+                        tuple("FLAGGED", 4, "A resized"),
+                        tuple("FAILED", 6, null),
+                        tuple("CREATED", 7, "D"),
+                        tuple("SUMMARY", null, null));
+        assertThat(results.get(0).getError()).startsWith("Invalid JSON");
+        assertThat(results.get(1).getError()).isEqualTo("Image URL is required");
+        assertThat(results.get(3).getPossibleDuplicateIds()).containsExactly(results.get(2).getId());
+        assertThat(results.get(4).getError()).isNotBlank();
+
+        GalleryImportResultDTO summary = results.get(6);
+        assertThat(List.of(summary.getTotal(), summary.getCreated(), summary.getFailed())).containsExactly(6, 3, 3);
+        assertThat(galleryItemRepository.findAll()).extracting(GalleryItem::getTitle)
+                .containsExactlyInAnyOrder("A", "A resized", "D");
+        // The failing row was isolated with the hashes of the first attempt
+        verify(imageHashService, times(1)).computeHashes(any());
+    }
+
+    @Test
+    void rejectsNearDuplicatesRowByRowWithoutRetryingTheBatch() throws Exception {
+        ReflectionTestUtils.setField(galleryDuplicateService, "mode", GalleryDuplicateService.DuplicateMode.REJECT);
+        hashes.put("https://img.example/a.jpg", 0b1111L);
+        hashes.put("https://img.example/a-copy.jpg", 0b1111L);
+        hashes.put("https://img.example/b.jpg", -1L);
+        hashes.put("https://img.example/b-copy.jpg", -2L);
+
+        List<String> manifest = new ArrayList<>();
+        manifest.add(item("A", "https://img.example/a.jpg"));
+        manifest.add(item("A copy", "https://img.example/a-copy.jpg"));
+        manifest.add(item("B", "https://img.example/b.jpg"));
+        // Second batch: a near-duplicate of a stored item
+        manifest.add(item("C", "https://img.example/c.jpg"));
+        manifest.add(item("B copy", "https://img.example/b-copy.jpg"));
+        List<GalleryImportResultDTO> results = importManifest(manifest.toArray(String[]::new));
+
+        assertThat(results).extracting(GalleryImportResultDTO::getStatus, GalleryImportResultDTO::getLine)
+                .containsExactly(
+                        tuple("CREATED", 1),
+                        tuple("FAILED", 2),
+                        tuple("CREATED", 3),
+                        tuple("CREATED", 4),
+                        tuple("FAILED", 5),
+                        tuple("SUMMARY", null));
+        assertThat(results.get(1).getError()).contains("same upload");
+        assertThat(results.get(4).getError()).contains(String.valueOf(results.get(2).getId()));
+        assertThat(galleryItemRepository.findAll()).extracting(GalleryItem::getTitle)
+                .containsExactlyInAnyOrder("A", "B", "C");
+        verify(imageHashService, times(2)).computeHashes(any());
+    }
+
+    private List<GalleryImportResultDTO> importManifest(String... lines) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        galleryImportService.importItems(
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), output, null, null);
+        List<GalleryImportResultDTO> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, GalleryImportResultDTO.class));
+        }
+        return results;
+    }
+
+    private static String item(String title, String img) {
+        return "{\"title\":\"" + title + "\",\"img\":\"" + img + "\"}";
+    }
+}
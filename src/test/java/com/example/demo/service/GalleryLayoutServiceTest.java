@@ -0,0 +1,158 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.GalleryLayoutDTO;
+import com.example.demo.dto.GalleryLayoutItemDTO;
+import com.example.demo.model.GalleryItem;
+import com.example.demo.repository.GalleryItemRepository;
+import com.example.demo.service.GalleryLayoutService.Breakpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Masonry placement, and incremental updates checked against a layout built from scratch over the
+ * same items. The repository is an in-memory map.
+ */
+class GalleryLayoutServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final Map<Long, GalleryItem> store = new HashMap<>();
+    private GalleryLayoutService galleryLayoutService;
+
+    @BeforeEach
+    void setUp() {
+        galleryLayoutService = new GalleryLayoutService(repository());
+    }
+
+    @Test
+    void placesEachItemInTheShortestColumnNewestFirst() {
+        // MD: three 330px columns with 16px gutters
+        put(item(1L, 4, 330, 330));
+        put(item(2L, 3, 330, 165));
+        put(item(3L, 2, 330, 660));
+        put(item(4L, 1, 330, 330));
+
+        GalleryLayoutDTO layout = galleryLayoutService.getLayoutPage(Breakpoint.MD, 0, 10);
+
+        assertThat(layout.getColumnWidth()).isEqualTo(330);
+        assertThat(layout.getItems()).extracting(GalleryLayoutItemDTO::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(layout.getItems()).extracting(GalleryLayoutItemDTO::getColumn).containsExactly(0, 1, 2, 1);
+        assertThat(layout.getItems()).extracting(GalleryLayoutItemDTO::getX).containsExactly(0, 346, 692, 346);
+        assertThat(layout.getItems()).extracting(GalleryLayoutItemDTO::getY).containsExactly(0, 0, 0, 181);
+        assertThat(layout.getItems()).extracting(GalleryLayoutItemDTO::getHeight).containsExactly(330, 165, 660, 330);
+        assertThat(layout.getTotalHeight()).isEqualTo(660);
+
+        // Missing or zero dimensions are laid out as squares
+        put(item(5L, 0, null, 0));
+        galleryLayoutService.onItemSaved(store.get(5L));
+        GalleryLayoutItemDTO square = galleryLayoutService.getLayoutPage(Breakpoint.MD, 0, 10).getItems().get(4);
+        assertThat(square.getId()).isEqualTo(5L);
+        assertThat(square.getHeight()).isEqualTo(330);
+    }
+
+    @Test
+    void pagesPastTheEndAreEmptyInsteadOfOverflowing() {
+        put(item(1L, 2, 330, 330));
+        put(item(2L, 1, 330, 330));
+
+        assertThat(galleryLayoutService.getLayoutPage(Breakpoint.MD, 1, 1).getItems())
+                .extracting(GalleryLayoutItemDTO::getId).containsExactly(2L);
+        for (int[] pageAndSize : new int[][]{{2, 1}, {30_000_000, 100}, {Integer.MAX_VALUE, Integer.MAX_VALUE}}) {
+            GalleryLayoutDTO layout = galleryLayoutService.getLayoutPage(Breakpoint.MD, pageAndSize[0], pageAndSize[1]);
+            assertThat(layout.getItems()).isEmpty();
+            assertThat(layout.getTotalItems()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void incrementalUpdatesMatchAFullRebuild() {
+        Random random = new Random(26);
+        long nextId = 1;
+        for (; nextId <= 300; nextId++) {
+            put(randomItem(random, nextId));
+        }
+        galleryLayoutService.getLayoutPage(Breakpoint.SM, 0, 1);
+
+        for (int step = 0; step < 200; step++) {
+            List<Long> ids = new ArrayList<>(store.keySet());
+            int action = random.nextInt(4);
+            if (action == 0) {
+                GalleryItem added = put(randomItem(random, nextId++));
+                galleryLayoutService.onItemSaved(added);
+            } else if (action == 1) {
+                // Moves the item (new upload date) and resizes it
+                GalleryItem moved = put(randomItem(random, ids.get(random.nextInt(ids.size()))));
+                galleryLayoutService.onItemSaved(moved);
+            } else if (action == 2) {
+                Long removed = ids.get(random.nextInt(ids.size()));
+                store.remove(removed);
+                galleryLayoutService.onItemRemoved(removed);
+            } else {
+                List<GalleryItem> batch = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    batch.add(put(randomItem(random, i < 2 ? ids.get(random.nextInt(ids.size())) : nextId++)));
+                }
+                galleryLayoutService.onItemsSaved(batch);
+            }
+        }
+        galleryLayoutService.onItemRemoved(-1L);
+
+        GalleryLayoutService rebuilt = new GalleryLayoutService(repository());
+        for (Breakpoint breakpoint : Breakpoint.values()) {
+            GalleryLayoutDTO incremental = galleryLayoutService.getLayoutPage(breakpoint, 0, store.size());
+            GalleryLayoutDTO expected = rebuilt.getLayoutPage(breakpoint, 0, store.size());
+            assertThat(incremental.getTotalItems()).isEqualTo(store.size());
+            assertThat(incremental).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    private GalleryItemRepository repository() {
+        GalleryItemRepository repository = mock(GalleryItemRepository.class);
+        when(repository.findLayoutRows()).thenAnswer(invocation -> store.values().stream()
+                .map(item -> new Object[]{item.getId(), item.getWidth(), item.getHeight(), item.getUploadDate()})
+                .toList());
+        when(repository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<GalleryItem> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                if (store.containsKey(id)) {
+                    found.add(store.get(id));
+                }
+            }
+            return found;
+        });
+        return repository;
+    }
+
+    private GalleryItem put(GalleryItem item) {
+        store.put(item.getId(), item);
+        return item;
+    }
+
+    private static GalleryItem randomItem(Random random, long id) {
+        // Few distinct upload dates, so ties are broken by id
+        return item(id, random.nextInt(50), 200 + random.nextInt(800), 200 + random.nextInt(800));
+    }
+
+    private static GalleryItem item(long id, int daysAfterStart, Integer width, Integer height) {
+        GalleryItem item = new GalleryItem();
+        item.setId(id);
+        item.setImg("https://images.example.org/" + id + ".jpg");
+        item.setTitle("Item " + id);
+        item.setUploadDate(START.plusDays(daysAfterStart));
+        item.setWidth(width);
+        item.setHeight(height);
+        return item;
+    }
+}
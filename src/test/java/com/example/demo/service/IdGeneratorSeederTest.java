@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import com.example.demo.model.IdGenerators;
+import com.example.demo.model.Society;
+import com.example.demo.repository.SocietyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(IdGeneratorSeeder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorSeederTest {
+
+    @Autowired
+    private IdGeneratorSeeder idGeneratorSeeder;
+
+    @Autowired
+    private SocietyRepository societyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        societyRepository.deleteAll();
+    }
+
+    @Test
+    void newIdsStartAfterRowsInsertedThroughAutoIncrement() {
+        // Rows written before the switch to pooled ids, with no generator row yet
+        jdbcTemplate.update("INSERT INTO societies (id, name) VALUES (500, 'Legacy A'), (731, 'Legacy B')");
+        jdbcTemplate.update("DELETE FROM " + IdGenerators.TABLE);
+
+        idGeneratorSeeder.seed();
+        idGeneratorSeeder.seed();
+
+        Society society = new Society();
+        society.setName("New");
+        assertThat(societyRepository.save(society).getId()).isGreaterThan(731L);
+    }
+
+    @Test
+    void bulkSavesAreSentInJdbcBatches() {
+        List<Society> societies = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Society society = new Society();
+            society.setName("Society " + i);
+            societies.add(society);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Society> saved = societyRepository.saveAll(societies);
+
+        assertThat(saved).extracting(Society::getId).doesNotHaveDuplicates().doesNotContainNull();
+        // 3 insert batches of up to 50 rows plus a few id-block reservations, instead of 120 inserts
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageHashServiceTest {
+
+    private ImageHashService imageHashService;
+
+    @BeforeEach
+    void setUp() {
+        imageHashService = new ImageHashService(new SimpleAsyncTaskExecutor());
+        ReflectionTestUtils.setField(imageHashService, "allowedHosts", List.of("images.pexels.com"));
+        ReflectionTestUtils.setField(imageHashService, "maxImageBytes", 1024 * 1024);
+        ReflectionTestUtils.setField(imageHashService, "maxImagePixels", 4_000_000L);
+    }
+
+    @Test
+    void keepsResizedCopiesCloseAndDifferentImagesApart() throws IOException {
+        long original = ImageHashService.differenceHash(scene(800, 600, false));
+        long resized = ImageHashService.differenceHash(scene(400, 300, false));
+        long decoded = ImageHashService.differenceHash(imageHashService.decode(png(scene(1600, 1200, false))));
+        long mirrored = ImageHashService.differenceHash(scene(800, 600, true));
+
+        assertThat(ImageHashService.hammingDistance(original, resized)).isLessThanOrEqualTo(6);
+        assertThat(ImageHashService.hammingDistance(original, decoded)).isLessThanOrEqualTo(6);
+        assertThat(ImageHashService.hammingDistance(original, mirrored)).isGreaterThan(6);
+    }
+
+    @Test
+    void refusesToDecodeImagesOverThePixelLimit() throws IOException {
+        byte[] large = png(new BufferedImage(2100, 2000, BufferedImage.TYPE_BYTE_GRAY));
+        assertThatThrownBy(() -> imageHashService.decode(large)).hasMessageContaining("exceeds 4000000 pixels");
+        assertThat(imageHashService.decode("not an image".getBytes())).isNull();
+    }
+
+    @Test
+    void fetchesOnlyOverHttpFromAllowedPublicHosts() {
+        assertThatThrownBy(() -> imageHashService.checkFetchAllowed(URI.create("file:///etc/passwd")))
+                .hasMessageContaining("http and https");
+        assertThatThrownBy(() -> imageHashService.checkFetchAllowed(URI.create("jar:file:/app.jar!/a.png")))
+                .hasMessageContaining("http and https");
+        assertThatThrownBy(() -> imageHashService.checkFetchAllowed(URI.create("http://169.254.169.254/latest/meta-data")))
+                .hasMessageContaining("not in gallery.duplicates.allowed-hosts");
+        assertThatThrownBy(() -> imageHashService.checkFetchAllowed(URI.create("https://images.pexels.com.evil.example/a.png")))
+                .hasMessageContaining("not in gallery.duplicates.allowed-hosts");
+
+        ReflectionTestUtils.setField(imageHashService, "allowedHosts", List.of("localhost"));
+        assertThatThrownBy(() -> imageHashService.checkFetchAllowed(URI.create("http://localhost:8080/a.png")))
+                .hasMessageContaining("non-public address");
+        ReflectionTestUtils.setField(imageHashService, "allowedHosts", List.of("8.8.8.8"));
+        assertThatCode(() -> imageHashService.checkFetchAllowed(URI.create("https://8.8.8.8/a.png"))).doesNotThrowAnyException();
+    }
+
+    /** A bright left half with a dark diagonal band, optionally mirrored left to right. */
+    private static BufferedImage scene(int width, int height, boolean mirrored) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(mirrored ? width / 2 : 0, 0, width / 2, height);
+        graphics.setColor(Color.BLACK);
+        for (int i = 0; i < width; i++) {
+            int x = mirrored ? width - 1 - i : i;
+            graphics.fillRect(x, i * height / width, 1, height / 6);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
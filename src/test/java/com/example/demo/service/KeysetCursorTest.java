@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import com.example.demo.controller.PastEventController;
+import com.example.demo.dto.CursorPageDTO;
+import com.example.demo.dto.PastEventDTO;
+import com.example.demo.model.PastEvent;
+import com.example.demo.repository.PastEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Continuation tokens, and paging past events by (event date, id) through ties and the rows without
+ * a date, which sort last.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import({PastEventService.class, ReferenceLookupService.class, FieldSelectionService.class})
+class KeysetCursorTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired
+    private PastEventService pastEventService;
+
+    @Autowired
+    private PastEventRepository pastEventRepository;
+
+    @Test
+    void roundTripsKeysAndIds() {
+        KeysetCursor dated = KeysetCursor.decode(KeysetCursor.encode(DAY, 42L));
+        assertThat(dated).isEqualTo(new KeysetCursor("2025-03-01T10:00", 42L));
+        assertThat(dated.dateKey()).isEqualTo(DAY);
+
+        // Keys may contain the separator; only the first one splits off the id
+        assertThat(KeysetCursor.decode(KeysetCursor.encode("2024|b", 7L))).isEqualTo(new KeysetCursor("2024|b", 7L));
+        assertThat(KeysetCursor.decode(KeysetCursor.encode(null, 9L))).isEqualTo(new KeysetCursor(null, 9L));
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void answersTamperedCursorsWithBadRequest() {
+        PastEventController controller = new PastEventController(pastEventService);
+        List<String> tampered = List.of(
+                "not base64!",
+                token("abc"),
+                token("|2025-03-01T10:00"),
+                token("99999999999999999999"),
+                token("12|not-a-date"),
+                token("12|"));
+        for (String cursor : tampered) {
+            assertThat(controller.getPastEventsCursorPage(cursor, 10, false).getStatusCode())
+                    .as(cursor).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pagesThroughEqualKeysAndTheNullKeyTailWithoutGapsOrRepeats() {
+        List<Long> expected = new ArrayList<>();
+        expected.add(event(DAY.plusDays(1)));
+        List<Long> sameDay = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sameDay.add(event(DAY));
+        }
+        List<Long> undated = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            undated.add(event(null));
+        }
+        // Newest first, ties and the undated tail by descending id
+        Collections.reverse(sameDay);
+        Collections.reverse(undated);
+        expected.addAll(sameDay);
+        expected.addAll(undated);
+
+        for (int size : new int[]{1, 2, 3, 8, 20}) {
+            List<Long> served = new ArrayList<>();
+            String cursor = null;
+            CursorPageDTO<PastEventDTO> page;
+            do {
+                page = pastEventService.getPastEventsCursorPage(cursor, size, false);
+                assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+                page.getItems().forEach(item -> served.add(item.getId()));
+                cursor = page.getNextCursor();
+                assertThat(cursor != null).isEqualTo(page.getHasMore());
+            } while (page.getHasMore());
+            assertThat(served).as("page size %d", size).containsExactlyElementsOf(expected);
+        }
+
+        assertThat(pastEventService.getPastEventsCursorPage(null, 3, true).getTotalElements()).isEqualTo(8L);
+        assertThat(pastEventService.getPastEventsCursorPage(null, 3, false).getTotalElements()).isNull();
+    }
+
+    private Long event(LocalDateTime eventDate) {
+        PastEvent event = new PastEvent();
+        event.setTitle("Workshop " + eventDate);
+        event.setEventDate(eventDate);
+        return pastEventRepository.save(event).getId();
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
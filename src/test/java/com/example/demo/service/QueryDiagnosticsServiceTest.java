@@ -0,0 +1,85 @@
+package com.example.demo.service;
+
+import com.example.demo.service.QueryDiagnosticsService.ExecutedStatement;
+import com.example.demo.service.QueryDiagnosticsService.OffenceType;
+import com.example.demo.service.QueryDiagnosticsService.Offender;
+import com.example.demo.service.QueryDiagnosticsService.OffenderKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryDiagnosticsServiceTest {
+
+    private static final String HANDLER = "DashboardController.getHomePageData";
+    private static final long MILLIS = 1_000_000;
+
+    private QueryDiagnosticsService diagnostics;
+
+    @BeforeEach
+    void setUp() {
+        diagnostics = new QueryDiagnosticsService();
+        ReflectionTestUtils.setField(diagnostics, "sampleRate", 1.0);
+        ReflectionTestUtils.setField(diagnostics, "repeatThreshold", 5);
+        ReflectionTestUtils.setField(diagnostics, "slowMillis", 200L);
+    }
+
+    @Test
+    void normalizesLiteralsAndInListsIntoOneShape() {
+        assertThat(QueryDiagnosticsService.shape("select * from users  where id = 42 and email = 'a''b@x.org'"))
+                .isEqualTo("select * from users where id = ? and email = ?");
+        assertThat(QueryDiagnosticsService.shape("select s1_0.id from societies s1_0 where s1_0.id in (?,?,?)"))
+                .isEqualTo(QueryDiagnosticsService.shape("select s1_0.id from societies s1_0 where s1_0.id in (?, ?)"));
+    }
+
+    @Test
+    void flagsShapesRepeatedInOneRequestAndMergesThemAcrossRequests() {
+        for (int request = 0; request < 3; request++) {
+            List<ExecutedStatement> statements = new ArrayList<>();
+            statements.add(new ExecutedStatement("select * from societies", 0, MILLIS, "SocietyService.getAllSocieties"));
+            for (int i = 0; i < 6 + request; i++) {
+                statements.add(new ExecutedStatement("select * from councils where id = " + i, 0, MILLIS,
+                        "SocietyService.convertToDTO"));
+            }
+            diagnostics.analyze(HANDLER, statements);
+        }
+        // Below the threshold: not an N+1
+        diagnostics.analyze(HANDLER, List.of(
+                new ExecutedStatement("select * from users where id = ?", 1, MILLIS, "UserService.getUserById"),
+                new ExecutedStatement("select * from users where id = ?", 1, MILLIS, "UserService.getUserById")));
+
+        Map<OffenderKey, Offender> offenders = diagnostics.drain();
+        assertThat(offenders).hasSize(1);
+        Map.Entry<OffenderKey, Offender> offender = offenders.entrySet().iterator().next();
+        assertThat(offender.getKey())
+                .isEqualTo(new OffenderKey(OffenceType.N_PLUS_ONE, HANDLER, "select * from councils where id = ?"));
+        assertThat(offender.getValue().requests()).isEqualTo(3);
+        assertThat(offender.getValue().maxRepeats()).isEqualTo(8);
+        assertThat(diagnostics.drain()).isEmpty();
+    }
+
+    @Test
+    void reportsSlowStatementsHandedOverFromAnyRequest() {
+        assertThat(diagnostics.slowNanos()).isEqualTo(200 * MILLIS);
+        diagnostics.recordSlow(HANDLER, List.of(new ExecutedStatement("select * from gallery_items where title like ?",
+                1, 450 * MILLIS, "GalleryItemService.searchGalleryItems")));
+        // Slow statements are reported through recordSlow alone, not again by the sampled analysis
+        diagnostics.analyze(HANDLER, List.of(
+                new ExecutedStatement("select * from gallery_items where title like ?", 1, 450 * MILLIS,
+                        "GalleryItemService.searchGalleryItems"),
+                new ExecutedStatement("select * from societies", 0, 20 * MILLIS, "SocietyService.getAllSocieties")));
+
+        Map<OffenderKey, Offender> offenders = diagnostics.drain();
+        assertThat(offenders).hasSize(1);
+        OffenderKey key = offenders.keySet().iterator().next();
+        assertThat(key.type()).isEqualTo(OffenceType.SLOW);
+        assertThat(key.shape()).isEqualTo("select * from gallery_items where title like ?");
+        assertThat(offenders.get(key).requests()).isEqualTo(1);
+        assertThat(offenders.get(key).maxNanos()).isEqualTo(450 * MILLIS);
+    }
+}
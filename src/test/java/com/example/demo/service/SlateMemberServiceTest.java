@@ -0,0 +1,147 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.controller.SocietyController;
+import com.example.demo.dto.SlateMemberDTO;
+import com.example.demo.repository.CouncilRepository;
+import com.example.demo.repository.SocietyRepository;
+import com.example.demo.service.CollectionVersionService.ContentCollection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reads through the version-keyed tree cache, and the edit paths. The edits are native MySQL JSON
+ * updates that H2 cannot run, so the repositories are mocks answering with the affected row count.
+ */
+class SlateMemberServiceTest {
+
+    private static final String CHAIR = "{\"name\":\"Asha\",\"position\":\"Chair\"}";
+
+    private final SocietyRepository societyRepository = mock(SocietyRepository.class);
+    private final CouncilRepository councilRepository = mock(CouncilRepository.class);
+    private final CollectionVersionService collectionVersionService = mock(CollectionVersionService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SlateMemberService slateMemberService;
+
+    @BeforeEach
+    void setUp() {
+        slateMemberService = new SlateMemberService(societyRepository, councilRepository, objectMapper,
+                collectionVersionService, new CacheConfig().cacheManager(new StandardEnvironment()));
+    }
+
+    @Test
+    void reusesTheParsedTreeUntilTheVersionChanges() {
+        stored(1L, "[" + CHAIR + "]", 3L);
+
+        assertThat(names(slateMemberService.getSocietySlateMembers(1L))).containsExactly("Asha");
+        assertThat(names(slateMemberService.getSocietySlateMembers(1L))).containsExactly("Asha");
+        verify(societyRepository, times(1)).findSlateMembersById(1L);
+
+        stored(1L, "[" + CHAIR + ",{\"name\":\"Ravi\",\"position\":\"Secretary\"}]", 4L);
+        assertThat(names(slateMemberService.getSocietySlateMembers(1L))).containsExactly("Asha", "Ravi");
+        verify(societyRepository, times(2)).findSlateMembersById(1L);
+
+        // Councils are keyed apart from societies with the same id
+        when(councilRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        when(councilRepository.findSlateMembersById(1L)).thenReturn(List.<Object[]>of(new Object[]{"[]", 3L}));
+        assertThat(slateMemberService.getCouncilSlateMembers(1L)).contains(List.of());
+    }
+
+    @Test
+    void readsMissingBlankAndMalformedDocuments() {
+        when(societyRepository.findVersionById(9L)).thenReturn(Optional.empty());
+        assertThat(slateMemberService.getSocietySlateMembers(9L)).isEmpty();
+        verify(societyRepository, never()).findSlateMembersById(9L);
+
+        stored(2L, null, 0L);
+        assertThat(slateMemberService.getSocietySlateMembers(2L)).contains(List.of());
+        stored(3L, "[{\"name\":", 0L);
+        assertThat(slateMemberService.getSocietySlateMembers(3L)).contains(List.of());
+    }
+
+    @Test
+    void keepsUnmodelledKeysOnReadAndWrite() throws Exception {
+        stored(1L, "[{\"name\":\"Asha\",\"twitter\":\"@asha\",\"term\":{\"from\":2024}}]", 1L);
+
+        SlateMemberDTO member = slateMemberService.getSocietySlateMembers(1L).orElseThrow().get(0);
+        assertThat(member.getAdditionalFields()).containsEntry("twitter", "@asha").containsEntry("term", Map.of("from", 2024));
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(member)))
+                .isEqualTo(objectMapper.readTree("{\"name\":\"Asha\",\"twitter\":\"@asha\",\"term\":{\"from\":2024}}"));
+
+        when(societyRepository.appendSlateMember(eq(1L), anyString())).thenReturn(1);
+        assertThat(slateMemberService.addSocietySlateMember(1L, member)).isTrue();
+        verify(societyRepository).appendSlateMember(eq(1L), eq(objectMapper.writeValueAsString(member)));
+        verify(collectionVersionService).markChanged(ContentCollection.SOCIETIES);
+    }
+
+    @Test
+    void refusesNegativeIndexesWithoutTouchingTheDocument() {
+        SlateMemberDTO member = new SlateMemberDTO();
+        member.setName("Asha");
+
+        assertThat(slateMemberService.updateSocietySlateMember(1L, -1, member)).isFalse();
+        assertThat(slateMemberService.removeSocietySlateMember(1L, -1)).isFalse();
+        assertThat(slateMemberService.updateCouncilSlateMember(1L, -1, member)).isFalse();
+        assertThat(slateMemberService.removeCouncilSlateMember(1L, -1)).isFalse();
+
+        verifyNoInteractions(societyRepository, councilRepository, collectionVersionService);
+    }
+
+    @Test
+    void reportsIndexesPastTheEndAsNotFound() {
+        SlateMemberDTO member = new SlateMemberDTO();
+        member.setName("Asha");
+        // The JSON_LENGTH guard in the UPDATE matches no row
+        when(societyRepository.replaceSlateMember(anyLong(), anyInt(), anyString())).thenReturn(0);
+        when(councilRepository.removeSlateMember(anyLong(), anyInt())).thenReturn(0);
+
+        assertThat(slateMemberService.updateSocietySlateMember(1L, 5, member)).isFalse();
+        assertThat(slateMemberService.removeCouncilSlateMember(1L, 5)).isFalse();
+        verifyNoInteractions(collectionVersionService);
+
+        when(councilRepository.removeSlateMember(1L, 0)).thenReturn(1);
+        assertThat(slateMemberService.removeCouncilSlateMember(1L, 0)).isTrue();
+        verify(collectionVersionService).markChanged(ContentCollection.COUNCILS);
+    }
+
+    @Test
+    void servesSlateMembersThroughTheController() {
+        stored(1L, "[" + CHAIR + "]", 1L);
+        when(societyRepository.findVersionById(2L)).thenReturn(Optional.empty());
+        SocietyController controller = new SocietyController(mock(SocietyService.class), slateMemberService);
+
+        ResponseEntity<List<SlateMemberDTO>> found = controller.getSocietySlateMembers(1L);
+        assertThat(found.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(found.getBody()).extracting(SlateMemberDTO::getPosition).containsExactly("Chair");
+        assertThat(controller.getSocietySlateMembers(2L).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private void stored(Long societyId, String json, Long version) {
+        when(societyRepository.findVersionById(societyId)).thenReturn(Optional.of(version));
+        when(societyRepository.findSlateMembersById(societyId)).thenReturn(List.<Object[]>of(new Object[]{json, version}));
+    }
+
+    private static List<String> names(Optional<List<SlateMemberDTO>> members) {
+        return members.orElseThrow().stream().map(SlateMemberDTO::getName).toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import com.example.demo.controller.CouncilController;
+import com.example.demo.controller.SocietyController;
+import com.example.demo.dto.CouncilDTO;
+import com.example.demo.dto.SocietyDTO;
+import com.example.demo.model.Council;
+import com.example.demo.model.Society;
+import com.example.demo.repository.CouncilRepository;
+import com.example.demo.repository.SocietyRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@code GET /api/societies} and {@code /api/councils} without {@code includeJson} leave the JSON
+ * columns out of the SQL as well as out of the DTOs.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.demo.service.SummaryProjectionTest$CapturingStatementInspector"
+})
+@Import({SocietyService.class, CouncilService.class, FieldSelectionService.class})
+class SummaryProjectionTest {
+
+    private static final String MEMBERS = "[{\"name\":\"Asha\",\"position\":\"Chair\"}]";
+
+    @Autowired
+    private SocietyService societyService;
+
+    @Autowired
+    private CouncilService councilService;
+
+    @Autowired
+    private SocietyRepository societyRepository;
+
+    @Autowired
+    private CouncilRepository councilRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        Society society = new Society();
+        society.setName("Computer Society");
+        society.setDescription("Computing");
+        society.setIsActive(true);
+        society.setMemberCount(1);
+        society.setEstablishedYear(1990);
+        society.setSlateMembers(MEMBERS);
+        society.setEvents("[]");
+        society.setAchievements("[]");
+        societyRepository.save(society);
+
+        Council council = new Council();
+        council.setName("Women in Engineering");
+        council.setChairPerson("Asha");
+        council.setIsActive(true);
+        council.setWebsiteUrl("https://wie.example.org");
+        council.setSlateMembers(MEMBERS);
+        councilRepository.save(council);
+
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void societySummariesSkipTheJsonColumns() {
+        SocietyController controller = new SocietyController(societyService, mock(SlateMemberService.class));
+
+        SocietyDTO summary = single(controller.getAllSocieties(false, null), SocietyDTO.class);
+        assertThat(summary.getName()).isEqualTo("Computer Society");
+        assertThat(summary.getDescription()).isEqualTo("Computing");
+        assertThat(summary.getMemberCount()).isEqualTo(1);
+        assertThat(summary.getEstablishedYear()).isEqualTo(1990);
+        assertThat(summary.getSlateMembers()).isNull();
+        assertThat(summary.getEvents()).isNull();
+        assertThat(summary.getAchievements()).isNull();
+        assertThat(capturedSelects()).singleElement().asString()
+                .doesNotContain("slate_members").doesNotContain("events").doesNotContain("achievements");
+
+        assertThat(single(controller.getActiveSocieties(false, null), SocietyDTO.class).getSlateMembers()).isNull();
+        assertThat(capturedSelects()).singleElement().asString().doesNotContain("slate_members");
+
+        assertThat(single(controller.getAllSocieties(true, null), SocietyDTO.class).getSlateMembers()).isNotNull();
+        assertThat(capturedSelects()).singleElement().asString().contains("slate_members");
+    }
+
+    @Test
+    void councilSummariesSkipTheJsonColumns() {
+        CouncilController controller = new CouncilController(councilService, mock(SlateMemberService.class));
+
+        CouncilDTO summary = single(controller.getAllCouncils(false, null), CouncilDTO.class);
+        assertThat(summary.getName()).isEqualTo("Women in Engineering");
+        assertThat(summary.getChairPerson()).isEqualTo("Asha");
+        assertThat(summary.getWebsiteUrl()).isEqualTo("https://wie.example.org");
+        assertThat(summary.getSlateMembers()).isNull();
+        assertThat(capturedSelects()).singleElement().asString().doesNotContain("slate_members");
+
+        assertThat(single(controller.getActiveCouncils(false, null), CouncilDTO.class).getSlateMembers()).isNull();
+        assertThat(capturedSelects()).singleElement().asString().doesNotContain("slate_members");
+
+        assertThat(single(controller.getAllCouncils(true, null), CouncilDTO.class).getSlateMembers()).isNotNull();
+        assertThat(capturedSelects()).singleElement().asString().contains("slate_members");
+    }
+
+    private static <T> T single(ResponseEntity<?> response, Class<T> type) {
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<?> body = (List<?>) response.getBody();
+        assertThat(body).hasSize(1);
+        return type.cast(body.get(0));
+    }
+
+    private static List<String> capturedSelects() {
+        List<String> statements = new ArrayList<>();
+        String sql;
+        while ((sql = CapturingStatementInspector.STATEMENTS.poll()) != null) {
+            statements.add(sql.toLowerCase().replace("\"", ""));
+        }
+        return statements;
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.stripLeading().toLowerCase().startsWith("select")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
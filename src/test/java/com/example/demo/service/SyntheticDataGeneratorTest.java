@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import({SyntheticDataGenerator.class, IdGeneratorSeeder.class, BCryptPasswordEncoder.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.DatasetSize SIZE =
+            new SyntheticDataGenerator.DatasetSize(400, 30, 10, 60, 120, 3000, 900, 500, 80);
+    private static final LocalDateTime REFERENCE = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private static final List<String> TABLES = List.of("event_registrations", "gallery_items", "notifications",
+            "achievements", "past_events", "upcoming_events", "users", "councils", "societies");
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        TABLES.forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+    }
+
+    @Test
+    void generatesRequestedRowsWithConsistentForeignKeys() {
+        Map<String, Integer> created = syntheticDataGenerator.generate(SIZE,
+                new SyntheticDataGenerator.GenerationOptions(42, REFERENCE, 4, 250));
+
+        assertThat(created).containsEntry("users", 400).containsEntry("event_registrations", 3000);
+        assertThat(count("SELECT COUNT(*) FROM event_registrations")).isEqualTo(3000);
+        assertThat(count("SELECT COUNT(*) FROM gallery_items")).isEqualTo(900);
+        assertThat(count("SELECT COUNT(*) FROM event_registrations r LEFT JOIN users u ON u.id = r.user_id "
+                + "LEFT JOIN upcoming_events e ON e.id = r.event_id WHERE u.id IS NULL OR e.id IS NULL")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM gallery_items WHERE society_id IS NULL AND council_id IS NULL")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM upcoming_events WHERE event_date <= ?", REFERENCE)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM past_events WHERE event_date >= ?", REFERENCE)).isZero();
+        // One registration per user and event, as findByUserIdAndEventId assumes
+        assertThat(count("SELECT COUNT(*) FROM (SELECT user_id, event_id FROM event_registrations "
+                + "GROUP BY user_id, event_id HAVING COUNT(*) > 1) d")).isZero();
+        // Registrations are skewed towards a few popular events
+        int busiest = count("SELECT MAX(c) FROM (SELECT COUNT(*) c FROM event_registrations GROUP BY event_id) x");
+        assertThat(busiest).isGreaterThan(3 * 3000 / 60);
+    }
+
+    @Test
+    void sameSeedProducesSameRowsWhateverTheParallelism() {
+        syntheticDataGenerator.generate(SIZE, new SyntheticDataGenerator.GenerationOptions(7, REFERENCE, 1, 1000));
+        List<Map<String, Object>> first = fingerprint();
+
+        clearTables();
+        syntheticDataGenerator.generate(SIZE, new SyntheticDataGenerator.GenerationOptions(7, REFERENCE, 6, 1000));
+
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    @Test
+    void capsRegistrationsAtTheDistinctUserEventPairs() {
+        SyntheticDataGenerator.DatasetSize crowded =
+                new SyntheticDataGenerator.DatasetSize(20, 3, 2, 5, 4, 500, 0, 0, 0);
+        Map<String, Integer> created = syntheticDataGenerator.generate(crowded,
+                new SyntheticDataGenerator.GenerationOptions(3, REFERENCE, 3, 16));
+
+        assertThat(created).containsEntry("event_registrations", 100);
+        assertThat(count("SELECT COUNT(DISTINCT user_id * 1000 + event_id) FROM event_registrations")).isEqualTo(100);
+    }
+
+    @Test
+    void newEntitiesGetIdsAfterTheGeneratedRows() {
+        syntheticDataGenerator.generate(SIZE, new SyntheticDataGenerator.GenerationOptions(1, REFERENCE, 2, 500));
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        Long nextId = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'users'", Long.class);
+        assertThat(nextId).isGreaterThan(maxId);
+    }
+
+    private List<Map<String, Object>> fingerprint() {
+        return jdbcTemplate.queryForList("SELECT (SELECT SUM(user_id * 31 + event_id) FROM event_registrations) r, "
+                + "(SELECT COUNT(DISTINCT email) FROM users) u, "
+                + "(SELECT SUM(COALESCE(past_event_id, 0)) FROM gallery_items) g, "
+                + "(SELECT SUM(feedback_rating) FROM past_events) p, "
+                + "(SELECT MAX(title) FROM notifications) n");
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+}